@@ -16,6 +16,7 @@
 package io.netty5.buffer;
 
 import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.buffer.pool.AdaptiveBufferAllocator;
 import io.netty5.buffer.pool.PooledBufferAllocator;
 import io.netty5.util.SafeCloseable;
 import io.netty5.util.Send;
@@ -97,6 +98,34 @@ public interface BufferAllocator extends SafeCloseable {
         return new PooledBufferAllocator(MemoryManager.instance(), true);
     }
 
+    /**
+     * Produces a pooling {@link BufferAllocator} that allocates and recycles on-heap buffers from per-thread
+     * magazines, which adapt to the sizes that are allocated. See {@link AdaptiveBufferAllocator} for details.
+     * <p>
+     * The concrete {@link Buffer} implementation is chosen by {@link MemoryManager#instance()}.
+     * <p>
+     * <strong>Note:</strong> This method always creates a new allocator instance.
+     *
+     * @return An adaptive pooling allocator of on-heap buffers
+     */
+    static BufferAllocator onHeapAdaptive() {
+        return new AdaptiveBufferAllocator(MemoryManager.instance(), false);
+    }
+
+    /**
+     * Produces a pooling {@link BufferAllocator} that allocates and recycles off-heap buffers from per-thread
+     * magazines, which adapt to the sizes that are allocated. See {@link AdaptiveBufferAllocator} for details.
+     * <p>
+     * The concrete {@link Buffer} implementation is chosen by {@link MemoryManager#instance()}.
+     * <p>
+     * <strong>Note:</strong> This method always creates a new allocator instance.
+     *
+     * @return An adaptive pooling allocator of off-heap buffers
+     */
+    static BufferAllocator offHeapAdaptive() {
+        return new AdaptiveBufferAllocator(MemoryManager.instance(), true);
+    }
+
     /**
      * Determine if this allocator is pooling and reusing its allocated memory.
      *
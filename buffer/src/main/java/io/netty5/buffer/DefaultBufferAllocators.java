@@ -14,6 +14,8 @@
  */
 package io.netty5.buffer;
 
+import io.netty5.buffer.pool.PoolChunkListener;
+import io.netty5.buffer.pool.PoolChunkListenerRegistry;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.SystemPropertyUtil;
 import org.slf4j.Logger;
@@ -100,7 +102,7 @@ public final class DefaultBufferAllocators {
         return DEFAULT_OFF_HEAP_ALLOCATOR;
     }
 
-    private static final class UncloseableBufferAllocator implements BufferAllocator {
+    private static final class UncloseableBufferAllocator implements BufferAllocator, PoolChunkListenerRegistry {
         private final BufferAllocator delegate;
 
         UncloseableBufferAllocator(BufferAllocator delegate) {
@@ -127,6 +129,21 @@ public final class DefaultBufferAllocators {
             return delegate.constBufferSupplier(bytes);
         }
 
+        @Override
+        public void addChunkListener(PoolChunkListener listener) {
+            // Unpooled allocators have no chunks to report.
+            if (delegate instanceof PoolChunkListenerRegistry) {
+                ((PoolChunkListenerRegistry) delegate).addChunkListener(listener);
+            }
+        }
+
+        @Override
+        public void removeChunkListener(PoolChunkListener listener) {
+            if (delegate instanceof PoolChunkListenerRegistry) {
+                ((PoolChunkListenerRegistry) delegate).removeChunkListener(listener);
+            }
+        }
+
         /**
          * @throws UnsupportedOperationException Close is not supported on this allocator.
          */
@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import io.netty5.buffer.AllocationType;
+import io.netty5.buffer.AllocatorControl;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.Drop;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.StandardAllocationTypes;
+import io.netty5.buffer.internal.ArcDrop;
+import io.netty5.buffer.internal.CleanerDrop;
+import io.netty5.buffer.internal.DropCaptor;
+import io.netty5.buffer.internal.InternalBufferUtils;
+import io.netty5.util.concurrent.FastThreadLocal;
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.SystemPropertyUtil;
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static io.netty5.buffer.internal.InternalBufferUtils.allocatorClosedException;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A pooling {@link BufferAllocator} that serves allocations from per-thread magazines, instead of the shared arenas
+ * of the {@link PooledBufferAllocator}.
+ * <p>
+ * Every thread that allocates gets its own magazine, which keeps a free-list of segments for every power-of-two size
+ * class from {@value #MIN_SEGMENT_SIZE} bytes up to {@value #MAX_SEGMENT_SIZE} bytes. Segments are carved out of
+ * chunks, and a chunk is released once all of its segments are released. Larger allocations are not pooled.
+ * <ul>
+ *     <li>Allocating and freeing on the thread that owns the magazine needs no locks or atomic operations, apart from
+ *     the reference counting of the buffers themselves.</li>
+ *     <li>Buffers that are closed by other threads are handed back to the magazine they were allocated from via a
+ *     lock-free MPSC queue, which the owner drains when it runs out of segments.</li>
+ *     <li>Every magazine keeps a histogram of the sizes it allocated, and periodically adapts how many segments it
+ *     carves out of a chunk, and how many free segments it retains, for every size class. Size classes that are no
+ *     longer used shrink back to a minimum, so their memory is released.</li>
+ * </ul>
+ * This works best for workloads where the same threads allocate many short-lived small and medium sized buffers, like
+ * the event loops of a server.
+ * <p>
+ * The magazine of a {@link io.netty5.util.concurrent.FastThreadLocalThread} is released when the thread terminates.
+ * The magazines of other threads are only released once they are garbage collected, or when the thread closes a buffer
+ * after the allocator was closed.
+ */
+@UnstableApi
+public final class AdaptiveBufferAllocator implements BufferAllocator {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveBufferAllocator.class);
+
+    static final int MIN_SEGMENT_SIZE = 16;
+    static final int MAX_SEGMENT_SIZE = 64 * 1024;
+    private static final int MIN_SEGMENT_SHIFT = Integer.numberOfTrailingZeros(MIN_SEGMENT_SIZE);
+    static final int SIZE_CLASSES = Integer.numberOfTrailingZeros(MAX_SEGMENT_SIZE) - MIN_SEGMENT_SHIFT + 1;
+
+    private static final AllocatorControl CHUNK_CONTROL = () -> {
+        throw new AssertionError("Chunk base allocations should never need to access their allocator.");
+    };
+
+    // The number of allocations after which a magazine adapts its size classes to the allocations it has seen.
+    static final int ADAPT_INTERVAL;
+    // The maximum number of bytes of a chunk, and of the free segments of a single size class in a magazine.
+    private static final int MAX_CHUNK_SIZE;
+
+    static {
+        ADAPT_INTERVAL = Math.max(SIZE_CLASSES, SystemPropertyUtil.getInt(
+                "io.netty5.allocator.adaptive.adaptInterval", 1024));
+        MAX_CHUNK_SIZE = Math.max(MAX_SEGMENT_SIZE, SystemPropertyUtil.getInt(
+                "io.netty5.allocator.adaptive.maxChunkSize", 256 * 1024));
+        if (logger.isDebugEnabled()) {
+            logger.debug("-Dio.netty5.allocator.adaptive.adaptInterval: {}", ADAPT_INTERVAL);
+            logger.debug("-Dio.netty5.allocator.adaptive.maxChunkSize: {}", MAX_CHUNK_SIZE);
+        }
+    }
+
+    private final MemoryManager manager;
+    private final AllocationType allocationType;
+    private final AllocatorControl control = () -> this;
+    private final FastThreadLocal<Magazine> magazines = new FastThreadLocal<>() {
+        @Override
+        protected Magazine initialValue() {
+            return new Magazine(AdaptiveBufferAllocator.this, Thread.currentThread());
+        }
+
+        @Override
+        protected void onRemoval(Magazine magazine) {
+            magazine.release();
+        }
+    };
+    private final LongAdder usedMemory = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Create a new instance.
+     *
+     * @param manager   the {@link MemoryManager} to allocate the memory with.
+     * @param direct    {@code true} to allocate off-heap memory, {@code false} for on-heap memory.
+     */
+    public AdaptiveBufferAllocator(MemoryManager manager, boolean direct) {
+        this.manager = requireNonNull(manager, "manager");
+        allocationType = direct ? StandardAllocationTypes.OFF_HEAP : StandardAllocationTypes.ON_HEAP;
+    }
+
+    @Override
+    public boolean isPooling() {
+        return true;
+    }
+
+    @Override
+    public AllocationType getAllocationType() {
+        return allocationType;
+    }
+
+    @Override
+    public Buffer allocate(int size) {
+        if (closed) {
+            throw allocatorClosedException();
+        }
+        InternalBufferUtils.assertValidBufferSize(size);
+        if (size > MAX_SEGMENT_SIZE) {
+            return manager.allocateShared(control, size, InternalBufferUtils.standardDrop(manager), allocationType);
+        }
+        Segment segment = magazines.get().allocate(sizeClass(size));
+        Object memory = manager.sliceMemory(segment.chunk.memory, segment.offset, size);
+        Drop<Buffer> drop = CleanerDrop.wrap(ArcDrop.wrap(new SegmentDrop(segment)), manager);
+        Buffer buffer = manager.recoverMemory(control, memory, drop);
+        drop.attach(buffer);
+        return buffer;
+    }
+
+    @Override
+    public Supplier<Buffer> constBufferSupplier(byte[] bytes) {
+        if (closed) {
+            throw allocatorClosedException();
+        }
+        Buffer constantBuffer = manager.allocateShared(
+                control, bytes.length, drop -> CleanerDrop.wrapWithoutLeakDetection(drop, manager), allocationType);
+        constantBuffer.writeBytes(bytes).makeReadOnly();
+        return () -> manager.allocateConstChild(constantBuffer);
+    }
+
+    /**
+     * Returns the number of bytes of the chunks that are currently allocated by this allocator, which includes the
+     * free segments that are retained by the magazines.
+     */
+    public long usedMemory() {
+        return usedMemory.sum();
+    }
+
+    /**
+     * Closes this allocator. Buffers that are still in use stay usable, and their segments are released when they are
+     * closed. The magazine of the current thread is released right away. The magazines of other threads are released
+     * the next time their thread closes a buffer of this allocator, when the thread terminates, or when they are
+     * garbage collected.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        magazines.remove();
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveBufferAllocator(" + allocationType + ", usedMemory: " + usedMemory() + ')';
+    }
+
+    static int sizeClass(int size) {
+        if (size <= MIN_SEGMENT_SIZE) {
+            return 0;
+        }
+        return Integer.SIZE - Integer.numberOfLeadingZeros(size - 1) - MIN_SEGMENT_SHIFT;
+    }
+
+    static int segmentSize(int sizeClass) {
+        return MIN_SEGMENT_SIZE << sizeClass;
+    }
+
+    private static final class Chunk {
+        private final Buffer base;
+        private final Drop<Buffer> baseDrop;
+        private final Object memory;
+        private final int sizeClass;
+
+        Chunk(AdaptiveBufferAllocator allocator, int sizeClass, int size) {
+            MemoryManager manager = allocator.manager;
+            this.sizeClass = sizeClass;
+            // Like the PoolChunk, the CleanerDrop needs to be inside the ArcDrop, which counts the segments that were
+            // carved out of this chunk and not released yet.
+            DropCaptor<Buffer> dropCaptor = new DropCaptor<>();
+            base = manager.allocateShared(CHUNK_CONTROL, size, drop -> dropCaptor.capture(ArcDrop.wrap(
+                    new ChunkDrop(allocator, CleanerDrop.wrap(drop, manager), size))), allocator.allocationType);
+            baseDrop = dropCaptor.getDrop();
+            memory = manager.unwrapRecoverableMemory(base);
+            baseDrop.attach(base);
+            allocator.usedMemory.add(size);
+        }
+
+        Segment carve(Magazine owner, int offset) {
+            baseDrop.fork();
+            return new Segment(this, owner, offset);
+        }
+
+        void release() {
+            baseDrop.drop(base);
+        }
+    }
+
+    // Keeps track of the memory that is used by the chunks.
+    private static final class ChunkDrop implements Drop<Buffer> {
+        private final AdaptiveBufferAllocator allocator;
+        private final Drop<Buffer> delegate;
+        private final int size;
+
+        ChunkDrop(AdaptiveBufferAllocator allocator, Drop<Buffer> delegate, int size) {
+            this.allocator = allocator;
+            this.delegate = delegate;
+            this.size = size;
+        }
+
+        @Override
+        public void drop(Buffer obj) {
+            allocator.usedMemory.add(-size);
+            delegate.drop(obj);
+        }
+
+        @Override
+        public Drop<Buffer> fork() {
+            throw new IllegalStateException(this + " cannot fork. Must be guarded by an ArcDrop.");
+        }
+
+        @Override
+        public void attach(Buffer obj) {
+            delegate.attach(obj);
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkDrop(" + size + ", " + delegate + ')';
+        }
+    }
+
+    private static final class Segment {
+        final Chunk chunk;
+        final Magazine owner;
+        final int offset;
+
+        Segment(Chunk chunk, Magazine owner, int offset) {
+            this.chunk = chunk;
+            this.owner = owner;
+            this.offset = offset;
+        }
+
+        void release() {
+            chunk.release();
+        }
+    }
+
+    private static final class SegmentDrop implements Drop<Buffer> {
+        private final Segment segment;
+
+        SegmentDrop(Segment segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public void drop(Buffer obj) {
+            segment.owner.free(segment);
+        }
+
+        @Override
+        public Drop<Buffer> fork() {
+            throw new IllegalStateException(this + " cannot fork. Must be guarded by an ArcDrop.");
+        }
+
+        @Override
+        public void attach(Buffer obj) {
+        }
+
+        @Override
+        public String toString() {
+            return "SegmentDrop@" + Integer.toHexString(System.identityHashCode(this)) +
+                   '(' + segmentSize(segment.chunk.sizeClass) + ')';
+        }
+    }
+
+    private static final class Magazine {
+        private static final int MIN_CACHED_SEGMENTS = 2;
+
+        private final AdaptiveBufferAllocator allocator;
+        private final Thread thread;
+        private final Queue<Segment> remoteFrees = PlatformDependent.newMpscQueue();
+        // Whoever sets this to true owns the consumer side of remoteFrees once the magazine was released.
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final ArrayDeque<Segment>[] freeSegments;
+        private final int[] histogram = new int[SIZE_CLASSES];
+        private final int[] segmentsPerChunk = new int[SIZE_CLASSES];
+        private final int[] maxCachedSegments = new int[SIZE_CLASSES];
+        private int allocations;
+        private volatile boolean released;
+
+        @SuppressWarnings("unchecked")
+        Magazine(AdaptiveBufferAllocator allocator, Thread thread) {
+            this.allocator = allocator;
+            this.thread = thread;
+            freeSegments = new ArrayDeque[SIZE_CLASSES];
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                freeSegments[i] = new ArrayDeque<>();
+                segmentsPerChunk[i] = 1;
+                maxCachedSegments[i] = MIN_CACHED_SEGMENTS;
+            }
+        }
+
+        Segment allocate(int sizeClass) {
+            histogram[sizeClass]++;
+            if (++allocations == ADAPT_INTERVAL) {
+                adapt();
+            }
+            Segment segment = freeSegments[sizeClass].pollLast();
+            if (segment == null) {
+                drainRemoteFrees();
+                segment = freeSegments[sizeClass].pollLast();
+                if (segment == null) {
+                    segment = refill(sizeClass);
+                }
+            }
+            return segment;
+        }
+
+        private Segment refill(int sizeClass) {
+            int segmentSize = segmentSize(sizeClass);
+            int segments = segmentsPerChunk[sizeClass];
+            Chunk chunk = new Chunk(allocator, sizeClass, segmentSize * segments);
+            ArrayDeque<Segment> free = freeSegments[sizeClass];
+            for (int i = 1; i < segments; i++) {
+                free.addLast(chunk.carve(this, i * segmentSize));
+            }
+            Segment segment = chunk.carve(this, 0);
+            // The segments hold the chunk now.
+            chunk.release();
+            return segment;
+        }
+
+        void free(Segment segment) {
+            if (Thread.currentThread() == thread) {
+                freeLocal(segment);
+                return;
+            }
+            if (allocator.closed) {
+                // The owner does not allocate anymore, so it might not drain the queue.
+                segment.release();
+                return;
+            }
+            remoteFrees.offer(segment);
+            if (released) {
+                // The owner might not drain the queue anymore.
+                drainReleased();
+            }
+        }
+
+        private void freeLocal(Segment segment) {
+            if (allocator.closed && !released) {
+                // Nothing can be allocated from the free segments anymore.
+                release();
+            }
+            int sizeClass = segment.chunk.sizeClass;
+            ArrayDeque<Segment> free = freeSegments[sizeClass];
+            if (released || allocator.closed || free.size() >= maxCachedSegments[sizeClass]) {
+                segment.release();
+            } else {
+                free.addLast(segment);
+            }
+        }
+
+        private void drainRemoteFrees() {
+            Segment segment;
+            // Once released, drainReleased() owns the consumer side of the queue.
+            while (!released && (segment = remoteFrees.poll()) != null) {
+                freeLocal(segment);
+            }
+        }
+
+        private void drainReleased() {
+            do {
+                if (!draining.compareAndSet(false, true)) {
+                    return;
+                }
+                Segment segment;
+                while ((segment = remoteFrees.poll()) != null) {
+                    segment.release();
+                }
+                draining.set(false);
+            } while (!remoteFrees.isEmpty());
+        }
+
+        // Adapts the number of segments per chunk, and the number of retained free segments, of every size class to
+        // the number of allocations of the last interval.
+        private void adapt() {
+            allocations = 0;
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                int count = histogram[i];
+                histogram[i] = 0;
+                int maxSegments = Math.max(1, MAX_CHUNK_SIZE / segmentSize(i));
+                // A chunk serves about an eighth of an interval, and a quarter of an interval is retained, so a
+                // steady workload mostly reuses segments and only rarely needs a new chunk.
+                segmentsPerChunk[i] = Math.min(maxSegments, Math.max(1, count >>> 3));
+                maxCachedSegments[i] = Math.min(maxSegments, Math.max(MIN_CACHED_SEGMENTS, count >>> 2));
+                ArrayDeque<Segment> free = freeSegments[i];
+                while (free.size() > maxCachedSegments[i]) {
+                    free.pollFirst().release();
+                }
+            }
+        }
+
+        void release() {
+            released = true;
+            for (ArrayDeque<Segment> free : freeSegments) {
+                Segment segment;
+                while ((segment = free.pollFirst()) != null) {
+                    segment.release();
+                }
+            }
+            drainReleased();
+        }
+    }
+}
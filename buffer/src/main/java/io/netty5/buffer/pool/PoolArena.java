@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import static io.netty5.buffer.pool.PoolChunk.isSubpage;
 import static java.lang.Math.max;
@@ -210,6 +211,7 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
 
         // Add a new chunk.
         PoolChunk c = newChunk(pageSize, nPSizes, pageShifts, chunkSize);
+        parent.chunkAllocated(c);
         memory = c.allocate(size, sizeIdx, threadCache);
         assert memory != null;
         qInit.add(c);
@@ -251,6 +253,9 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
                 throw new AssertionError("Unexpected size class: " + sizeClass);
             }
             destroyChunk = !chunk.parent.free(chunk, handle, normCapacity);
+            if (!destroyChunk && chunk.freeBytes == chunk.chunkSize()) {
+                chunk.idleSince = System.nanoTime();
+            }
         } finally {
             unlock();
         }
@@ -260,6 +265,26 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         }
     }
 
+    /**
+     * Destroys the chunks that have been completely free since at least the given {@link System#nanoTime()}.
+     *
+     * @return the number of destroyed chunks.
+     */
+    int releaseIdleChunks(long idleSince) {
+        List<PoolChunk> idleChunks = new ArrayList<>();
+        lock();
+        try {
+            // Only qInit retains completely free chunks, all other lists destroy their chunks once they become free.
+            qInit.removeIdleChunks(idleSince, idleChunks);
+        } finally {
+            unlock();
+        }
+        for (PoolChunk chunk : idleChunks) {
+            chunk.destroy();
+        }
+        return idleChunks.size();
+    }
+
     PoolSubpage findSubpagePoolHead(int sizeIdx) {
         PoolSubpage head = (PoolSubpage) SUBPAGE_ARRAY.getVolatile(smallSubpagePools, sizeIdx);
         if (head == null) {
@@ -450,6 +475,33 @@ class PoolArena extends SizeClasses implements PoolArenaMetric {
         return max(0, val);
     }
 
+    @Override
+    public long numIdleBytes() {
+        long val = 0;
+        lock();
+        try {
+            for (PoolChunkMetric m : qInit) {
+                if (m.freeBytes() == m.chunkSize()) {
+                    val += m.chunkSize();
+                }
+            }
+        } finally {
+            unlock();
+        }
+        return val;
+    }
+
+    void forEachChunk(Consumer<PoolChunk> consumer) {
+        lock();
+        try {
+            for (PoolChunkList list : new PoolChunkList[] {qInit, q000, q025, q050, q075, q100}) {
+                list.forEachChunk(consumer);
+            }
+        } finally {
+            unlock();
+        }
+    }
+
     protected final PoolChunk newChunk(int pageSize, int maxPageIdx, int pageShifts, int chunkSize) {
         return new PoolChunk(this, pageSize, pageShifts, chunkSize, maxPageIdx);
     }
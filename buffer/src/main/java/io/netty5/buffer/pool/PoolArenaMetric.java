@@ -116,4 +116,11 @@ public interface PoolArenaMetric extends SizeClassesMetric {
      * Return the number of bytes that are currently pinned to buffer instances, by the arena.
      */
     long numPinnedBytes();
+
+    /**
+     * Return the number of bytes of the chunks of the arena that are completely free, and so could be released by
+     * {@link PooledBufferAllocator#releaseIdleChunks(long, java.util.concurrent.TimeUnit)}. These bytes are included
+     * in {@link #numActiveBytes()}.
+     */
+    long numIdleBytes();
 }
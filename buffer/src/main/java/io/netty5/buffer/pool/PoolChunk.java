@@ -158,6 +158,7 @@ final class PoolChunk implements PoolChunkMetric {
     final Buffer base; // The buffer that is the source of the memory. Closing it will free the memory.
     final Object memory;
     final Drop<Buffer> baseDrop; // An ArcDrop that manages references to the base Buffer.
+    final long memoryAddress; // The native address of the memory, or 0 if it has none.
 
     /**
      * store the first page and last page of each avail run
@@ -182,6 +183,8 @@ final class PoolChunk implements PoolChunkMetric {
 
     int freeBytes;
     int pinnedBytes;
+    // The System.nanoTime() at which this chunk last became completely free, guarded by the arena lock.
+    long idleSince;
 
     PoolChunkList parent;
     PoolChunk prev;
@@ -198,6 +201,10 @@ final class PoolChunk implements PoolChunkMetric {
         baseDrop = dropCaptor.getDrop();
         memory = manager.unwrapRecoverableMemory(base);
         baseDrop.attach(base);
+        try (var itr = base.forEachComponent()) {
+            var cmp = itr.firstWritable();
+            memoryAddress = cmp == null ? 0 : cmp.writableNativeAddress();
+        }
         this.pageSize = pageSize;
         this.pageShifts = pageShifts;
         this.chunkSize = chunkSize;
@@ -662,6 +669,7 @@ final class PoolChunk implements PoolChunkMetric {
     }
 
     void destroy() {
+        arena.parent.chunkReleased(this);
         baseDrop.drop(base); // Decrement reference count from the chunk (allocated buffers may keep the base alive)
     }
 
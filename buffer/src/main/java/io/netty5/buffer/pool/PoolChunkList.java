@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.lang.Math.max;
 import static java.lang.Math.min;
@@ -244,6 +245,29 @@ final class PoolChunkList implements PoolChunkListMetric {
         return buf.toString();
     }
 
+    void forEachChunk(Consumer<PoolChunk> consumer) {
+        for (PoolChunk cur = head; cur != null; cur = cur.next) {
+            consumer.accept(cur);
+        }
+    }
+
+    /**
+     * Removes the {@link PoolChunk}s that have been completely free since at least the given {@link System#nanoTime()},
+     * and adds them to the given {@link List}, so they can be destroyed after the arena lock was released.
+     */
+    void removeIdleChunks(long idleSince, List<PoolChunk> idleChunks) {
+        for (PoolChunk cur = head; cur != null;) {
+            PoolChunk next = cur.next;
+            if (cur.freeBytes == cur.chunkSize() && cur.idleSince - idleSince <= 0) {
+                remove(cur);
+                cur.prev = null;
+                cur.next = null;
+                idleChunks.add(cur);
+            }
+            cur = next;
+        }
+    }
+
     void destroy() {
         PoolChunk chunk = head;
         while (chunk != null) {
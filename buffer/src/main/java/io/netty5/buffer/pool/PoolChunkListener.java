@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+/**
+ * Notified when a pooling allocator allocates or frees the native memory of one of its chunks.
+ * <p>
+ * This allows transports to register the memory regions that pooled buffers are carved from with the kernel up-front,
+ * for example as io_uring fixed buffers. Only chunks with a native address are reported; huge allocations that are
+ * not pooled in chunks are not.
+ * <p>
+ * Methods may be called from any thread that allocates or releases buffers, and should be quick. A listener may be
+ * told about a chunk more than once, and may be told about the release of a chunk it was never told about.
+ */
+public interface PoolChunkListener {
+
+    /**
+     * Called when a new chunk of memory was allocated.
+     *
+     * @param memoryAddress the native address of the chunk.
+     * @param size the size of the chunk in bytes.
+     */
+    void chunkAllocated(long memoryAddress, int size);
+
+    /**
+     * Called when a chunk is about to be released. No buffers are using the memory of the chunk at this point, and
+     * the listener must stop using the memory region before it returns.
+     *
+     * @param memoryAddress the native address of the chunk.
+     * @param size the size of the chunk in bytes.
+     */
+    void chunkReleased(long memoryAddress, int size);
+}
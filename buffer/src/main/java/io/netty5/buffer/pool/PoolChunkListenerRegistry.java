@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.pool;
+
+import io.netty5.buffer.BufferAllocator;
+
+/**
+ * Implemented by {@link BufferAllocator}s that can report the chunks of memory they pool buffers from.
+ */
+public interface PoolChunkListenerRegistry {
+
+    /**
+     * Add a {@link PoolChunkListener}. The listener is told about all chunks that already exist before this method
+     * returns.
+     */
+    void addChunkListener(PoolChunkListener listener);
+
+    /**
+     * Remove a previously added {@link PoolChunkListener}.
+     */
+    void removeChunkListener(PoolChunkListener listener);
+}
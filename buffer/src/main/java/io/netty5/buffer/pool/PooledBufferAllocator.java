@@ -25,6 +25,7 @@ import io.netty5.buffer.StandardAllocationTypes;
 import io.netty5.buffer.internal.CleanerDrop;
 import io.netty5.buffer.internal.InternalBufferUtils;
 import io.netty5.util.NettyRuntime;
+import io.netty5.util.NumaNodes;
 import io.netty5.util.concurrent.EventExecutor;
 import io.netty5.util.concurrent.FastThreadLocal;
 import io.netty5.util.concurrent.FastThreadLocalThread;
@@ -38,6 +39,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -45,7 +47,8 @@ import static io.netty5.buffer.internal.InternalBufferUtils.allocatorClosedExcep
 import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 import static java.util.Objects.requireNonNull;
 
-public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMetricProvider {
+public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMetricProvider,
+                                              PoolChunkListenerRegistry {
 
     private static final Logger logger = LoggerFactory.getLogger(PooledBufferAllocator.class);
     private static final int DEFAULT_NUM_HEAP_ARENA;
@@ -58,13 +61,14 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
     static final int DEFAULT_MAX_CACHED_BUFFER_CAPACITY;
     private static final int DEFAULT_CACHE_TRIM_INTERVAL;
     private static final long DEFAULT_CACHE_TRIM_INTERVAL_MILLIS;
+    private static final long DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS;
     private static final boolean DEFAULT_USE_CACHE_FOR_ALL_THREADS;
     private static final int DEFAULT_DIRECT_MEMORY_CACHE_ALIGNMENT;
 
     private static final int MIN_PAGE_SIZE = 4096;
     private static final int MAX_CHUNK_SIZE = (int) (((long) Integer.MAX_VALUE + 1) / 2);
 
-    private final Runnable trimTask = this::trimCurrentThreadCache;
+    private final Runnable trimTask = this::trim;
     private final AllocatorControl pooledAllocatorControl = () -> this;
 
     static {
@@ -134,6 +138,10 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         DEFAULT_CACHE_TRIM_INTERVAL_MILLIS = SystemPropertyUtil.getLong(
                 "io.netty5.allocator.cacheTrimIntervalMillis", 0);
 
+        // the time after which completely free chunks are released by the threads of event loops, 0 to disable
+        DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS = SystemPropertyUtil.getLong(
+                "io.netty5.allocator.chunkIdleTimeoutMillis", 0);
+
         DEFAULT_USE_CACHE_FOR_ALL_THREADS = SystemPropertyUtil.getBoolean(
                 "io.netty5.allocator.useCacheForAllThreads", false);
 
@@ -156,6 +164,7 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
             logger.debug("-Dio.netty5.allocator.maxCachedBufferCapacity: {}", DEFAULT_MAX_CACHED_BUFFER_CAPACITY);
             logger.debug("-Dio.netty5.allocator.cacheTrimInterval: {}", DEFAULT_CACHE_TRIM_INTERVAL);
             logger.debug("-Dio.netty5.allocator.cacheTrimIntervalMillis: {}", DEFAULT_CACHE_TRIM_INTERVAL_MILLIS);
+            logger.debug("-Dio.netty5.allocator.chunkIdleTimeoutMillis: {}", DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS);
             logger.debug("-Dio.netty5.allocator.useCacheForAllThreads: {}", DEFAULT_USE_CACHE_FOR_ALL_THREADS);
         }
     }
@@ -170,6 +179,7 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
     private final PoolThreadLocalCache threadCache;
     private final int chunkSize;
     private final PooledBufferAllocatorMetric metric;
+    private final List<PoolChunkListener> chunkListeners = new CopyOnWriteArrayList<>();
     private volatile boolean closed;
 
     public PooledBufferAllocator(MemoryManager manager, boolean direct) {
@@ -351,6 +361,54 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         arenaMetrics.clear();
     }
 
+    @Override
+    public void addChunkListener(PoolChunkListener listener) {
+        requireNonNull(listener, "listener");
+        // Add the listener first, so chunks allocated concurrently are reported at least once.
+        chunkListeners.add(listener);
+        PoolArena[] arenas = this.arenas;
+        if (arenas != null) {
+            for (PoolArena arena : arenas) {
+                if (arena != null) {
+                    arena.forEachChunk(chunk -> notifyChunkAllocated(listener, chunk));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeChunkListener(PoolChunkListener listener) {
+        chunkListeners.remove(listener);
+    }
+
+    void chunkAllocated(PoolChunk chunk) {
+        for (PoolChunkListener listener : chunkListeners) {
+            notifyChunkAllocated(listener, chunk);
+        }
+    }
+
+    private static void notifyChunkAllocated(PoolChunkListener listener, PoolChunk chunk) {
+        if (chunk.memoryAddress != 0) {
+            try {
+                listener.chunkAllocated(chunk.memoryAddress, chunk.chunkSize());
+            } catch (Throwable t) {
+                logger.warn("Failed to notify chunk listener {}", listener, t);
+            }
+        }
+    }
+
+    void chunkReleased(PoolChunk chunk) {
+        if (chunk.memoryAddress != 0) {
+            for (PoolChunkListener listener : chunkListeners) {
+                try {
+                    listener.chunkReleased(chunk.memoryAddress, chunk.chunkSize());
+                } catch (Throwable t) {
+                    logger.warn("Failed to notify chunk listener {}", listener, t);
+                }
+            }
+        }
+    }
+
     /**
      * Default number of heap arenas - System Property: io.netty5.allocator.numHeapArenas - default 2 * cores
      */
@@ -431,7 +489,7 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
 
         @Override
         protected synchronized PoolThreadCache initialValue() {
-            final PoolArena arena = leastUsedArena(arenas);
+            final PoolArena arena = leastUsedArena(arenas, NumaNodes.currentThreadNode(), NumaNodes.nodeCount());
 
             final Thread current = Thread.currentThread();
             final EventExecutor executor = ThreadExecutorMap.currentExecutor();
@@ -445,10 +503,13 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
                         arena, smallCacheSize, normalCacheSize,
                         DEFAULT_MAX_CACHED_BUFFER_CAPACITY, DEFAULT_CACHE_TRIM_INTERVAL);
 
-                if (DEFAULT_CACHE_TRIM_INTERVAL_MILLIS > 0) {
+                // Without an explicit trim interval, trim as often as chunks may become idle.
+                long trimIntervalMillis = DEFAULT_CACHE_TRIM_INTERVAL_MILLIS > 0 ?
+                        DEFAULT_CACHE_TRIM_INTERVAL_MILLIS : DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS;
+                if (trimIntervalMillis > 0) {
                     if (executor != null) {
-                        executor.scheduleAtFixedRate(trimTask, DEFAULT_CACHE_TRIM_INTERVAL_MILLIS,
-                                                     DEFAULT_CACHE_TRIM_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        executor.scheduleAtFixedRate(trimTask, trimIntervalMillis,
+                                                     trimIntervalMillis, TimeUnit.MILLISECONDS);
                     }
                 }
                 return cache;
@@ -463,6 +524,24 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         }
     }
 
+    /**
+     * Returns the least used arena of the given NUMA node. The arenas are assigned to the nodes in turn, so the chunks
+     * of an arena are mostly first touched, and so placed, by threads of the same node.
+     */
+    static PoolArena leastUsedArena(PoolArena[] arenas, int numaNode, int numaNodes) {
+        if (numaNode < 0 || numaNodes <= 1 || arenas == null || arenas.length < numaNodes) {
+            return leastUsedArena(arenas);
+        }
+        PoolArena minArena = arenas[numaNode % numaNodes];
+        for (int i = numaNode % numaNodes + numaNodes; i < arenas.length; i += numaNodes) {
+            PoolArena arena = arenas[i];
+            if (arena.numThreadCaches.get() < minArena.numThreadCaches.get()) {
+                minArena = arena;
+            }
+        }
+        return minArena;
+    }
+
     static PoolArena leastUsedArena(PoolArena[] arenas) {
         if (arenas == null || arenas.length == 0) {
             return null;
@@ -585,6 +664,43 @@ public class PooledBufferAllocator implements BufferAllocator, BufferAllocatorMe
         return false;
     }
 
+    private void trim() {
+        trimCurrentThreadCache();
+        if (DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS > 0) {
+            releaseIdleChunks(DEFAULT_CHUNK_IDLE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Release the chunks of all arenas that have been completely free for at least the given time, which gives their
+     * memory back instead of retaining it for future allocations. Memory that is held by the thread local caches is
+     * still in use from the point of view of the chunks, so it should be trimmed first via
+     * {@link #trimCurrentThreadCache()}.
+     * <p>
+     * If the system property {@code io.netty5.allocator.chunkIdleTimeoutMillis} is set, this is done periodically by
+     * the {@link EventExecutor}s that use this allocator, together with trimming their thread local caches.
+     *
+     * @param idleTime  the minimum time a chunk must have been free for, to be released.
+     * @param unit      the {@link TimeUnit} of the idle time.
+     * @return the number of chunks that were released.
+     */
+    public int releaseIdleChunks(long idleTime, TimeUnit unit) {
+        checkPositiveOrZero(idleTime, "idleTime");
+        requireNonNull(unit, "unit");
+        PoolArena[] arenas = this.arenas;
+        if (arenas == null) {
+            return 0;
+        }
+        long idleSince = System.nanoTime() - unit.toNanos(idleTime);
+        int released = 0;
+        for (PoolArena arena : arenas) {
+            if (arena != null) {
+                released += arena.releaseIdleChunks(idleSince);
+            }
+        }
+        return released;
+    }
+
     /**
      * Returns the status of the allocator (which contains all metrics) as string. Be aware this may be expensive
      * and so should not be called too frequently.
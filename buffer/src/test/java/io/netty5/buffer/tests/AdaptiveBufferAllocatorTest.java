@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.tests;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.pool.AdaptiveBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBufferAllocatorTest {
+
+    @Test
+    void reusesSegmentsOfClosedBuffers() {
+        try (AdaptiveBufferAllocator allocator = (AdaptiveBufferAllocator) BufferAllocator.offHeapAdaptive()) {
+            assertThat(allocator.usedMemory()).isZero();
+            try (Buffer buffer = allocator.allocate(100)) {
+                assertThat(buffer.capacity()).isEqualTo(100);
+                buffer.writeLong(42);
+            }
+            long usedMemory = allocator.usedMemory();
+            assertThat(usedMemory).isGreaterThanOrEqualTo(100);
+            for (int i = 0; i < 10_000; i++) {
+                allocator.allocate(100).close();
+            }
+            assertThat(allocator.usedMemory()).isEqualTo(usedMemory);
+        }
+    }
+
+    @Test
+    void largeBuffersAreNotPooled() {
+        try (AdaptiveBufferAllocator allocator = (AdaptiveBufferAllocator) BufferAllocator.onHeapAdaptive();
+             Buffer buffer = allocator.allocate(1024 * 1024)) {
+            assertThat(buffer.capacity()).isEqualTo(1024 * 1024);
+            assertThat(allocator.usedMemory()).isZero();
+        }
+    }
+
+    @Test
+    void buffersCanBeClosedByOtherThreads() throws Exception {
+        AdaptiveBufferAllocator allocator = (AdaptiveBufferAllocator) BufferAllocator.offHeapAdaptive();
+        try (allocator) {
+            Buffer buffer = allocator.allocate(256).writeInt(42);
+            long usedMemory = allocator.usedMemory();
+            FutureTask<Void> task = new FutureTask<>(buffer::close, null);
+            new Thread(task).start();
+            task.get();
+
+            // The segment that was freed by the other thread is handed back to this thread.
+            try (Buffer reused = allocator.allocate(256)) {
+                assertThat(reused.capacity()).isEqualTo(256);
+                assertThat(allocator.usedMemory()).isEqualTo(usedMemory);
+            }
+        }
+        // Closing the allocator releases the magazine of this thread, and with it all chunks.
+        assertThat(allocator.usedMemory()).isZero();
+    }
+
+    @Test
+    void closingReleasesMagazinesOfOtherThreads() throws Exception {
+        AdaptiveBufferAllocator allocator = (AdaptiveBufferAllocator) BufferAllocator.offHeapAdaptive();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Buffer buffer = executor.submit(() -> {
+                Buffer first = allocator.allocate(256);
+                Buffer second = allocator.allocate(256);
+                first.close();
+                return second;
+            }).get();
+            // The other thread retains the segment of the buffer it closed.
+            assertThat(allocator.usedMemory()).isGreaterThan(256);
+            allocator.close();
+            assertThat(allocator.usedMemory()).isGreaterThan(256);
+
+            // The next buffer that thread closes releases its magazine.
+            executor.submit(buffer::close).get();
+            assertThat(allocator.usedMemory()).isZero();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -18,11 +18,13 @@ package io.netty5.buffer.tests;
 import io.netty5.buffer.Buffer;
 import io.netty5.buffer.BufferAllocator;
 import io.netty5.buffer.pool.BufferAllocatorMetric;
+import io.netty5.buffer.pool.PoolArenaMetric;
 import io.netty5.buffer.pool.PooledBufferAllocator;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -92,4 +94,41 @@ class BufferAllocatorMetricTest extends BufferTestSupport {
             }
         }
     }
+
+    @ParameterizedTest
+    @MethodSource("pooledAllocators")
+    void testReleaseIdleChunks(Fixture fixture) {
+        try (BufferAllocator allocator = fixture.createAllocator()) {
+            if (allocator instanceof PooledBufferAllocator) {
+                PooledBufferAllocator pooledBufferAllocator = (PooledBufferAllocator) allocator;
+                BufferAllocatorMetric metric = pooledBufferAllocator.metric();
+                // Too large to be retained by the thread local cache, and small enough for the chunk to be
+                // retained once it is free.
+                allocator.allocate(64 * 1024).close();
+                assertThat(metric.usedMemory()).isEqualTo(metric.chunkSize());
+                assertThat(idleMemory(metric)).isEqualTo(metric.chunkSize());
+
+                assertThat(pooledBufferAllocator.releaseIdleChunks(1, TimeUnit.HOURS)).isZero();
+                assertThat(metric.usedMemory()).isEqualTo(metric.chunkSize());
+
+                try (Buffer buffer = allocator.allocate(64 * 1024)) {
+                    assertThat(idleMemory(metric)).isZero();
+                    assertThat(pooledBufferAllocator.releaseIdleChunks(0, TimeUnit.NANOSECONDS)).isZero();
+                    buffer.writeInt(42);
+                }
+
+                assertThat(pooledBufferAllocator.releaseIdleChunks(0, TimeUnit.NANOSECONDS)).isOne();
+                assertEquals(0, metric.usedMemory());
+                assertEquals(0, idleMemory(metric));
+            }
+        }
+    }
+
+    private static long idleMemory(BufferAllocatorMetric metric) {
+        long idle = 0;
+        for (PoolArenaMetric arena : metric.arenaMetrics()) {
+            idle += arena.numIdleBytes();
+        }
+        return idle;
+    }
 }
@@ -145,6 +145,8 @@ public abstract class BufferTestSupport {
                 new Fixture("sensitive", SensitiveBufferAllocator::sensitiveOffHeapAllocator, DIRECT, UNCLOSEABLE),
                 new Fixture("pooledHeap", BufferAllocator::onHeapPooled, POOLED, HEAP),
                 new Fixture("pooledDirect", BufferAllocator::offHeapPooled, POOLED, DIRECT),
+                new Fixture("adaptiveHeap", BufferAllocator::onHeapAdaptive, POOLED, HEAP),
+                new Fixture("adaptiveDirect", BufferAllocator::offHeapAdaptive, POOLED, DIRECT),
                 new Fixture("pooledDirect", () ->
                         new PooledBufferAllocator(MemoryManager.instance(), true,
                                 PooledBufferAllocator.defaultNumDirectArena(), PooledBufferAllocator.defaultPageSize(),
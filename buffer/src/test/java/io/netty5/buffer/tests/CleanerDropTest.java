@@ -62,6 +62,8 @@ public class CleanerDropTest {
                 supplier("offHeapUnpooled", BufferAllocator::offHeapUnpooled),
                 supplier("onHeapPooled", BufferAllocator::onHeapPooled),
                 supplier("offHeapPooled", BufferAllocator::offHeapPooled),
+                supplier("onHeapAdaptive", BufferAllocator::onHeapAdaptive),
+                supplier("offHeapAdaptive", BufferAllocator::offHeapAdaptive),
                 supplier("sensitive", SensitiveBufferAllocator::sensitiveOffHeapAllocator));
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.buffer.tests;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.pool.PoolChunkListener;
+import io.netty5.buffer.pool.PooledBufferAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PoolChunkListenerTest {
+
+    @Test
+    void listenerIsToldAboutExistingAndNewChunks() {
+        PooledBufferAllocator allocator = new PooledBufferAllocator(MemoryManager.instance(), true);
+        RecordingListener listener = new RecordingListener();
+        try {
+            long address;
+            try (Buffer buffer = allocator.allocate(128)) {
+                address = nativeAddress(buffer);
+                assumeTrue(address != 0, "Memory manager does not expose native addresses");
+                allocator.addChunkListener(listener);
+                assertThat(listener.isInsideChunk(address)).isTrue();
+            }
+
+            // Allocate enough to require a new chunk.
+            try (Buffer buffer = allocator.allocate(allocator.metric().chunkSize())) {
+                // Allocations of the chunk size are pooled, so they show up as a chunk of their own.
+                long largeAddress = nativeAddress(buffer);
+                assertThat(listener.isInsideChunk(largeAddress)).isTrue();
+                assertThat(listener.chunks).hasSize(2);
+            }
+        } finally {
+            allocator.close();
+        }
+        assertThat(listener.chunks).isEmpty();
+    }
+
+    private static long nativeAddress(Buffer buffer) {
+        try (var itr = buffer.forEachComponent()) {
+            return itr.firstWritable().writableNativeAddress();
+        }
+    }
+
+    private static final class RecordingListener implements PoolChunkListener {
+        final Map<Long, Integer> chunks = new HashMap<>();
+
+        @Override
+        public synchronized void chunkAllocated(long memoryAddress, int size) {
+            chunks.put(memoryAddress, size);
+        }
+
+        @Override
+        public synchronized void chunkReleased(long memoryAddress, int size) {
+            chunks.remove(memoryAddress);
+        }
+
+        synchronized boolean isInsideChunk(long address) {
+            for (Map.Entry<Long, Integer> chunk : chunks.entrySet()) {
+                if (address >= chunk.getKey() && address < chunk.getKey() + chunk.getValue()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util;
+
+import io.netty5.util.concurrent.FastThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Information about the NUMA nodes of the machine, and the NUMA node threads were bound to.
+ * <p>
+ * The topology is read from {@code /sys/devices/system/node} and {@code /sys/devices/system/cpu}, so on other
+ * operating systems than Linux the machine is always seen as a single node.
+ */
+public final class NumaNodes {
+    private static final Logger logger = LoggerFactory.getLogger(NumaNodes.class);
+
+    private static final String NODE_DIR = "/sys/devices/system/node";
+    private static final String CPU_DIR = "/sys/devices/system/cpu";
+    private static final int NODE_COUNT;
+
+    private static final FastThreadLocal<Integer> CURRENT_THREAD_NODE = new FastThreadLocal<>() {
+        @Override
+        protected Integer initialValue() {
+            return -1;
+        }
+    };
+
+    static {
+        int nodes = 0;
+        String[] names = new File(NODE_DIR).list();
+        if (names != null) {
+            for (String name : names) {
+                if (nodeNumber(name) >= 0) {
+                    nodes++;
+                }
+            }
+        }
+        NODE_COUNT = Math.max(1, nodes);
+        logger.debug("NUMA nodes: {}", NODE_COUNT);
+    }
+
+    private NumaNodes() {
+    }
+
+    /**
+     * Returns the number of NUMA nodes of the machine, which is {@code 1} if it could not be determined.
+     */
+    public static int nodeCount() {
+        return NODE_COUNT;
+    }
+
+    /**
+     * Returns the NUMA node of the given CPU, or {@code -1} if it could not be determined.
+     */
+    public static int nodeOfCpu(int cpu) {
+        if (cpu < 0) {
+            return -1;
+        }
+        // The CPU directory contains a "node<N>" link to the node it belongs to.
+        String[] names = new File(CPU_DIR, "cpu" + cpu).list();
+        if (names != null) {
+            for (String name : names) {
+                int node = nodeNumber(name);
+                if (node >= 0) {
+                    return node;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the CPUs of the given NUMA node, or an empty array if they could not be determined.
+     */
+    public static int[] cpusOfNode(int node) {
+        if (node < 0) {
+            return new int[0];
+        }
+        File cpuList = new File(new File(NODE_DIR, "node" + node), "cpulist");
+        try {
+            return parseCpuList(new String(Files.readAllBytes(cpuList.toPath()), StandardCharsets.US_ASCII));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Failed to read the CPUs of NUMA node {}", node, e);
+            return new int[0];
+        }
+    }
+
+    /**
+     * Returns the NUMA node all the given CPUs belong to, or {@code -1} if they belong to different nodes or it could
+     * not be determined.
+     */
+    public static int nodeOfCpus(int... cpus) {
+        int node = -1;
+        for (int cpu : cpus) {
+            int cpuNode = nodeOfCpu(cpu);
+            if (cpuNode < 0 || node >= 0 && cpuNode != node) {
+                return -1;
+            }
+            node = cpuNode;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the NUMA node the current thread was bound to via {@link #setCurrentThreadNode(int)}, or {@code -1} if
+     * it was not bound to a node.
+     */
+    public static int currentThreadNode() {
+        return CURRENT_THREAD_NODE.get();
+    }
+
+    /**
+     * Record the NUMA node the current thread is bound to, or {@code -1} if it is not bound to a node. This does not
+     * bind the thread itself, but lets others, like pooled allocators, make use of the binding.
+     */
+    public static void setCurrentThreadNode(int node) {
+        if (node < -1) {
+            throw new IllegalArgumentException("node: " + node + " (expected: >= -1)");
+        }
+        CURRENT_THREAD_NODE.set(node);
+    }
+
+    // Parses a list like "0-3,8,10-11".
+    static int[] parseCpuList(String cpuList) {
+        List<Integer> cpus = new ArrayList<>();
+        for (String range : cpuList.trim().split(",")) {
+            if (range.isEmpty()) {
+                continue;
+            }
+            int dash = range.indexOf('-');
+            int first = Integer.parseInt(dash < 0 ? range : range.substring(0, dash));
+            int last = dash < 0 ? first : Integer.parseInt(range.substring(dash + 1));
+            for (int cpu = first; cpu <= last; cpu++) {
+                cpus.add(cpu);
+            }
+        }
+        int[] result = new int[cpus.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = cpus.get(i);
+        }
+        return result;
+    }
+
+    private static int nodeNumber(String name) {
+        if (!name.startsWith("node") || name.length() == 4) {
+            return -1;
+        }
+        for (int i = 4; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            return Integer.parseInt(name.substring(4));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
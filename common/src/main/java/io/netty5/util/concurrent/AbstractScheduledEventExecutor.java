@@ -37,9 +37,23 @@ public abstract class AbstractScheduledEventExecutor extends AbstractEventExecut
     private static final RunnableScheduledFutureNode<?>[]
             EMPTY_RUNNABLE_SCHEDULED_FUTURE_NODES = new RunnableScheduledFutureNode<?>[0];
 
+    private final boolean useTimingWheel;
     private PriorityQueue<RunnableScheduledFutureNode<?>> scheduledTaskQueue;
 
     protected AbstractScheduledEventExecutor() {
+        this(false);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param useTimingWheel    {@code true} if scheduled tasks should be kept in a hierarchical timing wheel, which
+     *                          adds and cancels tasks in constant time, and only orders tasks that are about to run in
+     *                          a binary heap. This suits many long timeouts that are usually cancelled before they
+     *                          are due. If {@code false} all scheduled tasks are kept in a binary heap.
+     */
+    protected AbstractScheduledEventExecutor(boolean useTimingWheel) {
+        this.useTimingWheel = useTimingWheel;
     }
 
     /**
@@ -57,10 +71,14 @@ public abstract class AbstractScheduledEventExecutor extends AbstractEventExecut
 
     PriorityQueue<RunnableScheduledFutureNode<?>> scheduledTaskQueue() {
         if (scheduledTaskQueue == null) {
-            scheduledTaskQueue = new DefaultPriorityQueue<>(
-                    SCHEDULED_FUTURE_TASK_COMPARATOR,
-                    // Use same initial capacity as java.util.PriorityQueue
-                    11);
+            if (useTimingWheel) {
+                scheduledTaskQueue = new TimingWheelScheduledTaskQueue(ticker(), SCHEDULED_FUTURE_TASK_COMPARATOR);
+            } else {
+                scheduledTaskQueue = new DefaultPriorityQueue<>(
+                        SCHEDULED_FUTURE_TASK_COMPARATOR,
+                        // Use same initial capacity as java.util.PriorityQueue
+                        11);
+            }
         }
         return scheduledTaskQueue;
     }
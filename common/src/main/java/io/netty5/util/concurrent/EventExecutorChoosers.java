@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Built-in {@link EventExecutorChooserFactory} implementations.
+ */
+public final class EventExecutorChoosers {
+    private static final ToLongFunction<EventExecutor> DEFAULT_LOAD = executor ->
+            executor instanceof SingleThreadEventExecutor ? ((SingleThreadEventExecutor) executor).load() : 0;
+
+    private static final EventExecutorChooserFactory ROUND_ROBIN = executors -> {
+        EventExecutor[] children = executors.toArray(new EventExecutor[0]);
+        if (children.length == 1) {
+            return () -> children[0];
+        }
+        // Use a 'long' counter to avoid non-round-robin behaviour at the 32-bit overflow boundary.
+        // The 64-bit long solves this by placing the overflow so far into the future, that no system
+        // will encounter this in practice.
+        AtomicLong idx = new AtomicLong();
+        if (isPowerOfTwo(children.length)) {
+            return () -> children[(int) idx.getAndIncrement() & children.length - 1];
+        }
+        return () -> children[(int) Math.abs(idx.getAndIncrement() % children.length)];
+    };
+
+    private EventExecutorChoosers() {
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that hands out the {@link EventExecutor}s in round-robin order.
+     * This is the default.
+     */
+    public static EventExecutorChooserFactory roundRobin() {
+        return ROUND_ROBIN;
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that always chooses the {@link EventExecutor} with the lowest
+     * {@linkplain SingleThreadEventExecutor#load() load}. Executors with equal load are chosen in round-robin order.
+     * <p>
+     * This looks at every executor of the group on each call, so it is best used when {@code next()} is called
+     * rarely compared to the work done on the chosen executor, like when registering new channels.
+     */
+    public static EventExecutorChooserFactory leastLoaded() {
+        return leastLoaded(DEFAULT_LOAD);
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that always chooses the {@link EventExecutor} with the lowest
+     * load, as returned by the given function. Executors with equal load are chosen in round-robin order.
+     * <p>
+     * Use this to weigh the parts of the load differently than {@link SingleThreadEventExecutor#load()} does, for
+     * example via {@link SingleThreadEventExecutor#busyPercent()} and {@link SingleThreadEventExecutor#pendingTasks()}.
+     */
+    public static EventExecutorChooserFactory leastLoaded(ToLongFunction<? super EventExecutor> loadFunction) {
+        requireNonNull(loadFunction, "loadFunction");
+        return executors -> {
+            EventExecutor[] children = executors.toArray(new EventExecutor[0]);
+            if (children.length == 1) {
+                return () -> children[0];
+            }
+            AtomicLong idx = new AtomicLong();
+            return () -> {
+                // Start at a different executor on every call, so ties do not all go to the first one.
+                int start = (int) Math.abs(idx.getAndIncrement() % children.length);
+                EventExecutor chosen = children[start];
+                long lowest = loadFunction.applyAsLong(chosen);
+                for (int i = 1; i < children.length && lowest > 0; i++) {
+                    EventExecutor executor = children[(start + i) % children.length];
+                    long load = loadFunction.applyAsLong(executor);
+                    if (load < lowest) {
+                        lowest = load;
+                        chosen = executor;
+                    }
+                }
+                return chosen;
+            };
+        };
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that picks two random {@link EventExecutor}s and chooses the one
+     * with the lower {@linkplain SingleThreadEventExecutor#load() load}. This balances almost as well as
+     * {@link #leastLoaded()}, while the cost of a call does not grow with the number of executors.
+     */
+    public static EventExecutorChooserFactory powerOfTwoChoices() {
+        return powerOfTwoChoices(DEFAULT_LOAD);
+    }
+
+    /**
+     * Returns a {@link EventExecutorChooserFactory} that picks two random {@link EventExecutor}s and chooses the one
+     * with the lower load, as returned by the given function.
+     */
+    public static EventExecutorChooserFactory powerOfTwoChoices(ToLongFunction<? super EventExecutor> loadFunction) {
+        requireNonNull(loadFunction, "loadFunction");
+        return executors -> {
+            EventExecutor[] children = executors.toArray(new EventExecutor[0]);
+            if (children.length == 1) {
+                return () -> children[0];
+            }
+            return () -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int first = random.nextInt(children.length);
+                // Pick the second one from the other executors, so both choices are always distinct.
+                int second = (first + 1 + random.nextInt(children.length - 1)) % children.length;
+                EventExecutor a = children[first];
+                EventExecutor b = children[second];
+                return loadFunction.applyAsLong(b) < loadFunction.applyAsLong(a) ? b : a;
+            };
+        };
+    }
+
+    private static boolean isPowerOfTwo(int val) {
+        return (val & -val) == val;
+    }
+}
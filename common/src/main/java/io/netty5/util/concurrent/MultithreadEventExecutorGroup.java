@@ -15,6 +15,7 @@
  */
 package io.netty5.util.concurrent;
 
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
 import io.netty5.util.internal.EmptyArrays;
 
 import java.util.Arrays;
@@ -25,9 +26,9 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static java.util.Objects.requireNonNull;
 
 /**
  * {@link EventExecutorGroup} implementation that handles their tasks with multiple threads at
@@ -39,7 +40,7 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
     private final List<EventExecutor> readonlyChildren;
     private final AtomicInteger terminatedChildren = new AtomicInteger();
     private final Promise<Void> terminationFuture = GlobalEventExecutor.INSTANCE.newPromise();
-    private final boolean powerOfTwo;
+    private final EventExecutorChooser chooser;
 
     /**
      * Create a new instance.
@@ -89,6 +90,21 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
         this(nThreads, executor, maxPendingTasks, rejectedHandler, EmptyArrays.EMPTY_OBJECTS);
     }
 
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the Executor to use, or {@code null} if the default should be used.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides what {@link #next()} returns.
+     */
+    public MultithreadEventExecutorGroup(int nThreads, Executor executor,
+                                         int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                         EventExecutorChooserFactory chooserFactory) {
+        this(nThreads, executor, maxPendingTasks, rejectedHandler, chooserFactory, EmptyArrays.EMPTY_OBJECTS);
+    }
+
     /**
      * Create a new instance.
      *
@@ -101,8 +117,25 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
      */
     protected MultithreadEventExecutorGroup(int nThreads, ThreadFactory threadFactory, int maxPendingTasks,
                                             RejectedExecutionHandler rejectedHandler, Object... args) {
+        this(nThreads, threadFactory, maxPendingTasks, rejectedHandler, EventExecutorChoosers.roundRobin(), args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param threadFactory     the ThreadFactory to use, or {@code null} if the default should be used.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides what {@link #next()} returns.
+     * @param args              arguments which will passed to each {@link #newChild(Executor, int,
+     * RejectedExecutionHandler, Object...)} call
+     */
+    protected MultithreadEventExecutorGroup(int nThreads, ThreadFactory threadFactory, int maxPendingTasks,
+                                            RejectedExecutionHandler rejectedHandler,
+                                            EventExecutorChooserFactory chooserFactory, Object... args) {
         this(nThreads, threadFactory == null ? null : new ThreadPerTaskExecutor(threadFactory),
-                maxPendingTasks, rejectedHandler, args);
+                maxPendingTasks, rejectedHandler, chooserFactory, args);
     }
 
     /**
@@ -117,14 +150,31 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
      */
     protected MultithreadEventExecutorGroup(int nThreads, Executor executor, int maxPendingTasks,
                                             RejectedExecutionHandler rejectedHandler, Object... args) {
+        this(nThreads, executor, maxPendingTasks, rejectedHandler, EventExecutorChoosers.roundRobin(), args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the Executor to use, or {@code null} if the default should be used.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides what {@link #next()} returns.
+     * @param args              arguments which will passed to each {@link #newChild(Executor, int,
+     * RejectedExecutionHandler, Object...)} call
+     */
+    protected MultithreadEventExecutorGroup(int nThreads, Executor executor, int maxPendingTasks,
+                                            RejectedExecutionHandler rejectedHandler,
+                                            EventExecutorChooserFactory chooserFactory, Object... args) {
         checkPositive(nThreads, "nThreads");
+        requireNonNull(chooserFactory, "chooserFactory");
 
         if (executor == null) {
             executor = new ThreadPerTaskExecutor(new DefaultThreadFactory(getClass()));
         }
 
         children = new EventExecutor[nThreads];
-        powerOfTwo = isPowerOfTwo(children.length);
         for (int i = 0; i < nThreads; i ++) {
             boolean success = false;
             try {
@@ -165,13 +215,9 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
             e.terminationFuture().addListener(terminationListener);
         }
         readonlyChildren = Collections.unmodifiableList(Arrays.asList(children));
+        chooser = chooserFactory.newChooser(readonlyChildren);
     }
 
-    // Use a 'long' counter to avoid non-round-robin behaviour at the 32-bit overflow boundary.
-    // The 64-bit long solves this by placing the overflow so far into the future, that no system
-    // will encounter this in practice.
-    private final AtomicLong idx = new AtomicLong();
-
     /**
      * The {@link EventExecutor}s that are used by this {@link MultithreadEventExecutorGroup}.
      */
@@ -180,19 +226,12 @@ public class MultithreadEventExecutorGroup implements EventExecutorGroup {
     }
 
     /**
-     * Returns the next {@link EventExecutor} to use. The default implementation will use round-robin, but you may
-     * override this to change the selection algorithm.
+     * Returns the next {@link EventExecutor} to use, as chosen by the {@link EventExecutorChooserFactory} given to the
+     * constructor. The default is round-robin, but you may also override this to change the selection algorithm.
      */
     @Override
     public EventExecutor next() {
-        if (powerOfTwo) {
-            return children[(int) idx.getAndIncrement() & children.length - 1];
-        }
-        return children[(int) Math.abs(idx.getAndIncrement() % children.length)];
-    }
-
-    private static boolean isPowerOfTwo(int val) {
-        return (val & -val) == val;
+        return chooser.next();
     }
 
     @Override
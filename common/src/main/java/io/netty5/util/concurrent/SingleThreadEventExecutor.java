@@ -15,6 +15,8 @@
  */
 package io.netty5.util.concurrent;
 
+import io.netty5.util.NumaNodes;
+import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.SystemPropertyUtil;
 import io.netty5.util.internal.ThreadExecutorMap;
 import org.jetbrains.annotations.Async.Execute;
@@ -31,12 +33,13 @@ import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -48,6 +51,8 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     protected static final int DEFAULT_MAX_PENDING_EXECUTOR_TASKS = Math.max(16,
             SystemPropertyUtil.getInt("io.netty5.eventexecutor.maxPendingTasks", Integer.MAX_VALUE));
+    protected static final boolean DEFAULT_USE_TIMING_WHEEL =
+            SystemPropertyUtil.getBoolean("io.netty5.eventexecutor.useTimingWheel", false);
 
     private static final Logger logger = LoggerFactory.getLogger(SingleThreadEventExecutor.class);
 
@@ -63,9 +68,15 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private static final Runnable NOOP_TASK = () -> {
         // Do nothing.
     };
+    private static final long BUSY_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // The most that pending tasks add to load(), which is what a thread that is busy all the time adds.
+    private static final int MAX_PENDING_TASKS_LOAD = 100;
+    private static final long NO_ENQUEUE_TIME = Long.MIN_VALUE;
 
     private static final AtomicIntegerFieldUpdater<SingleThreadEventExecutor> STATE_UPDATER =
             AtomicIntegerFieldUpdater.newUpdater(SingleThreadEventExecutor.class, "state");
+    private static final AtomicLongFieldUpdater<SingleThreadEventExecutor> ENQUEUE_TIME_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(SingleThreadEventExecutor.class, "firstTaskEnqueueTime");
     private static final AtomicReferenceFieldUpdater<SingleThreadEventExecutor, ThreadProperties> PROPERTIES_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(
                     SingleThreadEventExecutor.class, ThreadProperties.class, "threadProperties");
@@ -73,10 +84,13 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private final Queue<Runnable> taskQueue;
 
     private volatile Thread thread;
+    private volatile int numaNode = -1;
     @SuppressWarnings("unused")
     private volatile ThreadProperties threadProperties;
     private final Executor executor;
     private volatile boolean interrupted;
+    // Set while the executor thread is parked in takeTask(), so that wakeup() only has to unpark it then.
+    private volatile boolean parked;
 
     private final CountDownLatch threadLock = new CountDownLatch(1);
     private final Set<Runnable> shutdownHooks = new LinkedHashSet<>();
@@ -85,6 +99,17 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     private long lastExecutionTime;
 
+    // The busy ratio is measured in windows of BUSY_WINDOW_NANOS. Only the executor thread writes these fields.
+    private volatile boolean idle;
+    private volatile long idleStartTime;
+    private volatile long busyWindowStartTime;
+    private long busyWindowIdleNanos;
+    private volatile int busyPercent;
+
+    private volatile boolean trackTaskQueueLatency;
+    // When the first task was added since the task queue was last seen empty, if trackTaskQueueLatency is set.
+    private volatile long firstTaskEnqueueTime = NO_ENQUEUE_TIME;
+
     @SuppressWarnings({ "FieldMayBeFinal", "unused" })
     private volatile int state = ST_NOT_STARTED;
 
@@ -139,6 +164,22 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
      * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
      */
     public SingleThreadEventExecutor(Executor executor, int maxPendingTasks, RejectedExecutionHandler rejectedHandler) {
+        this(executor, maxPendingTasks, rejectedHandler, DEFAULT_USE_TIMING_WHEEL);
+    }
+
+    /**
+     * Create a new instance
+     *
+     * @param executor          the {@link Executor} which will be used for executing
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param useTimingWheel    {@code true} if scheduled tasks should be kept in a hierarchical timing wheel instead of
+     *                          a binary heap, which suits many long timeouts that are usually cancelled before they
+     *                          are due.
+     */
+    public SingleThreadEventExecutor(Executor executor, int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     boolean useTimingWheel) {
+        super(useTimingWheel);
         this.executor = ThreadExecutorMap.apply(executor, this);
         taskQueue = newTaskQueue(Math.max(16, maxPendingTasks));
         addTaskWakesUp = taskQueue instanceof BlockingQueue;
@@ -147,18 +188,19 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
 
     /**
      * Create a new {@link Queue} which will holds the tasks to execute. This default implementation will return a
-     * {@link LinkedBlockingQueue} but if your sub-class of {@link SingleThreadEventExecutor} will not do any blocking
-     * calls on the this {@link Queue} it may make sense to {@code @Override} this and return some more performant
-     * implementation that does not support blocking operations at all.
+     * lock-free multi-producer single-consumer queue, which is bounded unless {@code maxPendingTasks} is
+     * {@link Integer#MAX_VALUE}. The executor thread parks in {@link #takeTask()} while the queue is empty, and is
+     * unparked by {@link #wakeup(boolean)}.
      *
-     * Be aware that the implementation of {@link #run()} depends on a {@link BlockingQueue} so you will need to
-     * override {@link #run()} as well if you return a non {@link BlockingQueue} from this method.
+     * If a {@link BlockingQueue} is returned instead, {@link #takeTask()} blocks on the queue itself, and adding a task
+     * wakes up the executor thread without calling {@link #wakeup(boolean)}.
      *
      * As this method is called from within the constructor you can only use the parameters passed into the method when
      * overriding this method.
      */
     protected Queue<Runnable> newTaskQueue(int maxPendingTasks) {
-        return new LinkedBlockingQueue<>(maxPendingTasks);
+        return maxPendingTasks == Integer.MAX_VALUE ? PlatformDependent.newMpscQueue()
+                : PlatformDependent.newMpscQueue(maxPendingTasks);
     }
 
     /**
@@ -193,8 +235,9 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     /**
      * Take the next {@link Runnable} from the task queue and so will block if no task is currently present.
      * <p>
-     * Be aware that this method will throw an {@link UnsupportedOperationException} if the task queue, which was
-     * created via {@link #newTaskQueue(int)}, does not implement {@link BlockingQueue}.
+     * If the task queue, which was created via {@link #newTaskQueue(int)}, does not implement {@link BlockingQueue}
+     * the executor thread is parked until {@link #wakeup(boolean)} is called, the next scheduled task is due, or the
+     * thread is interrupted.
      * </p>
      *
      * This method must be called from the {@link EventExecutor} thread.
@@ -204,7 +247,7 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     protected final Runnable takeTask() {
         assert inEventLoop();
         if (!(taskQueue instanceof BlockingQueue)) {
-            throw new UnsupportedOperationException();
+            return parkForTask();
         }
 
         BlockingQueue<Runnable> taskQueue = (BlockingQueue<Runnable>) this.taskQueue;
@@ -212,6 +255,7 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
             RunnableScheduledFuture<?> scheduledTask = peekScheduledTask();
             if (scheduledTask == null) {
                 Runnable task = null;
+                idleStarted();
                 try {
                     task = taskQueue.take();
                     if (task == WAKEUP_TASK) {
@@ -219,17 +263,22 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
                     }
                 } catch (InterruptedException e) {
                     // Ignore
+                } finally {
+                    idleEnded(true);
                 }
                 return task;
             } else {
                 long delayNanos = scheduledTask.delayNanos();
                 Runnable task = null;
                 if (delayNanos > 0) {
+                    idleStarted();
                     try {
                         task = taskQueue.poll(delayNanos, TimeUnit.NANOSECONDS);
                     } catch (InterruptedException e) {
                         // Waken up.
                         return null;
+                    } finally {
+                        idleEnded(true);
                     }
                 }
                 if (task == null) {
@@ -248,6 +297,43 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
         }
     }
 
+    private Runnable parkForTask() {
+        for (;;) {
+            RunnableScheduledFuture<?> scheduledTask = peekScheduledTask();
+            long delayNanos = scheduledTask == null ? -1 : scheduledTask.delayNanos();
+            if (delayNanos == 0) {
+                // See takeTask() for why the scheduled tasks need to be fetched before polling.
+                fetchFromScheduledTaskQueue();
+            }
+            Runnable task = taskQueue.poll();
+            if (task != null) {
+                return task == WAKEUP_TASK ? null : task;
+            }
+            if (delayNanos != 0) {
+                idleStarted();
+                parked = true;
+                try {
+                    // Check the queue again after announcing that we are about to park, as a task that was added
+                    // before that would not unpark us. Spurious returns from park are handled by the loop.
+                    if (taskQueue.isEmpty()) {
+                        if (delayNanos < 0) {
+                            LockSupport.park(this);
+                        } else {
+                            LockSupport.parkNanos(this, delayNanos);
+                        }
+                    }
+                } finally {
+                    parked = false;
+                    idleEnded(true);
+                }
+                if (Thread.interrupted()) {
+                    // Waken up.
+                    return null;
+                }
+            }
+        }
+    }
+
     private boolean fetchFromScheduledTaskQueue() {
         long nanoTime = ticker().nanoTime();
         RunnableScheduledFuture<?> scheduledTask  = pollScheduledTask(nanoTime);
@@ -276,6 +362,102 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
         return taskQueue.size();
     }
 
+    /**
+     * Returns an estimate of how busy this executor is, which is used by the load-aware choosers of
+     * {@link EventExecutorChoosers} to find the least busy executor of a group. Only the relative values of the
+     * executors of a group matter.
+     * <p>
+     * The load is measured in percent of the capacity of the executor thread, and the default implementation adds:
+     * <ul>
+     *     <li>the {@linkplain #busyPercent() busy percentage}, between {@code 0} and {@code 100};</li>
+     *     <li>one percent for every {@linkplain #pendingTasks() pending task}, at most {@code 100}, so a backlog counts
+     *     as much as a thread that is busy all the time, but does not outweigh everything else.</li>
+     * </ul>
+     * Sub-classes may add what else makes them busy, in the same unit.
+     */
+    public long load() {
+        return busyPercent() + Math.min(pendingTasks(), MAX_PENDING_TASKS_LOAD);
+    }
+
+    /**
+     * Returns the recent percentage of time the executor thread spent running tasks instead of waiting for them,
+     * between {@code 0} and {@code 100}.
+     */
+    public final int busyPercent() {
+        if (thread == null) {
+            // Not started yet.
+            return 0;
+        }
+        long nanoTime = ticker().nanoTime();
+        if (idle) {
+            // Waiting for a while already, so the executor has plenty of capacity right now.
+            return nanoTime - idleStartTime > BUSY_WINDOW_NANOS ? 0 : busyPercent;
+        }
+        // The windows are only closed when the executor thread waits, so if none was closed lately the thread was
+        // busy all the time.
+        return nanoTime - busyWindowStartTime > 2 * BUSY_WINDOW_NANOS ? 100 : busyPercent;
+    }
+
+    /**
+     * Returns the NUMA node the executor thread was bound to when it started, as recorded via
+     * {@link NumaNodes#setCurrentThreadNode(int)}, or {@code -1} if it is not bound to a node or was not started yet.
+     */
+    public final int numaNode() {
+        return numaNode;
+    }
+
+    /**
+     * Returns {@code true} if the executor thread was started, which happens when the first task is added.
+     */
+    protected final boolean isStarted() {
+        return state != ST_NOT_STARTED;
+    }
+
+    /**
+     * Returns {@code true} if the executor thread currently waits for new work, as marked by {@link #idleStarted()}.
+     */
+    protected final boolean isIdle() {
+        return idle;
+    }
+
+    /**
+     * Marks the start of a period in which the executor thread waits for new work. This is used to calculate the
+     * {@linkplain #busyPercent() busy percentage}, and is called by {@link #takeTask()}. Sub-classes that wait for
+     * work in another way should call this method before they wait, and {@link #idleEnded(boolean)} after.
+     *
+     * This method must be called from the {@link EventExecutor} thread.
+     */
+    protected final void idleStarted() {
+        assert inEventLoop();
+        idleStartTime = ticker().nanoTime();
+        idle = true;
+    }
+
+    /**
+     * Marks the end of a period that was started by {@link #idleStarted()}.
+     *
+     * This method must be called from the {@link EventExecutor} thread.
+     *
+     * @param countAsIdle   {@code false} if the time since {@link #idleStarted()} should count as busy, for example
+     *                      because work was done while waiting.
+     */
+    protected final void idleEnded(boolean countAsIdle) {
+        assert inEventLoop();
+        long nanoTime = ticker().nanoTime();
+        if (countAsIdle) {
+            busyWindowIdleNanos += nanoTime - idleStartTime;
+        }
+        idle = false;
+        long windowNanos = nanoTime - busyWindowStartTime;
+        if (windowNanos >= BUSY_WINDOW_NANOS) {
+            int windowBusyPercent = (int) (100 - Math.min(busyWindowIdleNanos, windowNanos) * 100 / windowNanos);
+            // Average with the previous windows, so a single quiet window does not make a busy executor look idle.
+            busyPercent = (busyPercent + windowBusyPercent) >>> 1;
+            busyWindowStartTime = nanoTime;
+            busyWindowIdleNanos = 0;
+        }
+    }
+
     /**
      * Add a task to the task queue, or throws a {@link RejectedExecutionException} if this instance was shutdown
      * before.
@@ -283,7 +465,42 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private void addTask(Runnable task) {
         if (!offerTask(task)) {
             rejectedExecutionHandler.rejected(task, this);
+        } else if (trackTaskQueueLatency && firstTaskEnqueueTime == NO_ENQUEUE_TIME) {
+            ENQUEUE_TIME_UPDATER.compareAndSet(this, NO_ENQUEUE_TIME, ticker().nanoTime());
+        }
+    }
+
+    /**
+     * Enables or disables measuring how long tasks wait in the task queue, see {@link #taskQueueLatencyNanos()}.
+     * While enabled, adding a task to an empty task queue costs an extra timestamp and CAS.
+     */
+    protected final void trackTaskQueueLatency(boolean track) {
+        trackTaskQueueLatency = track;
+        firstTaskEnqueueTime = NO_ENQUEUE_TIME;
+    }
+
+    /**
+     * Returns how long the oldest task that was added since the task queue was last seen empty has been waiting,
+     * or {@code 0} if no task was added since. When called after running tasks, this approximates the longest time
+     * any of them waited before it ran. The measurement restarts if the task queue is empty now.
+     * <p>
+     * This only works if enabled by {@link #trackTaskQueueLatency(boolean)}, and does not include scheduled tasks.
+     *
+     * This method must be called from the {@link EventExecutor} thread.
+     */
+    protected final long taskQueueLatencyNanos() {
+        assert inEventLoop();
+        long enqueueTime = firstTaskEnqueueTime;
+        if (enqueueTime == NO_ENQUEUE_TIME) {
+            return 0;
         }
+        long latency = Math.max(0, ticker().nanoTime() - enqueueTime);
+        if (taskQueue.isEmpty()) {
+            // Producers only set the enqueue time when none is set, so no CAS is needed. A task that is added right
+            // before this is not measured, which is fine for an approximation.
+            firstTaskEnqueueTime = NO_ENQUEUE_TIME;
+        }
+        return latency;
     }
 
     /**
@@ -413,10 +630,8 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     }
 
     /**
-     * Run tasks that are submitted to this {@link SingleThreadEventExecutor}.
-     * The implementation depends on the fact that {@link #newTaskQueue(int)} returns a
-     * {@link BlockingQueue}. If you change this by overriding {@link #newTaskQueue(int)}
-     * be aware that you also need to override {@link #run()}.
+     * Run tasks that are submitted to this {@link SingleThreadEventExecutor}, using {@link #takeTask()} to wait for
+     * the next one.
      *
      * This method must be called from the {@link EventExecutor} thread.
      */
@@ -439,11 +654,21 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
         assert inEventLoop();
     }
 
+    /**
+     * Wake up the executor thread if it waits for tasks in {@link #takeTask()}. Sub-classes that wait for tasks in
+     * some other way must override this method.
+     */
     protected void wakeup(boolean inEventLoop) {
         if (!inEventLoop) {
-            // Use offer as we actually only need this to unblock the thread and if offer fails we do not care as there
-            // is already something in the queue.
-            taskQueue.offer(WAKEUP_TASK);
+            if (taskQueue instanceof BlockingQueue) {
+                // Use offer as we actually only need this to unblock the thread and if offer fails we do not care as
+                // there is already something in the queue.
+                taskQueue.offer(WAKEUP_TASK);
+            } else if (parked) {
+                // The task was added before parked was read, so the executor thread either sees it before parking or
+                // is unparked here.
+                LockSupport.unpark(thread);
+            }
         }
     }
 
@@ -762,7 +987,10 @@ public class SingleThreadEventExecutor extends AbstractScheduledEventExecutor im
     private void doStartThread() {
         assert thread == null;
         executor.execute(() -> {
+            busyWindowStartTime = ticker().nanoTime();
+            idle = false;
             thread = Thread.currentThread();
+            numaNode = NumaNodes.currentThreadNode();
             if (interrupted) {
                 thread.interrupt();
             }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.AbstractScheduledEventExecutor.RunnableScheduledFutureNode;
+import io.netty5.util.internal.DefaultPriorityQueue;
+import io.netty5.util.internal.PriorityQueue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static io.netty5.util.internal.PriorityQueueNode.INDEX_NOT_IN_QUEUE;
+
+/**
+ * A scheduled task queue that keeps tasks with a distant deadline in a hierarchical timing wheel, and only tasks that
+ * are about to run in a binary heap.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. A slot of the first level covers about 16.8ms, and
+ * each level is {@value #SLOTS} times coarser than the one below, which covers about 78 hours in total. Adding or
+ * removing a task in the wheel takes constant time. As time passes, the slots of the coarser levels are cascaded
+ * into the finer levels, and the slots of the first level into the heap, which orders tasks by their exact deadline.
+ * Tasks that are due within the current slot, or beyond the range of the wheel, are added to the heap directly.
+ * <p>
+ * This pays off when most tasks are timeouts that are cancelled or rescheduled long before they are due, like the
+ * ones of idle or read timeout handlers.
+ */
+final class TimingWheelScheduledTaskQueue extends AbstractQueue<RunnableScheduledFutureNode<?>>
+        implements PriorityQueue<RunnableScheduledFutureNode<?>> {
+    private static final int TICK_SHIFT = 24;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // Wheel positions are stored as negative queue indexes, which the heap ignores. The lower bits hold the bucket.
+    private static final int BUCKET_BITS = 8;
+    private static final int BUCKET_MASK = (1 << BUCKET_BITS) - 1;
+    private static final int MAX_BUCKET_SIZE = 1 << 22;
+
+    private final Ticker ticker;
+    private final DefaultPriorityQueue<RunnableScheduledFutureNode<?>> heap;
+    private final RunnableScheduledFutureNode<?>[][] buckets = new RunnableScheduledFutureNode<?>[LEVELS * SLOTS][];
+    private final int[] bucketSizes = new int[LEVELS * SLOTS];
+    // One bit per non-empty slot, for every level.
+    private final long[] occupied = new long[LEVELS];
+    private int wheelSize;
+    // The first level tick up to which the wheel has been advanced. All tasks in the wheel are due after it.
+    private long currentTick;
+
+    TimingWheelScheduledTaskQueue(Ticker ticker, Comparator<RunnableScheduledFutureNode<?>> comparator) {
+        this.ticker = ticker;
+        heap = new DefaultPriorityQueue<>(comparator, 11);
+        currentTick = ticker.nanoTime() >>> TICK_SHIFT;
+    }
+
+    @Override
+    public boolean offer(RunnableScheduledFutureNode<?> node) {
+        if (node.priorityQueueIndex(heap) != INDEX_NOT_IN_QUEUE) {
+            throw new IllegalArgumentException("node.priorityQueueIndex(): " + node.priorityQueueIndex(heap) +
+                    " (expected: " + INDEX_NOT_IN_QUEUE + ") + node: " + node);
+        }
+        if (!addToWheel(node)) {
+            heap.offer(node);
+        }
+        return true;
+    }
+
+    @Override
+    public RunnableScheduledFutureNode<?> poll() {
+        RunnableScheduledFutureNode<?> node = peek();
+        if (node != null) {
+            heap.poll();
+        }
+        return node;
+    }
+
+    @Override
+    public RunnableScheduledFutureNode<?> peek() {
+        advance(ticker.nanoTime());
+        for (;;) {
+            RunnableScheduledFutureNode<?> head = heap.peek();
+            if (wheelSize == 0) {
+                return head;
+            }
+            int bucket = firstBucket();
+            if (head != null && head.deadlineNanos() < bucketStartNanos(bucket)) {
+                return head;
+            }
+            // The earliest task may be in the wheel. Hand its bucket over to the heap, which knows the exact order.
+            pour(bucket, true);
+        }
+    }
+
+    @Override
+    public int size() {
+        return heap.size() + wheelSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return wheelSize == 0 && heap.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof RunnableScheduledFutureNode && containsTyped((RunnableScheduledFutureNode<?>) o);
+    }
+
+    @Override
+    public boolean containsTyped(RunnableScheduledFutureNode<?> node) {
+        int index = node.priorityQueueIndex(heap);
+        if (index < INDEX_NOT_IN_QUEUE) {
+            int position = -2 - index;
+            int bucket = position & BUCKET_MASK;
+            int i = position >>> BUCKET_BITS;
+            return i < bucketSizes[bucket] && buckets[bucket][i] == node;
+        }
+        return heap.containsTyped(node);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return o instanceof RunnableScheduledFutureNode && removeTyped((RunnableScheduledFutureNode<?>) o);
+    }
+
+    @Override
+    public boolean removeTyped(RunnableScheduledFutureNode<?> node) {
+        int index = node.priorityQueueIndex(heap);
+        if (index < INDEX_NOT_IN_QUEUE) {
+            if (!containsTyped(node)) {
+                return false;
+            }
+            int position = -2 - index;
+            removeFromBucket(position & BUCKET_MASK, position >>> BUCKET_BITS);
+            return true;
+        }
+        return heap.removeTyped(node);
+    }
+
+    @Override
+    public void priorityChanged(RunnableScheduledFutureNode<?> node) {
+        if (node.priorityQueueIndex(heap) < INDEX_NOT_IN_QUEUE) {
+            if (removeTyped(node)) {
+                offer(node);
+            }
+        } else {
+            heap.priorityChanged(node);
+        }
+    }
+
+    @Override
+    public void clear() {
+        heap.clear();
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            RunnableScheduledFutureNode<?>[] nodes = buckets[bucket];
+            for (int i = 0; i < bucketSizes[bucket]; i++) {
+                nodes[i].priorityQueueIndex(heap, INDEX_NOT_IN_QUEUE);
+            }
+        }
+        clearWheel();
+    }
+
+    @Override
+    public void clearIgnoringIndexes() {
+        heap.clearIgnoringIndexes();
+        clearWheel();
+    }
+
+    private void clearWheel() {
+        Arrays.fill(buckets, null);
+        Arrays.fill(bucketSizes, 0);
+        Arrays.fill(occupied, 0);
+        wheelSize = 0;
+    }
+
+    @Override
+    public Iterator<RunnableScheduledFutureNode<?>> iterator() {
+        List<RunnableScheduledFutureNode<?>> nodes = new ArrayList<>(size());
+        Collections.addAll(nodes, heap.toArray(new RunnableScheduledFutureNode<?>[0]));
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            for (int i = 0; i < bucketSizes[bucket]; i++) {
+                nodes.add(buckets[bucket][i]);
+            }
+        }
+        return Collections.unmodifiableList(nodes).iterator();
+    }
+
+    private boolean addToWheel(RunnableScheduledFutureNode<?> node) {
+        long tick = node.deadlineNanos() >>> TICK_SHIFT;
+        if (tick <= currentTick) {
+            return false;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * SLOT_BITS;
+            if ((tick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                return addToBucket(node, level << SLOT_BITS | (int) (tick >>> shift) & SLOT_MASK);
+            }
+        }
+        return false;
+    }
+
+    private boolean addToBucket(RunnableScheduledFutureNode<?> node, int bucket) {
+        int size = bucketSizes[bucket];
+        if (size == MAX_BUCKET_SIZE) {
+            return false;
+        }
+        RunnableScheduledFutureNode<?>[] nodes = buckets[bucket];
+        if (nodes == null) {
+            nodes = buckets[bucket] = new RunnableScheduledFutureNode<?>[16];
+        } else if (size == nodes.length) {
+            nodes = buckets[bucket] = Arrays.copyOf(nodes, size << 1);
+        }
+        nodes[size] = node;
+        node.priorityQueueIndex(heap, -2 - (size << BUCKET_BITS | bucket));
+        bucketSizes[bucket] = size + 1;
+        occupied[bucket >>> SLOT_BITS] |= 1L << (bucket & SLOT_MASK);
+        wheelSize++;
+        return true;
+    }
+
+    private void removeFromBucket(int bucket, int i) {
+        RunnableScheduledFutureNode<?>[] nodes = buckets[bucket];
+        int last = --bucketSizes[bucket];
+        nodes[i].priorityQueueIndex(heap, INDEX_NOT_IN_QUEUE);
+        if (i != last) {
+            RunnableScheduledFutureNode<?> moved = nodes[last];
+            nodes[i] = moved;
+            moved.priorityQueueIndex(heap, -2 - (i << BUCKET_BITS | bucket));
+        }
+        nodes[last] = null;
+        if (last == 0) {
+            occupied[bucket >>> SLOT_BITS] &= ~(1L << (bucket & SLOT_MASK));
+        }
+        wheelSize--;
+    }
+
+    /**
+     * Empty the given bucket, and add its tasks to the heap, or to the wheel again relative to the current tick.
+     */
+    private void pour(int bucket, boolean toHeap) {
+        RunnableScheduledFutureNode<?>[] nodes = buckets[bucket];
+        int size = bucketSizes[bucket];
+        if (size == 0) {
+            return;
+        }
+        buckets[bucket] = null;
+        bucketSizes[bucket] = 0;
+        occupied[bucket >>> SLOT_BITS] &= ~(1L << (bucket & SLOT_MASK));
+        wheelSize -= size;
+        for (int i = 0; i < size; i++) {
+            RunnableScheduledFutureNode<?> node = nodes[i];
+            node.priorityQueueIndex(heap, INDEX_NOT_IN_QUEUE);
+            if (toHeap || !addToWheel(node)) {
+                heap.offer(node);
+            }
+        }
+    }
+
+    private void advance(long nanoTime) {
+        long tick = nanoTime >>> TICK_SHIFT;
+        long previousTick = currentTick;
+        if (tick <= previousTick) {
+            return;
+        }
+        currentTick = tick;
+        // Go from the coarsest level down, so that cascaded tasks end up in the slots that are poured next.
+        for (int level = LEVELS - 1; level >= 0 && wheelSize > 0; level--) {
+            int shift = level * SLOT_BITS;
+            long to = tick >>> shift;
+            long from = Math.max((previousTick >>> shift) + 1, to - SLOT_MASK);
+            for (long t = from; t <= to; t++) {
+                pour(level << SLOT_BITS | (int) t & SLOT_MASK, false);
+            }
+        }
+    }
+
+    private int firstBucket() {
+        int first = -1;
+        long firstStart = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            long mask = occupied[level];
+            if (mask == 0) {
+                continue;
+            }
+            int shift = level * SLOT_BITS;
+            long next = (currentTick >>> shift) + 1;
+            // Slots are used round-robin, so search from the slot after the current one.
+            long distance = Long.numberOfTrailingZeros(Long.rotateRight(mask, (int) next & SLOT_MASK));
+            long start = (next + distance) << shift;
+            if (start < firstStart) {
+                firstStart = start;
+                first = level << SLOT_BITS | (int) (next + distance) & SLOT_MASK;
+            }
+        }
+        return first;
+    }
+
+    private long bucketStartNanos(int bucket) {
+        int level = bucket >>> SLOT_BITS;
+        int shift = level * SLOT_BITS;
+        long next = (currentTick >>> shift) + 1;
+        long distance = (bucket - next) & SLOT_MASK;
+        return (next + distance) << shift << TICK_SHIFT;
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.NettyRuntime;
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+
+/**
+ * {@link EventExecutorGroup} for handlers that need to do blocking work, like calling a blocking database driver.
+ * <p>
+ * Every call to {@link #next()} returns a new lightweight {@link OrderedEventExecutor}, so a handler should obtain
+ * one per channel (for example when it is added to the pipeline) and offload its blocking work to it. The tasks
+ * given to such an executor run one after the other, in the order in which they were submitted, but not on a fixed
+ * thread. As {@code ChannelHandlerContext} can be used from any thread, the offloaded work can pass its results on
+ * to the next handler directly.
+ * <p>
+ * When the runtime supports virtual threads (Java 21 and later) the tasks run on virtual threads, so hundreds of
+ * thousands of executors can be blocked at the same time without creating as many platform threads. On older
+ * runtimes a bounded pool of platform threads is used instead, in which case no more executors than the size of the
+ * pool can be blocked at the same time.
+ * <p>
+ * The executors do not support scheduling tasks.
+ */
+@UnstableApi
+public final class VirtualThreadEventExecutorGroup implements EventExecutorGroup {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadEventExecutorGroup.class);
+
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+    // Set on the running count once the group is shut down.
+    private static final int SHUTDOWN = 1 << 31;
+
+    static {
+        ThreadFactory factory = null;
+        if (PlatformDependent.javaVersion() >= 21) {
+            try {
+                // Use reflection, as we need to compile with Java 11.
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builder = builderClass.getMethod("name", String.class, long.class)
+                        .invoke(builder, "virtualThreadEventExecutorGroup-", 0L);
+                factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            } catch (Throwable cause) {
+                logger.debug("Virtual threads are not available, falling back to platform threads", cause);
+            }
+        }
+        VIRTUAL_THREAD_FACTORY = factory;
+        logger.debug("Virtual threads available: {}", factory != null);
+    }
+
+    private final Executor executor;
+    private final ThreadPoolExecutor platformThreadPool;
+    private final int maxTaskExecutePerRun;
+    // The number of executors that currently run tasks, or have been submitted to run them. Once the group is shut
+    // down the SHUTDOWN bit is set as well.
+    private final AtomicInteger running = new AtomicInteger();
+    private final Promise<Void> terminationFuture = GlobalEventExecutor.INSTANCE.newPromise();
+
+    /**
+     * Creates a new instance, which uses up to twice the number of available processors platform threads if virtual
+     * threads are not supported.
+     */
+    public VirtualThreadEventExecutorGroup() {
+        this(NettyRuntime.availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxPlatformThreads    the maximum number of platform threads to use if virtual threads are not supported.
+     */
+    public VirtualThreadEventExecutorGroup(int maxPlatformThreads) {
+        this(maxPlatformThreads, 1024);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxPlatformThreads    the maximum number of platform threads to use if virtual threads are not supported.
+     * @param maxTaskExecutePerRun  the maximum number of tasks an executor runs before it gives up its thread and
+     *                              queues itself again, so other executors get a chance to run.
+     */
+    public VirtualThreadEventExecutorGroup(int maxPlatformThreads, int maxTaskExecutePerRun) {
+        this(VIRTUAL_THREAD_FACTORY, maxPlatformThreads, maxTaskExecutePerRun);
+    }
+
+    // Package-private for testing.
+    VirtualThreadEventExecutorGroup(ThreadFactory virtualThreadFactory, int maxPlatformThreads,
+                                    int maxTaskExecutePerRun) {
+        checkPositive(maxPlatformThreads, "maxPlatformThreads");
+        this.maxTaskExecutePerRun = checkPositive(maxTaskExecutePerRun, "maxTaskExecutePerRun");
+        if (virtualThreadFactory != null) {
+            executor = new ThreadPerTaskExecutor(virtualThreadFactory);
+            platformThreadPool = null;
+        } else {
+            platformThreadPool = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new DefaultThreadFactory(VirtualThreadEventExecutorGroup.class));
+            platformThreadPool.allowCoreThreadTimeOut(true);
+            executor = platformThreadPool;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the tasks of this group run on virtual threads, and {@code false} if they run on
+     * platform threads.
+     */
+    public boolean usesVirtualThreads() {
+        return platformThreadPool == null;
+    }
+
+    /**
+     * Returns a new {@link OrderedEventExecutor} that runs its tasks in order, backed by this group.
+     */
+    @Override
+    public EventExecutor next() {
+        return new VirtualThreadOrderedEventExecutor(this);
+    }
+
+    /**
+     * Returns an empty {@link Iterator}, as the executors of this group are created on demand and not tracked.
+     */
+    @Override
+    public Iterator<EventExecutor> iterator() {
+        return Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean isShuttingDown() {
+        return isShutdown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return (running.get() & SHUTDOWN) != 0;
+    }
+
+    @Override
+    public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        // Tasks that were already accepted still run, but new tasks are rejected from here on.
+        for (;;) {
+            int state = running.get();
+            if ((state & SHUTDOWN) != 0) {
+                break;
+            }
+            if (running.compareAndSet(state, state | SHUTDOWN)) {
+                if (state == 0) {
+                    terminate();
+                }
+                break;
+            }
+        }
+        return terminationFuture();
+    }
+
+    @Override
+    public Future<Void> terminationFuture() {
+        return terminationFuture.asFuture();
+    }
+
+    private void startRun(VirtualThreadOrderedEventExecutor executor) {
+        for (;;) {
+            int state = running.get();
+            if ((state & SHUTDOWN) != 0) {
+                throw new RejectedExecutionException("VirtualThreadEventExecutorGroup is shut down");
+            }
+            if (running.compareAndSet(state, state + 1)) {
+                break;
+            }
+        }
+        try {
+            this.executor.execute(executor);
+        } catch (Throwable cause) {
+            runFinished();
+            throw cause;
+        }
+    }
+
+    private void continueRun(VirtualThreadOrderedEventExecutor executor) {
+        // The executor is still counted as running, so the group can not terminate in between.
+        this.executor.execute(executor);
+    }
+
+    private void runFinished() {
+        if (running.decrementAndGet() == SHUTDOWN) {
+            terminate();
+        }
+    }
+
+    private void terminate() {
+        if (platformThreadPool != null) {
+            platformThreadPool.shutdown();
+        }
+        terminationFuture.trySuccess(null);
+    }
+
+    private static final class VirtualThreadOrderedEventExecutor extends AbstractEventExecutor
+            implements Runnable, OrderedEventExecutor {
+        private static final int NONE = 0;
+        private static final int SUBMITTED = 1;
+        private static final int RUNNING = 2;
+
+        private final VirtualThreadEventExecutorGroup group;
+        private final Queue<Runnable> tasks = PlatformDependent.newMpscQueue();
+        private final AtomicInteger state = new AtomicInteger();
+        private final AtomicReference<Thread> executingThread = new AtomicReference<>();
+
+        VirtualThreadOrderedEventExecutor(VirtualThreadEventExecutorGroup group) {
+            this.group = group;
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(SUBMITTED, RUNNING)) {
+                return;
+            }
+            Thread current = Thread.currentThread();
+            executingThread.set(current);
+            int maxTaskExecutePerRun = group.maxTaskExecutePerRun;
+            for (;;) {
+                int i = 0;
+                for (; i < maxTaskExecutePerRun; i++) {
+                    Runnable task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    safeExecute(task);
+                }
+                if (i == maxTaskExecutePerRun) {
+                    state.set(SUBMITTED);
+                    // Only set executingThread to null if no other thread did update it yet.
+                    executingThread.compareAndSet(current, null);
+                    try {
+                        group.continueRun(this);
+                        return; // done
+                    } catch (Throwable ignore) {
+                        // Just keep on running the tasks on this thread, there is not much else we can do.
+                        state.set(RUNNING);
+                        executingThread.set(current);
+                    }
+                } else {
+                    state.set(NONE);
+                    // A producer may have added a task between the poll() above and setting the state to NONE,
+                    // without seeing the state change. See NonStickyEventExecutorGroup for the details.
+                    if (tasks.isEmpty() || !state.compareAndSet(NONE, RUNNING)) {
+                        executingThread.compareAndSet(current, null);
+                        group.runFinished();
+                        return; // done
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (group.isShutdown()) {
+                throw new RejectedExecutionException("VirtualThreadEventExecutorGroup is shut down");
+            }
+            if (!tasks.offer(task)) {
+                throw new RejectedExecutionException();
+            }
+            if (state.compareAndSet(NONE, SUBMITTED)) {
+                try {
+                    group.startRun(this);
+                } catch (Throwable cause) {
+                    state.set(NONE);
+                    throw cause;
+                }
+            }
+        }
+
+        @Override
+        public boolean inEventLoop(Thread thread) {
+            return executingThread.get() == thread;
+        }
+
+        @Override
+        public boolean isShuttingDown() {
+            return group.isShuttingDown();
+        }
+
+        @Override
+        public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+            return group.shutdownGracefully(quietPeriod, timeout, unit);
+        }
+
+        @Override
+        public Future<Void> terminationFuture() {
+            return group.terminationFuture();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return group.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return group.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return group.awaitTermination(timeout, unit);
+        }
+
+        @Override
+        public Future<Void> schedule(Runnable task, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <V> Future<V> schedule(Callable<V> task, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
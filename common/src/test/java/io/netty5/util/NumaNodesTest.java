@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util;
+
+import io.netty5.util.concurrent.DefaultEventExecutorGroup;
+import io.netty5.util.concurrent.DefaultThreadFactory;
+import io.netty5.util.concurrent.SingleThreadEventExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NumaNodesTest {
+
+    @Test
+    public void parsesCpuList() {
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 8, 10, 11 }, NumaNodes.parseCpuList("0-3,8,10-11\n"));
+        assertArrayEquals(new int[] { 5 }, NumaNodes.parseCpuList("5"));
+        assertArrayEquals(new int[0], NumaNodes.parseCpuList("\n"));
+    }
+
+    @Test
+    public void hasAtLeastOneNode() {
+        assertTrue(NumaNodes.nodeCount() >= 1);
+        assertEquals(-1, NumaNodes.nodeOfCpu(-1));
+        assertEquals(0, NumaNodes.cpusOfNode(-1).length);
+    }
+
+    @Test
+    public void recordsCurrentThreadNode() throws Exception {
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            assertEquals(-1, NumaNodes.currentThreadNode());
+            NumaNodes.setCurrentThreadNode(1);
+            assertEquals(1, NumaNodes.currentThreadNode());
+            assertThrows(IllegalArgumentException.class, () -> NumaNodes.setCurrentThreadNode(-2));
+        }, null);
+        new Thread(task).start();
+        task.get();
+    }
+
+    @Test
+    @Timeout(10)
+    public void executorReportsNodeOfItsThread() throws Exception {
+        ThreadFactory delegate = new DefaultThreadFactory(NumaNodesTest.class);
+        ThreadFactory threadFactory = runnable -> delegate.newThread(() -> {
+            NumaNodes.setCurrentThreadNode(3);
+            runnable.run();
+        });
+        DefaultEventExecutorGroup group = new DefaultEventExecutorGroup(1, threadFactory);
+        try {
+            SingleThreadEventExecutor executor = (SingleThreadEventExecutor) group.next();
+            assertEquals(-1, executor.numaNode());
+            executor.submit(() -> { }).asStage().sync();
+            assertEquals(3, executor.numaNode());
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import io.netty5.util.concurrent.EventExecutorChooserFactory.EventExecutorChooser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class EventExecutorChoosersTest {
+
+    private static List<EventExecutor> newExecutors(int count) {
+        List<EventExecutor> executors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Never started, as no task is ever submitted.
+            executors.add(new SingleThreadEventExecutor());
+        }
+        return Collections.unmodifiableList(executors);
+    }
+
+    @Test
+    public void roundRobin() {
+        for (int count : new int[] { 1, 3, 4 }) {
+            List<EventExecutor> executors = newExecutors(count);
+            EventExecutorChooser chooser = EventExecutorChoosers.roundRobin().newChooser(executors);
+            for (int i = 0; i < count * 3; i++) {
+                assertSame(executors.get(i % count), chooser.next());
+            }
+        }
+    }
+
+    @Test
+    public void leastLoadedChoosesLowestLoad() {
+        List<EventExecutor> executors = newExecutors(4);
+        Map<EventExecutor, Long> loads = new IdentityHashMap<>();
+        loads.put(executors.get(0), 10L);
+        loads.put(executors.get(1), 3L);
+        loads.put(executors.get(2), 7L);
+        loads.put(executors.get(3), 5L);
+        EventExecutorChooser chooser = EventExecutorChoosers.leastLoaded(loads::get).newChooser(executors);
+        for (int i = 0; i < 8; i++) {
+            assertSame(executors.get(1), chooser.next());
+        }
+        loads.put(executors.get(3), 1L);
+        assertSame(executors.get(3), chooser.next());
+    }
+
+    @Test
+    public void leastLoadedSpreadsTies() {
+        List<EventExecutor> executors = newExecutors(4);
+        EventExecutorChooser chooser = EventExecutorChoosers.leastLoaded(executor -> 0).newChooser(executors);
+        Set<EventExecutor> chosen = new HashSet<>();
+        for (int i = 0; i < executors.size(); i++) {
+            chosen.add(chooser.next());
+        }
+        assertEquals(executors.size(), chosen.size());
+    }
+
+    @Test
+    public void powerOfTwoChoicesNeverChoosesMostLoaded() {
+        List<EventExecutor> executors = newExecutors(3);
+        Map<EventExecutor, Long> loads = new IdentityHashMap<>();
+        loads.put(executors.get(0), 1L);
+        loads.put(executors.get(1), 2L);
+        loads.put(executors.get(2), 100L);
+        EventExecutorChooser chooser = EventExecutorChoosers.powerOfTwoChoices(loads::get).newChooser(executors);
+        for (int i = 0; i < 1000; i++) {
+            assertNotSame(executors.get(2), chooser.next());
+        }
+    }
+
+    @Test
+    public void leastLoadedGroupAvoidsBusyExecutor() throws Exception {
+        MultithreadEventExecutorGroup group = new MultithreadEventExecutorGroup(2, (Executor) null,
+                SingleThreadEventExecutor.DEFAULT_MAX_PENDING_EXECUTOR_TASKS, RejectedExecutionHandlers.reject(),
+                EventExecutorChoosers.leastLoaded());
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            EventExecutor busy = group.next();
+            busy.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            for (int i = 0; i < 10; i++) {
+                busy.execute(() -> { });
+            }
+            for (int i = 0; i < 10; i++) {
+                assertNotSame(busy, group.next());
+            }
+        } finally {
+            blocked.countDown();
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Queue;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -240,6 +241,45 @@ public class SingleThreadEventExecutorTest {
         });
     }
 
+    @Test
+    public void testLoadCapsPendingTasks() throws Exception {
+        final SingleThreadEventExecutor executor =
+                new SingleThreadEventExecutor(Executors.defaultThreadFactory()) {
+            @Override
+            protected void run() {
+                while (!confirmShutdown()) {
+                    Runnable task = takeTask();
+                    if (task != null) {
+                        task.run();
+                    }
+                }
+            }
+        };
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            assertEquals(0, executor.load());
+            executor.execute(() -> {
+                blocked.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            blocked.await();
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> { });
+            }
+            // The pending tasks add at most 100, like the busy percentage.
+            long load = executor.load();
+            assertThat(load).isBetween(100L, 200L);
+        } finally {
+            unblock.countDown();
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
     private static final class TestRunnable implements Runnable {
         final AtomicBoolean ran = new AtomicBoolean();
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelScheduledTaskQueueTest {
+    private static final Runnable TEST_RUNNABLE = () -> {
+    };
+
+    @Test
+    public void tasksAreRunInDeadlineOrder() {
+        TimingWheelExecutor executor = new TimingWheelExecutor();
+        Random random = new Random(42);
+        int tasks = 10000;
+        for (int i = 0; i < tasks; i++) {
+            // Spread the deadlines over all levels of the wheel, and beyond it.
+            long delay = (long) Math.pow(2, random.nextDouble() * 50);
+            executor.schedule(TEST_RUNNABLE, delay, TimeUnit.NANOSECONDS);
+        }
+        assertEquals(tasks, executor.scheduledTaskQueue().size());
+
+        int polled = 0;
+        long lastDeadline = 0;
+        while (polled < tasks) {
+            long next = executor.nextScheduledTaskNano();
+            assertTrue(next >= 0);
+            if (next > 0) {
+                // Nothing is due before the next deadline.
+                assertNull(executor.pollScheduledTask());
+            }
+            executor.ticker.advance(next, TimeUnit.NANOSECONDS);
+            RunnableScheduledFuture<?> task;
+            while ((task = executor.pollScheduledTask()) != null) {
+                assertTrue(task.deadlineNanos() >= lastDeadline);
+                assertTrue(task.deadlineNanos() <= executor.ticker.nanoTime());
+                lastDeadline = task.deadlineNanos();
+                polled++;
+            }
+        }
+        assertTrue(executor.scheduledTaskQueue().isEmpty());
+        assertEquals(-1, executor.nextScheduledTaskNano());
+    }
+
+    @Test
+    public void cancelledTasksAreRemoved() {
+        TimingWheelExecutor executor = new TimingWheelExecutor();
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            futures.add(executor.schedule(TEST_RUNNABLE, i, TimeUnit.SECONDS));
+        }
+        for (int i = 0; i < futures.size(); i += 2) {
+            assertTrue(futures.get(i).cancel());
+        }
+        assertEquals(500, executor.scheduledTaskQueue().size());
+        assertFalse(executor.scheduledTaskQueue().contains(futures.get(0)));
+        assertTrue(executor.scheduledTaskQueue().contains(futures.get(1)));
+
+        executor.ticker.advance(1000, TimeUnit.SECONDS);
+        for (int i = 1; i < futures.size(); i += 2) {
+            assertSame(futures.get(i), executor.pollScheduledTask());
+        }
+        assertNull(executor.pollScheduledTask());
+    }
+
+    @Test
+    public void nearTaskIsRunBeforeDistantOnes() {
+        TimingWheelExecutor executor = new TimingWheelExecutor();
+        executor.schedule(TEST_RUNNABLE, 1, TimeUnit.HOURS);
+        executor.schedule(TEST_RUNNABLE, 30, TimeUnit.SECONDS);
+        assertEquals(TimeUnit.SECONDS.toNanos(30), executor.nextScheduledTaskNano());
+        Future<Void> near = executor.schedule(TEST_RUNNABLE, 1, TimeUnit.MILLISECONDS);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), executor.nextScheduledTaskNano());
+        executor.ticker.advance(1, TimeUnit.MILLISECONDS);
+        assertSame(near, executor.pollScheduledTask());
+        assertNull(executor.pollScheduledTask());
+    }
+
+    private static final class TimingWheelExecutor extends AbstractScheduledEventExecutor {
+        final MockTicker ticker = Ticker.newMockTicker();
+
+        TimingWheelExecutor() {
+            super(true);
+        }
+
+        @Override
+        protected Ticker ticker() {
+            return ticker;
+        }
+
+        @Override
+        public boolean isShuttingDown() {
+            return false;
+        }
+
+        @Override
+        public boolean inEventLoop(Thread thread) {
+            return true;
+        }
+
+        @Override
+        public Future<Void> shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> terminationFuture() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return false;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
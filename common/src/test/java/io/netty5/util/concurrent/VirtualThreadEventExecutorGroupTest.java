@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.util.concurrent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadEventExecutorGroupTest {
+
+    private static VirtualThreadEventExecutorGroup newGroup(boolean threadPerTask, int maxTaskExecutePerRun) {
+        // A thread per task behaves like virtual threads, but works on every runtime.
+        return new VirtualThreadEventExecutorGroup(threadPerTask ? new DefaultThreadFactory("test") : null,
+                2, maxTaskExecutePerRun);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    @Timeout(10)
+    public void preservesOrderPerExecutor(boolean threadPerTask) throws Exception {
+        VirtualThreadEventExecutorGroup group = newGroup(threadPerTask, 8);
+        try {
+            int executors = 16;
+            int tasks = 1000;
+            List<List<Integer>> results = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(executors * tasks);
+            for (int i = 0; i < executors; i++) {
+                EventExecutor executor = group.next();
+                assertTrue(executor instanceof OrderedEventExecutor);
+                List<Integer> result = new CopyOnWriteArrayList<>();
+                results.add(result);
+                for (int j = 0; j < tasks; j++) {
+                    int value = j;
+                    executor.execute(() -> {
+                        assertTrue(executor.inEventLoop());
+                        result.add(value);
+                        done.countDown();
+                    });
+                }
+            }
+            done.await();
+            for (List<Integer> result : results) {
+                assertEquals(tasks, result.size());
+                for (int j = 0; j < tasks; j++) {
+                    assertEquals(j, result.get(j));
+                }
+            }
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void blockedExecutorDoesNotBlockOthers() throws Exception {
+        VirtualThreadEventExecutorGroup group = newGroup(true, 1024);
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            // More blocked executors than there would be platform threads.
+            int blocked = 64;
+            CountDownLatch allBlocked = new CountDownLatch(blocked);
+            for (int i = 0; i < blocked; i++) {
+                group.next().execute(() -> {
+                    allBlocked.countDown();
+                    try {
+                        unblock.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(allBlocked.await(5, TimeUnit.SECONDS));
+            group.next().submit(() -> { }).asStage().sync();
+        } finally {
+            unblock.countDown();
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void shutdownRunsAcceptedTasksAndRejectsNewOnes() throws Exception {
+        VirtualThreadEventExecutorGroup group = newGroup(false, 1024);
+        EventExecutor executor = group.next();
+        assertNotSame(executor, group.next());
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch ran = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(ran::countDown);
+
+        Future<Void> termination = group.shutdownGracefully();
+        assertTrue(group.isShuttingDown());
+        assertTrue(executor.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertThrows(RejectedExecutionException.class, () -> group.next().execute(() -> { }));
+        assertFalse(termination.isDone());
+
+        unblock.countDown();
+        termination.asStage().sync();
+        assertEquals(0, ran.getCount());
+        assertTrue(group.isTerminated());
+    }
+
+    @Test
+    public void schedulingIsNotSupported() {
+        VirtualThreadEventExecutorGroup group = newGroup(false, 1024);
+        try {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> group.next().schedule(() -> { }, 1, TimeUnit.SECONDS));
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+}
@@ -31,6 +31,10 @@ import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+/**
+ * Run with {@code -prof gc} to compare the allocations per write ({@code gc.alloc.rate.norm}) of
+ * {@link ChannelPipeline#writeAndFlush(Object)} and {@link ChannelPipeline#writeAndFlushVoid(Object)}.
+ */
 @Warmup(iterations = 5)
 @Measurement(iterations = 5)
 @State(Scope.Benchmark)
@@ -55,14 +59,21 @@ public class DefaultChannelPipelineBenchmark extends AbstractMicrobenchmark {
         }
     };
 
+    private static final Object MESSAGE = new Object();
+
     @Param({ "4" })
     public int extraHandlers;
 
+    @Param({ "false", "true" })
+    public boolean voidWrites;
+
+    private EmbeddedChannel channel;
     private ChannelPipeline pipeline;
 
     @Setup(Level.Iteration)
     public void setup() {
-        pipeline = new EmbeddedChannel().pipeline();
+        channel = new EmbeddedChannel();
+        pipeline = channel.pipeline();
         for (int i = 0; i < extraHandlers; i++) {
             pipeline.addLast(NOOP_HANDLER);
         }
@@ -80,4 +91,18 @@ public class DefaultChannelPipelineBenchmark extends AbstractMicrobenchmark {
             hole.consume(pipeline.fireChannelReadComplete());
         }
     }
+
+    @Benchmark
+    public void writeAndFlush(Blackhole hole) {
+        if (voidWrites) {
+            for (int i = 0; i < 100; i++) {
+                pipeline.writeAndFlushVoid(MESSAGE);
+            }
+        } else {
+            for (int i = 0; i < 100; i++) {
+                hole.consume(pipeline.writeAndFlush(MESSAGE));
+            }
+        }
+        channel.outboundMessages().clear();
+    }
 }
@@ -48,6 +48,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -185,6 +186,7 @@ public class BurstCostExecutorsBenchmark extends AbstractMicrobenchmark {
     private enum ExecutorType {
         spinning,
         defaultEventExecutor,
+        blockingQueueEventExecutor,
         juc,
         nioEventLoop,
         epollEventLoop,
@@ -193,7 +195,8 @@ public class BurstCostExecutorsBenchmark extends AbstractMicrobenchmark {
 
     @Param({ "1", "10" })
     private int burstLength;
-    @Param({ "spinning", "epollEventLoop", "nioEventLoop", "defaultEventExecutor", "juc", "kqueueEventLoop" })
+    @Param({ "spinning", "epollEventLoop", "nioEventLoop", "defaultEventExecutor", "blockingQueueEventExecutor", "juc",
+            "kqueueEventLoop" })
     private String executorType;
     @Param({ "0", "10" })
     private int work;
@@ -217,6 +220,17 @@ public class BurstCostExecutorsBenchmark extends AbstractMicrobenchmark {
             executor = new SingleThreadEventExecutor();
             executorToShutdown = executor;
             break;
+        case blockingQueueEventExecutor:
+            // The task queue that SingleThreadEventExecutor used before it switched to a lock-free MPSC queue, to
+            // compare a blocking take() against parking the executor thread.
+            executor = new SingleThreadEventExecutor() {
+                @Override
+                protected Queue<Runnable> newTaskQueue(int maxPendingTasks) {
+                    return new LinkedBlockingQueue<>(maxPendingTasks);
+                }
+            };
+            executorToShutdown = executor;
+            break;
         case juc:
             executor = new UnorderedThreadPoolEventExecutor(1);
             executorToShutdown = executor;
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.microbench.concurrent;
+
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.local.LocalHandler;
+import io.netty5.microbench.util.AbstractMicrobenchmark;
+import io.netty5.util.concurrent.EventExecutorChoosers;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.RejectedExecutionHandlers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary heap and the timing wheel for scheduled tasks, with many timeouts that are rescheduled before
+ * they are due, like the ones of idle and read timeout handlers.
+ */
+@State(Scope.Benchmark)
+public class ScheduledTaskQueueBenchmark extends AbstractMicrobenchmark {
+    private static final Runnable NO_OP = () -> { };
+
+    @Param({ "false", "true" })
+    public boolean timingWheel;
+
+    @Param({ "1000", "100000" })
+    public int timeouts;
+
+    // Reschedule a batch of timeouts per invocation, so the cost of submitting to the event loop is amortized.
+    @Param("1000")
+    public int batch;
+
+    private EventLoopGroup group;
+    private EventLoop loop;
+    private Future<Void>[] futures;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Exception {
+        group = new MultithreadEventLoopGroup(1, (Executor) null, LocalHandler.newFactory(),
+                Integer.MAX_VALUE, RejectedExecutionHandlers.reject(), 1024, EventExecutorChoosers.roundRobin(),
+                timingWheel);
+        loop = group.next();
+        futures = new Future[timeouts];
+        loop.submit(() -> {
+            for (int i = 0; i < timeouts; i++) {
+                futures[i] = loop.schedule(NO_OP, timeoutMillis(), TimeUnit.MILLISECONDS);
+            }
+        }).asStage().sync();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        loop.submit(() -> {
+            for (Future<Void> future : futures) {
+                future.cancel();
+            }
+        }).asStage().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+    }
+
+    private static long timeoutMillis() {
+        // Between 30 and 60 seconds, so no timeout ever fires during a run.
+        return ThreadLocalRandom.current().nextLong(30000, 60000);
+    }
+
+    @Benchmark
+    public Object rescheduleTimeouts() throws Exception {
+        return loop.submit(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < batch; i++) {
+                int index = random.nextInt(timeouts);
+                futures[index].cancel();
+                futures[index] = loop.schedule(NO_OP, timeoutMillis(), TimeUnit.MILLISECONDS);
+            }
+        }).asStage().sync().future();
+    }
+
+    @Benchmark
+    public Object rescheduleTimeoutsWithNearTasks() throws Exception {
+        return loop.submit(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < batch; i++) {
+                int index = random.nextInt(timeouts);
+                futures[index].cancel();
+                futures[index] = loop.schedule(NO_OP, timeoutMillis(), TimeUnit.MILLISECONDS);
+                if ((i & 15) == 0) {
+                    // A short delay that the event loop has to wake up for, mixed in with the long timeouts.
+                    loop.schedule(NO_OP, 1, TimeUnit.MILLISECONDS);
+                }
+            }
+        }).asStage().sync().future();
+    }
+}
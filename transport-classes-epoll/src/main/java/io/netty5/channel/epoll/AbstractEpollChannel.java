@@ -289,7 +289,24 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
     }
 
     final void epollInReady() {
-        readNow();
+        if (!spliceInReady()) {
+            readNow();
+        }
+    }
+
+    /**
+     * Called once EPOLLIN or EPOLLRDHUP is ready, before anything is read. Returns {@code true} if a splice from this
+     * channel consumed the event, in which case nothing must be read.
+     */
+    boolean spliceInReady() {
+        return false;
+    }
+
+    /**
+     * Called once EPOLLOUT is ready, before flushed messages are written, to resume a splice into this channel that
+     * was waiting for the socket to become writable.
+     */
+    void spliceOutReady() {
     }
 
     @Override
@@ -350,6 +367,9 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
         // Clear the EPOLLRDHUP flag to prevent continuously getting woken up on this event.
         clearEpollRdHup();
 
+        if (spliceInReady()) {
+            return;
+        }
         if (isActive()) {
             // If it is still active, we need to call read() as otherwise we may miss to
             // read pending data from the underlying file descriptor.
@@ -379,6 +399,13 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
         return isFlagSet(Native.EPOLLOUT);
     }
 
+    /**
+     * Called once a EPOLLERR event is ready to be processed, before {@link #epollOutReady()} and
+     * {@link #epollInReady()} are called for it.
+     */
+    void epollErrReady() {
+    }
+
     /**
      * Called once a EPOLLOUT event is ready to be processed
      */
@@ -387,6 +414,7 @@ abstract class AbstractEpollChannel<P extends UnixChannel>
             // pending connect which is now complete so handle it.
             finishConnect();
         } else if (!socket.isOutputShutdown()) {
+            spliceOutReady();
             // directly call writeFlushedNow() to force a flush now
             writeFlushedNow();
         }
@@ -52,6 +52,15 @@ public final class EpollChannelOption<T> extends UnixChannelOption<T> {
     public static final ChannelOption<Integer> MAX_DATAGRAM_PAYLOAD_SIZE = valueOf("MAX_DATAGRAM_PAYLOAD_SIZE");
     public static final ChannelOption<Boolean> UDP_GRO = valueOf("UDP_GRO");
 
+    /**
+     * Buffers with at least this many readable bytes are written with {@code MSG_ZEROCOPY}, which enables
+     * {@code SO_ZEROCOPY} on the socket. The write promise of such a buffer is only completed, and the buffer
+     * released, once the kernel reports on the error queue of the socket that it no longer references the memory.
+     * A value of {@code 0} (the default) disables zero-copy writes.
+     */
+    public static final ChannelOption<Integer> MSG_ZEROCOPY_THRESHOLD =
+            valueOf(EpollChannelOption.class, "MSG_ZEROCOPY_THRESHOLD");
+
     /**
      * Returns the {@code TCP_INFO} for the current socket.
      * See <a href="https://linux.die.net//man/7/tcp">man 7 tcp</a>.
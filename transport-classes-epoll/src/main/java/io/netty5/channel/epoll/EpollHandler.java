@@ -373,7 +373,15 @@ public class EpollHandler implements IoHandler {
             }
             if (strategy > 0) {
                 handled = strategy;
-                if (processReady(events, strategy)) {
+                boolean timerFired;
+                if (context.shouldReportActiveIoTime()) {
+                    long activeIoStartTime = System.nanoTime();
+                    timerFired = processReady(events, strategy);
+                    context.reportActiveIoTime(System.nanoTime() - activeIoStartTime);
+                } else {
+                    timerFired = processReady(events, strategy);
+                }
+                if (timerFired) {
                     prevDeadlineNanos = NONE;
                 }
             }
@@ -443,6 +451,10 @@ public class EpollHandler implements IoHandler {
                     // In either case epollOutReady() will do the correct thing (finish connecting, or fail
                     // the connection).
                     // See https://github.com/netty/netty/issues/3848
+                    if ((ev & Native.EPOLLERR) != 0) {
+                        // Harvest completions from the error queue, like those of zero-copy sends.
+                        ch.epollErrReady();
+                    }
                     if ((ev & (Native.EPOLLERR | Native.EPOLLOUT)) != 0) {
                         // Force flush of data as the epoll is writable again
                         ch.epollOutReady();
@@ -51,6 +51,7 @@ import static io.netty5.channel.ChannelOption.SO_REUSEADDR;
 import static io.netty5.channel.ChannelOption.TCP_FASTOPEN;
 import static io.netty5.channel.epoll.Native.IS_SUPPORTING_TCP_FASTOPEN_SERVER;
 import static io.netty5.channel.unix.NativeInetAddress.address;
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
 import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 
 /**
@@ -75,6 +76,8 @@ import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
  * </tr><tr>
  * <td>{@link UnixChannelOption#SO_REUSEPORT}</td><td>X</td><td>X</td><td>-</td>
  * </tr><tr>
+ * <td>{@link UnixChannelOption#SO_REUSEPORT_CPU_STEERING}</td><td>X</td><td>X</td><td>-</td>
+ * </tr><tr>
  * <td>{@link EpollChannelOption#IP_FREEBIND}</td><td>X</td><td>X</td><td>-</td>
  * </tr><tr>
  * <td>{@link EpollChannelOption#TCP_DEFER_ACCEPT}</td><td>X</td><td>X</td><td>-</td>
@@ -99,6 +102,7 @@ public final class EpollServerSocketChannel
 
     private volatile int backlog = NetUtil.SOMAXCONN;
     private volatile int pendingFastOpenRequestsThreshold;
+    private volatile int reusePortCpuSteering;
 
     private volatile Collection<InetAddress> tcpMd5SigAddresses = Collections.emptyList();
 
@@ -161,6 +165,9 @@ public final class EpollServerSocketChannel
             if (option == UnixChannelOption.SO_REUSEPORT) {
                 return (T) Boolean.valueOf(isReusePort());
             }
+            if (option == UnixChannelOption.SO_REUSEPORT_CPU_STEERING) {
+                return (T) Integer.valueOf(reusePortCpuSteering);
+            }
             if (option == EpollChannelOption.TCP_MD5SIG) {
                 return null;
             }
@@ -187,6 +194,8 @@ public final class EpollServerSocketChannel
                 setTcpDeferAccept((Integer) value);
             } else if (option == UnixChannelOption.SO_REUSEPORT) {
                 setReusePort((Boolean) value);
+            } else if (option == UnixChannelOption.SO_REUSEPORT_CPU_STEERING) {
+                setReusePortCpuSteering((Integer) value);
             } else if (option == EpollChannelOption.TCP_MD5SIG) {
                 setTcpMd5Sig((Map<InetAddress, byte[]>) value);
             }
@@ -210,7 +219,7 @@ public final class EpollServerSocketChannel
     private static Set<ChannelOption<?>> supportedOptions() {
         return newSupportedIdentityOptionsSet(SO_RCVBUF, SO_REUSEADDR, SO_BACKLOG, TCP_FASTOPEN,
                 EpollChannelOption.TCP_MD5SIG, EpollChannelOption.SO_REUSEPORT, EpollChannelOption.IP_FREEBIND,
-                EpollChannelOption.TCP_DEFER_ACCEPT);
+                EpollChannelOption.TCP_DEFER_ACCEPT, UnixChannelOption.SO_REUSEPORT_CPU_STEERING);
     }
 
     private static Set<ChannelOption<?>> supportedOptionsDomainSocket() {
@@ -241,6 +250,16 @@ public final class EpollServerSocketChannel
         }
     }
 
+    private void setReusePortCpuSteering(int groupSize) {
+        checkPositive(groupSize, "groupSize");
+        try {
+            socket.setReusePortCpuSteering(groupSize);
+            reusePortCpuSteering = groupSize;
+        } catch (IOException e) {
+            throw new ChannelException(e);
+        }
+    }
+
     private boolean isReusePort() {
         try {
             return socket.isReusePort();
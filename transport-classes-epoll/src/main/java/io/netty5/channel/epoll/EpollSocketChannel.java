@@ -41,15 +41,21 @@ import io.netty5.channel.unix.UnixChannelUtil;
 import io.netty5.util.Resource;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.GlobalEventExecutor;
+import io.netty5.util.concurrent.Promise;
 import io.netty5.util.internal.StringUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
 import java.net.ProtocolFamily;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.NotYetConnectedException;
 import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
@@ -66,6 +72,8 @@ import static io.netty5.channel.ChannelOption.TCP_NODELAY;
 import static io.netty5.channel.epoll.Native.IS_SUPPORTING_TCP_FASTOPEN_CLIENT;
 import static io.netty5.channel.unix.Limits.SSIZE_MAX;
 import static io.netty5.channel.unix.UnixChannelOption.DOMAIN_SOCKET_READ_MODE;
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -103,6 +111,8 @@ import static java.util.Objects.requireNonNull;
  * </tr><tr>
  * <td>{@link EpollChannelOption#TCP_INFO}</td><td>X</td><td>X</td><td>-</td>
  * </tr><tr>
+ * <td>{@link EpollChannelOption#MSG_ZEROCOPY_THRESHOLD}</td><td>X</td><td>X</td><td>-</td>
+ * </tr><tr>
  * <td>{@link ChannelOption#TCP_FASTOPEN_CONNECT}</td><td>X</td><td>X</td><td>-</td>
  * </tr><tr>
  * <td>{@link EpollChannelOption#IP_TRANSPARENT}</td><td>X</td><td>X</td><td>-</td>
@@ -118,6 +128,10 @@ import static java.util.Objects.requireNonNull;
 public final class EpollSocketChannel
         extends AbstractEpollChannel<EpollServerSocketChannel>
         implements SocketChannel {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EpollSocketChannel.class);
+
+    // The default capacity of a pipe.
+    private static final int SPLICE_PIPE_SIZE = 65536;
 
     private static final Set<ChannelOption<?>> SUPPORTED_OPTIONS = supportedOptions();
     private static final Set<ChannelOption<?>> SUPPORTED_OPTIONS_DOMAIN_SOCKET = supportedOptionsDomainSocket();
@@ -134,6 +148,22 @@ public final class EpollSocketChannel
 
     private volatile boolean tcpFastopen;
 
+    private volatile int zeroCopyThreshold;
+    // Set if SO_ZEROCOPY can not be enabled, or if the kernel copies the bytes of zero-copy sends anyway.
+    private volatile boolean zeroCopyDisabled;
+    // Sequence number of the next zero-copy send, and of the first send that the kernel did not report as completed.
+    private int zeroCopyNextSeq;
+    private int zeroCopyCompletedSeq;
+    // Fully sent buffers that wait for the kernel to complete their zero-copy sends, in sequence order.
+    private ArrayDeque<ZeroCopyWrite> zeroCopyWrites;
+    private int[] zeroCopyCompletion;
+    private Buffer zeroCopyConsume;
+
+    // The splice from this channel, if any.
+    private SpliceTask spliceTask;
+    // The splice into this channel that waits for EPOLLOUT, if any.
+    private SpliceTask spliceOutWaiter;
+
     public EpollSocketChannel(EventLoop eventLoop) {
         this(eventLoop, (ProtocolFamily) null);
     }
@@ -284,11 +314,109 @@ public final class EpollSocketChannel
         }
     }
 
+    /**
+     * Write bytes from the given {@link Buffer} with {@code MSG_ZEROCOPY}. Once the buffer is fully sent, it is
+     * consumed from the outbound buffer, but only released when the kernel reports that the sends are complete.
+     * @param writeSink the {@link WriteSink} used to track write results.
+     */
+    private void writeBytesZeroCopy(WriteSink writeSink) throws Exception {
+        Buffer buf = (Buffer) writeSink.currentFlushedMessage();
+        int readableBytes = buf.readableBytes();
+        long address;
+        try (var iteration = buf.forEachComponent()) {
+            address = iteration.firstReadable().readableNativeAddress();
+        }
+        int written = socket.sendZeroCopy(address, readableBytes);
+        if (written < 0) {
+            // The kernel can not track more zero-copy sends until it reported some completions, so copy this time.
+            writeBytes(writeSink);
+            return;
+        }
+        if (written == 0) {
+            writeSink.complete(readableBytes, 0, 0, false);
+            return;
+        }
+        zeroCopyNextSeq++;
+        buf.skipReadableBytes(written);
+        if (written == readableBytes) {
+            zeroCopyConsume = buf;
+            writeSink.consumeEachFlushedMessage(this::consumeZeroCopyWrite);
+        }
+        writeSink.complete(readableBytes, written, 0, true);
+    }
+
+    private boolean consumeZeroCopyWrite(Object msg, Promise<Void> promise) {
+        if (msg != zeroCopyConsume) {
+            return false;
+        }
+        zeroCopyConsume = null;
+        zeroCopyWrites.add(new ZeroCopyWrite((Buffer) msg, promise, zeroCopyNextSeq));
+        promise.asFuture().addListener(f -> updateWritabilityIfNeeded(true, true));
+        return true;
+    }
+
+    private boolean isZeroCopyCandidate(Object msg) {
+        int threshold = zeroCopyThreshold;
+        if (threshold == 0 || zeroCopyDisabled || !(msg instanceof Buffer)) {
+            return false;
+        }
+        Buffer buf = (Buffer) msg;
+        return buf.readableBytes() >= threshold && buf.countReadableComponents() == 1;
+    }
+
+    @Override
+    void epollErrReady() {
+        if (zeroCopyCompletedSeq == zeroCopyNextSeq) {
+            return;
+        }
+        try {
+            completeZeroCopyWrites();
+        } catch (IOException e) {
+            pipeline().fireChannelExceptionCaught(e);
+            closeTransport(newPromise());
+        }
+    }
+
+    private void completeZeroCopyWrites() throws IOException {
+        // The sends of a TCP socket are reported in order, and the kernel merges adjacent ranges.
+        while (socket.recvZeroCopyCompletion(zeroCopyCompletion)) {
+            int end = zeroCopyCompletion[1] + 1;
+            if (end - zeroCopyCompletedSeq > 0) {
+                zeroCopyCompletedSeq = end;
+            }
+            if (zeroCopyCompletion[2] != 0) {
+                // The kernel copied the bytes after all, like on loopback, so zero-copy only adds overhead.
+                zeroCopyDisabled = true;
+            }
+        }
+        ZeroCopyWrite write;
+        while ((write = zeroCopyWrites.peek()) != null && zeroCopyCompletedSeq - write.endSeq >= 0) {
+            zeroCopyWrites.poll();
+            Resource.dispose(write.buffer);
+            write.promise.trySuccess(null);
+        }
+    }
+
+    private void failZeroCopyWrites() {
+        if (zeroCopyWrites != null && !zeroCopyWrites.isEmpty()) {
+            // The kernel may still send the memory of these buffers after the socket was closed, but we can no longer
+            // learn when it is done. Releasing them could hand pooled memory to another allocation while it is still
+            // being sent, so they are left to the garbage collector instead, whose Cleaner releases their memory once
+            // they are unreachable. The leak detector may report them.
+            ClosedChannelException cause = new ClosedChannelException();
+            ZeroCopyWrite write;
+            while ((write = zeroCopyWrites.poll()) != null) {
+                write.promise.tryFailure(cause);
+            }
+        }
+    }
+
     @Override
     protected void doWriteNow(WriteSink writeSink) throws Exception {
         final int msgCount = writeSink.numFlushedMessages();
+        final Object msg = writeSink.currentFlushedMessage();
         // Do gathering write if the outbound buffer entries start with more than one Buffer.
-        if (msgCount > 1 && writeSink.currentFlushedMessage() instanceof Buffer) {
+        if (msgCount > 1 && msg instanceof Buffer && !isZeroCopyCandidate(msg)) {
             doWriteMultiple(writeSink);
         } else {
             doWriteSingle(writeSink);
@@ -317,7 +445,11 @@ public final class EpollSocketChannel
         }
 
         if (msg instanceof Buffer) {
-            writeBytes(writeSink);
+            if (isZeroCopyCandidate(msg)) {
+                writeBytesZeroCopy(writeSink);
+            } else {
+                writeBytes(writeSink);
+            }
         } else if (msg instanceof DefaultFileRegion) {
             writeDefaultFileRegion(writeSink);
         } else if (msg instanceof FileRegion) {
@@ -337,7 +469,12 @@ public final class EpollSocketChannel
     private void doWriteMultiple(WriteSink writeSink) throws Exception {
         IovArray array = registration().cleanIovArray();
         array.maxBytes(writeSink.estimatedMaxBytesPerGatheringWrite());
-        writeSink.forEachFlushedMessage(array);
+        if (zeroCopyThreshold > 0) {
+            // Stop gathering at the next buffer that is written with MSG_ZEROCOPY.
+            writeSink.forEachFlushedMessage(msg -> !isZeroCopyCandidate(msg) && array.test(msg));
+        } else {
+            writeSink.forEachFlushedMessage(array);
+        }
 
         if (array.count() >= 1) {
             long result = writeBytesMultiple(array);
@@ -350,6 +487,169 @@ public final class EpollSocketChannel
         }
     }
 
+    /**
+     * Splice up to {@code length} bytes from this channel into the given target channel. The bytes are moved through a
+     * pipe that is owned by the splice, so they are never copied into user space.
+     * <p>
+     * Both channels must be registered on the same event loop. This channel must not read while the splice is in
+     * progress, so {@link ChannelOption#AUTO_READ} must be disabled and {@link #read()} must not be called. Nothing
+     * else should be written to the target either, as those writes would interleave with the spliced bytes.
+     * <p>
+     * Bytes are only taken from this channel while there is room in the pipe, so a target that is not writable stops
+     * the reads from this channel until the target drains, and the usual TCP flow control applies to the sender.
+     * <p>
+     * If this channel reaches EOF before {@code length} bytes were spliced, the splice completes early. The half-close
+     * is relayed by shutting down the output of the target, if {@code shutdownOutputOnEof} is {@code true}.
+     *
+     * @param target the channel to splice the bytes into.
+     * @param length the number of bytes to splice, or {@link Long#MAX_VALUE} to splice until EOF.
+     * @param shutdownOutputOnEof {@code true} if the output of the target should be shut down when this channel
+     *                            reaches EOF.
+     * @return a future that is completed with the number of bytes spliced into the target.
+     */
+    public Future<Long> spliceTo(EpollSocketChannel target, long length, boolean shutdownOutputOnEof) {
+        requireNonNull(target, "target");
+        checkPositive(length, "length");
+        Promise<Long> promise = newPromise();
+        if (target == this) {
+            promise.setFailure(new IllegalArgumentException("can not splice a channel into itself"));
+        } else if (target.executor() != executor()) {
+            promise.setFailure(new IllegalArgumentException("target must be registered on the same event loop"));
+        } else {
+            spliceTo(promise, () -> new SpliceTask(target, null, -1, length, shutdownOutputOnEof, promise));
+        }
+        return promise.asFuture();
+    }
+
+    /**
+     * Splice up to {@code length} bytes from this channel into the given file descriptor, through a pipe that is
+     * owned by the splice. The file descriptor is written from the event loop, so it should be a regular file.
+     * <p>
+     * This channel must not read while the splice is in progress, so {@link ChannelOption#AUTO_READ} must be
+     * disabled and {@link #read()} must not be called. If this channel reaches EOF before {@code length} bytes were
+     * spliced, the splice completes early.
+     *
+     * @param fd the file descriptor to splice the bytes into.
+     * @param offset the offset in the file to write at, or {@code -1} to write at the current position of the
+     *               file descriptor.
+     * @param length the number of bytes to splice, or {@link Long#MAX_VALUE} to splice until EOF.
+     * @return a future that is completed with the number of bytes spliced into the file descriptor.
+     */
+    public Future<Long> spliceTo(FileDescriptor fd, long offset, long length) {
+        requireNonNull(fd, "fd");
+        if (offset < -1) {
+            throw new IllegalArgumentException("offset: " + offset + " (expected: >= -1)");
+        }
+        checkPositive(length, "length");
+        Promise<Long> promise = newPromise();
+        spliceTo(promise, () -> new SpliceTask(null, fd, offset, length, false, promise));
+        return promise.asFuture();
+    }
+
+    private void spliceTo(Promise<Long> promise, SpliceTaskFactory factory) {
+        if (executor().inEventLoop()) {
+            spliceTo0(promise, factory);
+        } else {
+            executor().execute(() -> spliceTo0(promise, factory));
+        }
+    }
+
+    private void spliceTo0(Promise<Long> promise, SpliceTaskFactory factory) {
+        if (!isActive()) {
+            promise.setFailure(new ClosedChannelException());
+            return;
+        }
+        if (spliceTask != null) {
+            promise.setFailure(new IllegalStateException("splice already in progress"));
+            return;
+        }
+        if (getOption(ChannelOption.AUTO_READ)) {
+            promise.setFailure(new IllegalStateException("AUTO_READ must be disabled while splicing"));
+            return;
+        }
+        SpliceTask task;
+        try {
+            task = factory.newSpliceTask();
+            if (task.target != null && !task.target.isActive()) {
+                task.closePipe();
+                promise.setFailure(new ClosedChannelException());
+                return;
+            }
+            spliceTask = task;
+            setFlag(Native.EPOLLIN);
+        } catch (IOException e) {
+            if (spliceTask != null) {
+                spliceTask.fail(e);
+            } else {
+                promise.setFailure(e);
+            }
+            return;
+        }
+        // We use edge-triggered mode, so there may already be bytes that we will not be notified about.
+        task.run();
+    }
+
+    @Override
+    boolean spliceInReady() {
+        if (spliceTask == null) {
+            return false;
+        }
+        spliceTask.run();
+        return true;
+    }
+
+    @Override
+    void spliceOutReady() {
+        SpliceTask waiter = spliceOutWaiter;
+        if (waiter != null) {
+            spliceOutWaiter = null;
+            waiter.run();
+            if (spliceOutWaiter == null) {
+                try {
+                    clearFlag(Native.EPOLLOUT);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error while trying to update flags", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void writeLoopComplete(boolean allWritten) {
+        super.writeLoopComplete(allWritten);
+        if (allWritten && spliceOutWaiter != null) {
+            // A splice into this channel still waits for EPOLLOUT.
+            try {
+                setFlag(Native.EPOLLOUT);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while trying to update flags", e);
+            }
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (zeroCopyWrites != null && !zeroCopyWrites.isEmpty()) {
+            // Release the zero-copy writes that completed, while the error queue of the socket can still be read.
+            try {
+                completeZeroCopyWrites();
+            } catch (IOException e) {
+                LOGGER.debug("Failed to read zero-copy completions before closing {}", this, e);
+            }
+        }
+        try {
+            super.doClose();
+        } finally {
+            if (spliceTask != null) {
+                spliceTask.fail(new ClosedChannelException());
+            }
+            if (spliceOutWaiter != null) {
+                spliceOutWaiter.fail(new ClosedChannelException());
+            }
+            failZeroCopyWrites();
+        }
+    }
+
     @Override
     protected Object filterOutboundMessage(Object msg) {
         if (socket.protocolFamily() == SocketProtocolFamily.UNIX && msg instanceof FileDescriptor) {
@@ -532,6 +832,9 @@ public final class EpollSocketChannel
             if (option == EpollChannelOption.TCP_INFO) {
                 return (T) getTcpInfo();
             }
+            if (option == EpollChannelOption.MSG_ZEROCOPY_THRESHOLD) {
+                return (T) Integer.valueOf(zeroCopyThreshold);
+            }
             if (option == UnixChannelOption.SO_PEERCRED) {
                 return (T) getPeerCredentials();
             }
@@ -583,6 +886,8 @@ public final class EpollSocketChannel
                 setSoBusyPoll((Integer) value);
             } else if (option == DOMAIN_SOCKET_READ_MODE) {
                 setReadMode((DomainSocketReadMode) value);
+            } else if (option == EpollChannelOption.MSG_ZEROCOPY_THRESHOLD) {
+                setZeroCopyThreshold((Integer) value);
             } else if (option == EpollChannelOption.TCP_INFO) {
                 throw new UnsupportedOperationException("read-only option: " + option);
             } else if (option == UnixChannelOption.SO_PEERCRED) {
@@ -611,7 +916,8 @@ public final class EpollSocketChannel
                 EpollChannelOption.TCP_KEEPINTVL, EpollChannelOption.TCP_USER_TIMEOUT,
                 EpollChannelOption.IP_TRANSPARENT, EpollChannelOption.TCP_MD5SIG, EpollChannelOption.TCP_QUICKACK,
                 ChannelOption.TCP_FASTOPEN_CONNECT, EpollChannelOption.SO_BUSY_POLL,
-                EpollChannelOption.TCP_NOTSENT_LOWAT, EpollChannelOption.TCP_INFO);
+                EpollChannelOption.TCP_NOTSENT_LOWAT, EpollChannelOption.TCP_INFO,
+                EpollChannelOption.MSG_ZEROCOPY_THRESHOLD);
     }
 
     private static Set<ChannelOption<?>> supportedOptionsDomainSocket() {
@@ -823,6 +1129,26 @@ public final class EpollSocketChannel
         }
     }
 
+    /**
+     * Set the minimum size of buffers that are written with {@code MSG_ZEROCOPY}, enabling {@code SO_ZEROCOPY} on the
+     * socket the first time. See {@link EpollChannelOption#MSG_ZEROCOPY_THRESHOLD} for more details.
+     */
+    private void setZeroCopyThreshold(int zeroCopyThreshold) {
+        checkPositiveOrZero(zeroCopyThreshold, "zeroCopyThreshold");
+        if (zeroCopyThreshold > 0 && zeroCopyWrites == null) {
+            try {
+                socket.setSoZeroCopy(true);
+            } catch (IOException e) {
+                // SO_ZEROCOPY is only supported since linux 4.14, keep on copying the bytes.
+                LOGGER.debug("Failed to enable SO_ZEROCOPY, zero-copy writes are disabled", e);
+                zeroCopyDisabled = true;
+            }
+            zeroCopyWrites = new ArrayDeque<>();
+            zeroCopyCompletion = new int[3];
+        }
+        this.zeroCopyThreshold = zeroCopyThreshold;
+    }
+
     /**
      * Set the {@code TCP_NOTSENT_LOWAT} option on the socket. See {@code man 7 tcp} for more details.
      * @param tcpNotSentLowAt is a uint32_t
@@ -1058,4 +1384,154 @@ public final class EpollSocketChannel
                 return ReadState.Partial;
         }
     }
+
+    /**
+     * A fully sent buffer, whose promise is only completed once the kernel completed all zero-copy sends up to
+     * {@code endSeq}, since only then the buffer can be released.
+     */
+    private static final class ZeroCopyWrite {
+        final Buffer buffer;
+        final Promise<Void> promise;
+        final int endSeq;
+
+        ZeroCopyWrite(Buffer buffer, Promise<Void> promise, int endSeq) {
+            this.buffer = buffer;
+            this.promise = promise;
+            this.endSeq = endSeq;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SpliceTaskFactory {
+        SpliceTask newSpliceTask() throws IOException;
+    }
+
+    /**
+     * Moves bytes from this channel into a target, by splicing from the socket into the pipe and from the pipe into
+     * the target whenever either side is ready. Reads from the socket stop while the pipe is full, and writes into a
+     * target channel that is not writable wait for its EPOLLOUT.
+     */
+    private final class SpliceTask {
+        final EpollSocketChannel target;
+        private final FileDescriptor targetFd;
+        private final boolean shutdownOutputOnEof;
+        private final Promise<Long> promise;
+        private final FileDescriptor pipeOut;
+        private final FileDescriptor pipeIn;
+        private long targetOffset;
+        private long remaining;
+        private long transferred;
+        private int buffered;
+        private boolean eof;
+
+        SpliceTask(EpollSocketChannel target, FileDescriptor targetFd, long targetOffset, long length,
+                   boolean shutdownOutputOnEof, Promise<Long> promise) throws IOException {
+            this.target = target;
+            this.targetFd = target != null ? target.fd() : targetFd;
+            this.targetOffset = targetOffset;
+            this.shutdownOutputOnEof = shutdownOutputOnEof;
+            this.promise = promise;
+            remaining = length;
+            FileDescriptor[] pipe = FileDescriptor.pipe();
+            pipeOut = pipe[0];
+            pipeIn = pipe[1];
+        }
+
+        void run() {
+            if (target != null && !target.isOpen()) {
+                fail(new ClosedChannelException());
+                return;
+            }
+            try {
+                for (;;) {
+                    boolean progress = false;
+                    if (!eof && remaining > 0 && buffered < SPLICE_PIPE_SIZE) {
+                        int length = (int) Math.min(remaining, SPLICE_PIPE_SIZE - buffered);
+                        int res = Native.splice(socket.intValue(), -1, pipeIn.intValue(), -1, length);
+                        if (res == 0) {
+                            eof = true;
+                        } else if (res > 0) {
+                            buffered += res;
+                            remaining -= res;
+                            progress = true;
+                        }
+                        // Otherwise the socket is drained or the pipe is full, and we will continue on EPOLLIN or
+                        // once the pipe was drained.
+                    }
+                    if (buffered > 0) {
+                        int res = Native.splice(pipeOut.intValue(), -1, targetFd.intValue(), targetOffset, buffered);
+                        if (res > 0) {
+                            buffered -= res;
+                            transferred += res;
+                            if (targetOffset >= 0) {
+                                targetOffset += res;
+                            }
+                            progress = true;
+                        } else if (res < 0) {
+                            if (target == null) {
+                                throw new IOException("splice target is not writable: " + targetFd);
+                            }
+                            waitForTarget();
+                            return;
+                        }
+                    }
+                    if (buffered == 0 && (eof || remaining == 0)) {
+                        done();
+                        promise.setSuccess(transferred);
+                        if (eof && shutdownOutputOnEof && target != null) {
+                            target.shutdown(ChannelShutdownDirection.Outbound);
+                        }
+                        return;
+                    }
+                    if (!progress) {
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        private void waitForTarget() throws IOException {
+            if (target.spliceOutWaiter != this) {
+                target.spliceOutWaiter = this;
+                target.setFlag(Native.EPOLLOUT);
+            }
+        }
+
+        void fail(Throwable cause) {
+            done();
+            promise.tryFailure(cause);
+        }
+
+        private void done() {
+            if (spliceTask == this) {
+                spliceTask = null;
+                if (isOpen()) {
+                    try {
+                        clearFlag(Native.EPOLLIN);
+                    } catch (IOException e) {
+                        LOGGER.debug("Failed to clear EPOLLIN after splice", e);
+                    }
+                }
+            }
+            if (target != null && target.spliceOutWaiter == this) {
+                target.spliceOutWaiter = null;
+            }
+            closePipe();
+        }
+
+        void closePipe() {
+            try {
+                pipeIn.close();
+            } catch (IOException e) {
+                LOGGER.debug("Failed to close splice pipe", e);
+            }
+            try {
+                pipeOut.close();
+            } catch (IOException e) {
+                LOGGER.debug("Failed to close splice pipe", e);
+            }
+        }
+    }
 }
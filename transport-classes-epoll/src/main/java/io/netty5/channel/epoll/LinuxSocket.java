@@ -170,6 +170,10 @@ public final class LinuxSocket extends Socket {
         setTcpCork(intValue(), tcpCork ? 1 : 0);
     }
 
+    void setSoZeroCopy(boolean zeroCopy) throws IOException {
+        setSoZeroCopy(intValue(), zeroCopy ? 1 : 0);
+    }
+
     void setSoBusyPoll(int loopMicros) throws IOException {
         setSoBusyPoll(intValue(), loopMicros);
     }
@@ -230,6 +234,37 @@ public final class LinuxSocket extends Socket {
         return isTcpCork(intValue()) != 0;
     }
 
+    /**
+     * Send bytes from the given memory address with {@code MSG_ZEROCOPY}.
+     *
+     * @return the number of bytes sent, {@code 0} if the socket is not writable, or {@code -1} if the kernel can not
+     * track any more zero-copy sends for the socket right now ({@code ENOBUFS}).
+     */
+    int sendZeroCopy(long address, int length) throws IOException {
+        int res = sendZeroCopy(intValue(), address, length);
+        if (res >= 0) {
+            return res;
+        }
+        if (res == Native.ERRNO_ENOBUFS_NEGATIVE) {
+            return -1;
+        }
+        return ioResult("sendZeroCopy", res);
+    }
+
+    /**
+     * Read the next zero-copy completion from the error queue of the socket into the given array, as the first and
+     * last sequence number of the completed sends, followed by {@code 1} if the kernel copied the bytes after all.
+     *
+     * @return {@code true} if a completion was read, or {@code false} if there are no more completions.
+     */
+    boolean recvZeroCopyCompletion(int[] completion) throws IOException {
+        int res = recvZeroCopyCompletion(intValue(), completion);
+        if (res < 0) {
+            throw newIOException("recvZeroCopyCompletion", res);
+        }
+        return res != 0;
+    }
+
     int getSoBusyPoll() throws IOException  {
         return getSoBusyPoll(intValue());
     }
@@ -463,6 +498,8 @@ public final class LinuxSocket extends Socket {
     private static native int isTcpQuickAck(int fd) throws IOException;
     private static native int isTcpCork(int fd) throws IOException;
     private static native int getSoBusyPoll(int fd) throws IOException;
+    private static native int sendZeroCopy(int fd, long address, int length);
+    private static native int recvZeroCopyCompletion(int fd, int[] completion);
     private static native int getTcpNotSentLowAt(int fd) throws IOException;
     private static native int getTcpKeepIdle(int fd) throws IOException;
     private static native int getTcpKeepIntvl(int fd) throws IOException;
@@ -479,6 +516,7 @@ public final class LinuxSocket extends Socket {
     private static native void setTcpQuickAck(int fd, int quickAck) throws IOException;
     private static native void setTcpCork(int fd, int tcpCork) throws IOException;
     private static native void setSoBusyPoll(int fd, int loopMicros) throws IOException;
+    private static native void setSoZeroCopy(int fd, int zeroCopy) throws IOException;
     private static native void setTcpNotSentLowAt(int fd, int tcpNotSentLowAt) throws IOException;
     private static native void setTcpFastOpen(int fd, int tcpFastopenBacklog) throws IOException;
     private static native void setTcpKeepIdle(int fd, int seconds) throws IOException;
@@ -38,11 +38,14 @@ import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epoll
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollin;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollout;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.epollrdhup;
+import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.errnoENOBUFS;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.isSupportingRecvmmsg;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.isSupportingSendmmsg;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.kernelVersion;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.tcpFastopenMode;
 import static io.netty5.channel.epoll.NativeStaticallyReferencedJniMethods.tcpMd5SigMaxKeyLen;
+import static io.netty5.channel.unix.Errors.ERRNO_EAGAIN_NEGATIVE;
+import static io.netty5.channel.unix.Errors.ERRNO_EWOULDBLOCK_NEGATIVE;
 import static io.netty5.channel.unix.Errors.ioResult;
 import static io.netty5.channel.unix.Errors.newIOException;
 
@@ -115,6 +118,8 @@ public final class Native {
     public static final int EPOLLET = epollet();
     public static final int EPOLLERR = epollerr();
 
+    static final int ERRNO_ENOBUFS_NEGATIVE = -errnoENOBUFS();
+
     public static final boolean IS_SUPPORTING_SENDMMSG = isSupportingSendmmsg();
     static final boolean IS_SUPPORTING_RECVMMSG = isSupportingRecvmmsg();
     static final boolean IS_SUPPORTING_UDP_SEGMENT = isSupportingUdpSegment();
@@ -243,6 +248,25 @@ public final class Native {
     }
     private static native int epollCtlDel0(int efd, int fd);
 
+    /**
+     * Splice up to {@code len} bytes from {@code fd} into {@code fdOut}, one of which must be a pipe. An offset of
+     * {@code -1} is used for files without a position, like pipes and sockets.
+     *
+     * @return the number of bytes spliced, {@code 0} on EOF, or {@code -1} if the splice would block.
+     */
+    static int splice(int fd, long offIn, int fdOut, long offOut, long len) throws IOException {
+        int res = splice0(fd, offIn, fdOut, offOut, len);
+        if (res >= 0) {
+            return res;
+        }
+        if (res == ERRNO_EAGAIN_NEGATIVE || res == ERRNO_EWOULDBLOCK_NEGATIVE) {
+            return -1;
+        }
+        throw newIOException("splice", res);
+    }
+
+    private static native int splice0(int fd, long offIn, int fdOut, long offOut, long len);
+
     @Deprecated
     public static int sendmmsg(int fd, NativeDatagramPacketArray.NativeDatagramPacket[] msgs,
                                int offset, int len) throws IOException {
@@ -62,6 +62,8 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     private static final int MAX_READ_AHEAD_PACKETS = 8;
 
     static final FutureContextListener<Buffer, Void> CLOSE_BUFFER = (b, f) -> SilentDispose.dispose(b, LOGGER);
+    // Placeholder for pending reads that will get their buffer from the provided buffer ring.
+    private static final Object BUFFER_RING_READ = new Object();
 
     protected final LinuxSocket socket;
     protected final ObjectRing<Object> readsPending;
@@ -73,6 +75,8 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     protected volatile SocketAddress remote;
 
     protected SubmissionQueue submissionQueue;
+    protected IOUringBufferRing bufferRing;
+    protected IOUringFixedBuffers fixedBuffers;
     protected WriteSink writeSink;
     protected int currentCompletionResult;
     protected short currentCompletionData;
@@ -82,12 +86,23 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     private final Runnable rdHupRead;
 
     private short lastReadId;
+    // Multishot receive state. The udata is non-zero for as long as the kernel may still post completions for it.
+    private boolean recvMultishot = IOUring.isRecvMultishotSupported();
+    private long recvMultishotUdata;
+    private boolean recvMultishotCancelled;
     private boolean readPendingRegister;
     private boolean readPendingConnect;
     private Buffer connectRemoteAddressMem;
     private boolean scheduledRdHup;
     private boolean receivedRdHup;
     private boolean submittedClose;
+    // The fixed file slot of the socket, which is released once the close completed.
+    private int closedFixedFileSlot = -1;
+    // The user data of the last write that was added to the submission queue, which the next read may be linked to.
+    long linkableWriteUdata;
+    // The read that is linked to a write, and so is cancelled by the kernel if the write is short or fails.
+    private short linkedReadId;
+    private boolean linkedReadPending;
 
     protected AbstractIOUringChannel(P parent, EventLoop eventLoop, boolean supportingDisconnect,
                                      ReadHandleFactory defaultReadHandleFactory,
@@ -158,35 +173,102 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     }
 
     private void submitRead() {
+        if (useRecvMultishot()) {
+            // A single armed multishot receive keeps delivering data, so only arm it if not done already.
+            if (recvMultishotUdata == 0) {
+                submitRecvMultishot();
+            }
+            return;
+        }
         // Submit reads until read handle says stop, we fill the submission queue, or hit max limit
         int maxPackets = Math.min(submissionQueue.remaining(), MAX_READ_AHEAD_PACKETS);
         int sumPackets = 0;
         int bufferSize = nextReadBufferSize();
         boolean morePackets = bufferSize > 0;
 
+        if (morePackets && linkableWriteUdata != 0) {
+            long writeUdata = linkableWriteUdata;
+            linkableWriteUdata = 0;
+            if (submissionQueue.linkLast(writeUdata)) {
+                // The read is only started once the write completed, which saves a roundtrip through the event loop
+                // for request/response protocols. Reads can not be linked ahead of it, as the kernel cancels the
+                // whole chain if the write is short.
+                Buffer readBuffer = useBufferRing() ? null : allocateReadBuffer(bufferSize);
+                short readId = ++lastReadId;
+                linkedReadId = readId;
+                linkedReadPending = true;
+                submitReadFor(readBuffer, readId, false);
+                return;
+            }
+        }
+
         while (morePackets) {
-            Buffer readBuffer = readBufferAllocator().allocate(bufferSize);
-            assert readBuffer.isDirect();
-            assert readBuffer.countWritableComponents() == 1;
+            Buffer readBuffer = useBufferRing() ? null : allocateReadBuffer(bufferSize);
             sumPackets++;
             morePackets = sumPackets < maxPackets && (bufferSize = nextReadBufferSize()) > 0;
             submissionQueue.link(morePackets);
             short readId = ++lastReadId;
-            submitReadForReadBuffer(readBuffer, readId, sumPackets > 1, readsPending);
+            submitReadFor(readBuffer, readId, sumPackets > 1);
         }
     }
 
     private void submitNonBlockingRead() {
         assert readsPending.isEmpty();
+        if (useRecvMultishot()) {
+            // Any pending data, or the EOF, will be delivered by the multishot receive.
+            if (recvMultishotUdata == 0) {
+                submitRecvMultishot();
+            }
+            return;
+        }
         int bufferSize = nextReadBufferSize();
         if (bufferSize == 0) {
             return;
         }
+        Buffer readBuffer = useBufferRing() ? null : allocateReadBuffer(bufferSize);
+        short readId = ++lastReadId;
+        submitReadFor(readBuffer, readId, true);
+    }
+
+    private Buffer allocateReadBuffer(int bufferSize) {
         Buffer readBuffer = readBufferAllocator().allocate(bufferSize);
         assert readBuffer.isDirect();
         assert readBuffer.countWritableComponents() == 1;
+        return readBuffer;
+    }
+
+    private void submitReadFor(Buffer readBuffer, short readId, boolean nonBlocking) {
+        if (readBuffer == null) {
+            // The kernel will select a buffer from the provided buffer ring once data arrives.
+            int flags = nonBlocking ? Native.MSG_DONTWAIT : 0;
+            long udata = submissionQueue.addRecvBufferSelect(
+                    fd().intValue(), bufferRing.bufferGroupId(), flags, readId);
+            readsPending.push(BUFFER_RING_READ, udata);
+        } else {
+            submitReadForReadBuffer(readBuffer, readId, nonBlocking, readsPending);
+        }
+    }
+
+    private boolean useBufferRing() {
+        return bufferRing != null && isBufferRingSupported();
+    }
+
+    private boolean useRecvMultishot() {
+        return recvMultishot && useBufferRing();
+    }
+
+    private void submitRecvMultishot() {
         short readId = ++lastReadId;
-        submitReadForReadBuffer(readBuffer, readId, true, readsPending);
+        recvMultishotUdata = submissionQueue.addRecvMultishot(fd().intValue(), bufferRing.bufferGroupId(), readId);
+        recvMultishotCancelled = false;
+    }
+
+    /**
+     * Returns {@code true} if this channel can read into buffers selected by the kernel from the provided buffer ring,
+     * instead of allocating a buffer up front for every submitted read.
+     */
+    protected boolean isBufferRingSupported() {
+        return false;
     }
 
     private void submitReadForPending() {
@@ -211,15 +293,28 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
             var cmp = itr.firstWritable();
             assert cmp != null;
             long address = cmp.writableNativeAddress();
-            int flags = nonBlocking ? Native.MSG_DONTWAIT : 0;
-            long udata = submissionQueue.addRecv(
-                    fd().intValue(), address, 0, cmp.writableBytes(), flags, readId);
+            int length = cmp.writableBytes();
+            int bufIndex;
+            final long udata;
+            if (!nonBlocking && fixedBuffers != null && (bufIndex = fixedBuffers.bufferIndex(address, length)) >= 0) {
+                // The buffer is part of a registered chunk, so the kernel doesn't need to pin its pages.
+                udata = submissionQueue.addReadFixed(fd().intValue(), address, length, bufIndex, readId);
+            } else {
+                int flags = nonBlocking ? Native.MSG_DONTWAIT : 0;
+                udata = submissionQueue.addRecv(fd().intValue(), address, 0, length, flags, readId);
+            }
             pendingConsumer.accept(buffer, udata);
         }
     }
 
     @Override
     protected void doClearScheduledRead() {
+        if (recvMultishotUdata != 0 && !recvMultishotCancelled) {
+            // Reading was paused, so stop the kernel from consuming more buffers for us. Data that was already
+            // received will still be delivered before the cancellation completes.
+            submissionQueue.addCancel(fd().intValue(), recvMultishotUdata);
+            recvMultishotCancelled = true;
+        }
         // Using the lastReadId to differentiate our reads, means we avoid accidentally cancelling any future read.
         while (readsPending.poll()) {
             Object obj = readsPending.getPolledObject();
@@ -230,8 +325,12 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         }
     }
 
-    void readComplete(int res, long udata) {
+    void readComplete(int res, int flags, long udata) {
         assert executor().inEventLoop();
+        if (udata == recvMultishotUdata) {
+            completeRecvMultishot(res, flags, udata);
+            return;
+        }
         if (res == Native.ERRNO_ECANCELED_NEGATIVE || res == Errors.ERRNO_EAGAIN_NEGATIVE) {
             Object obj = cancelledReads.remove(udata);
             if (obj == null) {
@@ -240,8 +339,18 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
             if (obj != null) {
                 SilentDispose.dispose(obj, logger());
             }
+            if (linkedReadPending && UserData.decodeData(udata) == linkedReadId) {
+                linkedReadPending = false;
+                // The write the read was linked to was short or failed. Read on our own instead.
+                if (res == Native.ERRNO_ECANCELED_NEGATIVE && isReadPending()) {
+                    submitReadForPending();
+                }
+            }
             return;
         }
+        if (linkedReadPending && UserData.decodeData(udata) == linkedReadId) {
+            linkedReadPending = false;
+        }
 
         final Object obj;
         if (readsPending.hasNextStamp(udata) && readsPending.poll()) {
@@ -250,7 +359,9 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
             // Out-of-order read completion? Weird. Should this ever happen?
             obj = readsPending.remove(udata);
         }
-        if (obj != null) {
+        if (obj == BUFFER_RING_READ) {
+            completeBufferRingRead(res, flags, udata);
+        } else if (obj != null) {
             if (res >= 0) {
                 Resource.touch(obj, "read completed");
                 readsCompleted.push(prepareCompletedRead(obj, res), udata);
@@ -258,7 +369,62 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
                 SilentDispose.dispose(obj, logger());
                 readsCompleted.push(new Failure(res), udata);
             }
+        } else if ((flags & Native.IORING_CQE_F_BUFFER) != 0) {
+            // Nobody is waiting for this read anymore, so hand the selected buffer straight back to the kernel.
+            bufferRing.recycleBuffer(flags >>> Native.IORING_CQE_BUFFER_SHIFT);
+        }
+    }
+
+    private void completeRecvMultishot(int res, int flags, long udata) {
+        boolean terminated = (flags & Native.IORING_CQE_F_MORE) == 0;
+        if (terminated) {
+            recvMultishotUdata = 0;
+            if (res == Native.ERRNO_ECANCELED_NEGATIVE) {
+                // Re-arm if a read was requested while the cancellation was in flight.
+                if (active && isReadPending()) {
+                    submitRecvMultishot();
+                }
+                return;
+            }
+            if (res == Native.ERRNO_EINVAL_NEGATIVE) {
+                // The kernel does not understand IORING_RECV_MULTISHOT. Fall back to one receive per read.
+                logger().debug("Multishot receive not supported, falling back to single receives for {}", this);
+                recvMultishot = false;
+                if (active && isReadPending()) {
+                    submitRead();
+                }
+                return;
+            }
+        }
+        // Multishot receives are never prepared one at a time, so account for each of them as it arrives. This pairs
+        // up with the lastRead call when the read is processed.
+        readHandle().prepareRead();
+        completeBufferRingRead(res, flags, udata);
+        if (terminated && res > 0 && active && isReadPending()) {
+            // Terminated by the kernel even though it succeeded, e.g. due to CQ overflow. Re-arm to keep reading.
+            submitRecvMultishot();
+        }
+    }
+
+    private void completeBufferRingRead(int res, int flags, long udata) {
+        if (res == Native.ERRNO_ENOBUFS_NEGATIVE) {
+            // All buffers of the ring are in use. Fall back to reading into a buffer of our own.
+            submitReadForReadBuffer(allocateReadBuffer(bufferRing.bufferSize()), ++lastReadId, false, readsPending);
+            return;
+        }
+        if (res < 0) {
+            readsCompleted.push(new Failure(res), udata);
+            return;
+        }
+        final Buffer buffer;
+        if ((flags & Native.IORING_CQE_F_BUFFER) != 0) {
+            buffer = bufferRing.useBuffer(flags >>> Native.IORING_CQE_BUFFER_SHIFT, res);
+        } else {
+            // No buffer is consumed if we read EOF.
+            assert res == 0;
+            buffer = ioBufferAllocator().allocate(0);
         }
+        readsCompleted.push(buffer, udata);
     }
 
     protected Object prepareCompletedRead(Object obj, int result) {
@@ -355,13 +521,14 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     @Override
     protected void doWriteNow(WriteSink writeSink) {
         submitAllWriteMessages(writeSink);
-        // We *MUST* submit all our messages, since we'll be releasing the outbound buffers after the doWriteNow call.
-        submissionQueue.submit();
+        // The messages are consumed from the write sink, so they are kept alive until their writes complete. This
+        // allows the event loop to coalesce the submits of flushes, if configured.
+        submissionQueue.submitWrites();
     }
 
     protected abstract void submitAllWriteMessages(WriteSink writeSink);
 
-    abstract void writeComplete(int result, long udata);
+    abstract void writeComplete(int result, int flags, long udata);
 
     /**
      * Connect to the remote peer
@@ -460,14 +627,17 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
         }
         receivedRdHup = true;
         scheduledRdHup = false;
-        if (active && readsPending.isEmpty()) {
+        if (active && readsPending.isEmpty() && !isSplicing()) {
             // Schedule a read to drain inbound buffer and notice the EOF.
             submitNonBlockingRead();
         }
     }
 
-    void completeChannelRegister(SubmissionQueue submissionQueue) {
+    void completeChannelRegister(SubmissionQueue submissionQueue, IOUringBufferRing bufferRing,
+                                 IOUringFixedBuffers fixedBuffers) {
         this.submissionQueue = submissionQueue;
+        this.bufferRing = bufferRing;
+        this.fixedBuffers = fixedBuffers;
         if (active) {
             submitPollRdHup();
         }
@@ -514,6 +684,9 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
 
     void closeTransportNow() {
         if (!submittedClose) {
+            // The fixed file table holds a reference to the file, which would keep the socket open. Clear the slot in
+            // order with the SQEs that may still refer to it, and only then close the socket.
+            closedFixedFileSlot = submissionQueue.addFixedFileRemove(socket.intValue(), true, false);
             submissionQueue.addClose(socket.intValue(), false, (short) 0);
             submittedClose = true;
         } else {
@@ -522,11 +695,52 @@ abstract class AbstractIOUringChannel<P extends UnixChannel>
     }
 
     void closeComplete(int res, long udata) {
+        if (closedFixedFileSlot >= 0) {
+            // The close is the last completion of the socket, so no SQE refers to the slot anymore.
+            submissionQueue.fixedFiles().release(closedFixedFileSlot);
+            closedFixedFileSlot = -1;
+        }
         if (socket.markClosed()) {
-            prepareClosePromise.setSuccess(executor());
+            tryCompleteClose();
         }
     }
 
+    /**
+     * Returns {@code true} if a close of the socket was submitted, after which nothing else must be submitted for it.
+     */
+    final boolean isCloseSubmitted() {
+        return submittedClose;
+    }
+
+    /**
+     * Returns {@code true} if the kernel will still post completions for this channel, even though its socket was
+     * closed. The close is only completed, and the channel deregistered, once there are none.
+     */
+    boolean hasPendingCompletions() {
+        return false;
+    }
+
+    /**
+     * Complete the close of the channel, if the socket was closed and there are no more pending completions.
+     */
+    final void tryCompleteClose() {
+        if (!socket.isOpen() && !hasPendingCompletions()) {
+            prepareClosePromise.trySuccess(executor());
+        }
+    }
+
+    /**
+     * Returns {@code true} if a splice is reading from this channel, in which case the channel must not read itself.
+     */
+    boolean isSplicing() {
+        return false;
+    }
+
+    void spliceComplete(int res, long udata) {
+        // Only channels that submit splices get splice completions.
+        throw new AssertionError("Unexpected splice completion for " + this);
+    }
+
     @Override
     protected abstract void doShutdown(ChannelShutdownDirection direction) throws Exception;
 
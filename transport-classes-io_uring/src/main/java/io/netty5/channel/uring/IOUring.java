@@ -24,9 +24,25 @@ import org.slf4j.LoggerFactory;
 public final class IOUring {
     private static final Logger logger = LoggerFactory.getLogger(IOUring.class);
     private static final Throwable UNAVAILABILITY_CAUSE;
+    private static final boolean ACCEPT_MULTISHOT_SUPPORTED;
+    private static final boolean RECV_MULTISHOT_SUPPORTED;
+    private static final boolean SEND_ZC_SUPPORTED;
+    private static final boolean SQPOLL_SUPPORTED;
+    private static final boolean SINGLE_ISSUER_SUPPORTED;
+    private static final boolean DEFER_TASKRUN_SUPPORTED;
+    private static final boolean COOP_TASKRUN_SUPPORTED;
+    private static final boolean SUBMIT_ALL_SUPPORTED;
 
     static {
         Throwable cause = null;
+        boolean acceptMultishotSupported = false;
+        boolean recvMultishotSupported = false;
+        boolean sendZcSupported = false;
+        boolean sqPollSupported = false;
+        boolean singleIssuerSupported = false;
+        boolean deferTaskrunSupported = false;
+        boolean coopTaskrunSupported = false;
+        boolean submitAllSupported = false;
         try {
             if (SystemPropertyUtil.getBoolean("io.netty5.transport.noNative", false)) {
                 cause = new UnsupportedOperationException(
@@ -34,12 +50,29 @@ public final class IOUring {
             } else {
                 String kernelVersion = Native.kernelVersion();
                 Native.checkKernelVersion(kernelVersion);
+                // IORING_ACCEPT_MULTISHOT was added in 5.19. There is no way to probe for it, so use the version.
+                acceptMultishotSupported = Native.isKernelVersionAtLeast(kernelVersion, 5, 19) &&
+                        SystemPropertyUtil.getBoolean("io.netty5.iouring.acceptMultishot", true);
+                // IORING_RECV_MULTISHOT was added in 6.0.
+                recvMultishotSupported = Native.isKernelVersionAtLeast(kernelVersion, 6, 0) &&
+                        SystemPropertyUtil.getBoolean("io.netty5.iouring.recvMultishot", true);
                 Throwable unsafeCause = PlatformDependent.getUnsafeUnavailabilityCause();
                 if (unsafeCause == null) {
                     RingBuffer ringBuffer = null;
                     try {
                         ringBuffer = Native.createRingBuffer();
                         Native.checkAllIOSupported(ringBuffer.fd());
+                        sendZcSupported = Native.isOpSupported(ringBuffer.fd(), Native.IORING_OP_SEND_ZC) &&
+                                SystemPropertyUtil.getBoolean("io.netty5.iouring.sendZc", true);
+                        // Setup flags can only be probed by trying to create a ring with them. SQPOLL may also be
+                        // refused for lack of privileges on older kernels.
+                        sqPollSupported = isSetupSupported(Native.IORING_SETUP_SQPOLL);
+                        singleIssuerSupported = isSetupSupported(
+                                Native.IORING_SETUP_SINGLE_ISSUER | Native.IORING_SETUP_R_DISABLED);
+                        deferTaskrunSupported = singleIssuerSupported && isSetupSupported(
+                                Native.IORING_SETUP_SINGLE_ISSUER | Native.IORING_SETUP_DEFER_TASKRUN);
+                        coopTaskrunSupported = isSetupSupported(Native.IORING_SETUP_COOP_TASKRUN);
+                        submitAllSupported = isSetupSupported(Native.IORING_SETUP_SUBMIT_ALL);
                     } finally {
                         if (ringBuffer != null) {
                             try {
@@ -65,6 +98,23 @@ public final class IOUring {
         }
 
         UNAVAILABILITY_CAUSE = cause;
+        ACCEPT_MULTISHOT_SUPPORTED = cause == null && acceptMultishotSupported;
+        RECV_MULTISHOT_SUPPORTED = cause == null && recvMultishotSupported;
+        SEND_ZC_SUPPORTED = cause == null && sendZcSupported;
+        SQPOLL_SUPPORTED = cause == null && sqPollSupported;
+        SINGLE_ISSUER_SUPPORTED = cause == null && singleIssuerSupported;
+        DEFER_TASKRUN_SUPPORTED = cause == null && deferTaskrunSupported;
+        COOP_TASKRUN_SUPPORTED = cause == null && coopTaskrunSupported;
+        SUBMIT_ALL_SUPPORTED = cause == null && submitAllSupported;
+    }
+
+    private static boolean isSetupSupported(int flags) {
+        int res = Native.ioUringSetupProbe(flags);
+        if (res < 0) {
+            logger.debug("io_uring setup flags 0x{} not supported (errno={})", Integer.toHexString(flags), -res);
+            return false;
+        }
+        return true;
     }
 
     public static boolean isAvailable() {
@@ -82,30 +132,145 @@ public final class IOUring {
         return UNAVAILABILITY_CAUSE;
     }
 
+    /**
+     * Returns {@code true} if the kernel supports multishot accept ({@code IORING_ACCEPT_MULTISHOT}), which lets a
+     * single armed accept deliver every accepted connection. This can be disabled by setting the
+     * {@code io.netty5.iouring.acceptMultishot} system property to {@code false}.
+     */
+    public static boolean isAcceptMultishotSupported() {
+        return ACCEPT_MULTISHOT_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports multishot receives ({@code IORING_RECV_MULTISHOT}). These are only
+     * used together with a provided buffer ring, and can be disabled by setting the
+     * {@code io.netty5.iouring.recvMultishot} system property to {@code false}.
+     */
+    public static boolean isRecvMultishotSupported() {
+        return RECV_MULTISHOT_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if the kernel supports zero-copy sends ({@code IORING_OP_SEND_ZC}). These are only used
+     * when {@link IOUringChannelOption#SEND_ZC_THRESHOLD} is set, and can be disabled by setting the
+     * {@code io.netty5.iouring.sendZc} system property to {@code false}.
+     */
+    public static boolean isSendZcSupported() {
+        return SEND_ZC_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if rings can be created with a kernel submission queue polling thread
+     * ({@code IORING_SETUP_SQPOLL}).
+     */
+    public static boolean isSqPollSupported() {
+        return SQPOLL_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if rings can be restricted to a single submitting thread
+     * ({@code IORING_SETUP_SINGLE_ISSUER}).
+     */
+    public static boolean isSingleIssuerSupported() {
+        return SINGLE_ISSUER_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if rings can defer completion work until completions are asked for
+     * ({@code IORING_SETUP_DEFER_TASKRUN}).
+     */
+    public static boolean isDeferTaskrunSupported() {
+        return DEFER_TASKRUN_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if rings can run completion work cooperatively ({@code IORING_SETUP_COOP_TASKRUN}).
+     */
+    public static boolean isCoopTaskrunSupported() {
+        return COOP_TASKRUN_SUPPORTED;
+    }
+
+    /**
+     * Returns {@code true} if rings can continue submitting a batch after a failed submission
+     * ({@code IORING_SETUP_SUBMIT_ALL}).
+     */
+    public static boolean isSubmitAllSupported() {
+        return SUBMIT_ALL_SUPPORTED;
+    }
+
     public static IoHandlerFactory newFactory() {
-        ensureAvailability();
-        return () -> {
-            RingBuffer ringBuffer = Native.createRingBuffer();
-            return new IOUringHandler(ringBuffer);
-        };
+        return newFactory(new IOUringHandlerConfig());
     }
 
     public static IoHandlerFactory newFactory(int ringSize) {
-        ensureAvailability();
-        return () -> {
-            RingBuffer ringBuffer = Native.createRingBuffer(ringSize);
-            return new IOUringHandler(ringBuffer);
-        };
+        return newFactory(new IOUringHandlerConfig().setRingSize(ringSize));
     }
 
     public static IoHandlerFactory newFactory(int ringSize, int kernelWorkerOffloadThreshold) {
+        return newFactory(new IOUringHandlerConfig()
+                .setRingSize(ringSize)
+                .setKernelWorkerOffloadThreshold(kernelWorkerOffloadThreshold));
+    }
+
+    /**
+     * Create a new {@link IoHandlerFactory} whose rings are set up according to the given configuration. Setup modes
+     * the kernel does not support are left out.
+     */
+    public static IoHandlerFactory newFactory(IOUringHandlerConfig config) {
         ensureAvailability();
+        IOUringHandlerConfig copy = config.copy();
+        int setupFlags = setupFlags(copy);
         return () -> {
-            RingBuffer ringBuffer = Native.createRingBuffer(ringSize, kernelWorkerOffloadThreshold);
-            return new IOUringHandler(ringBuffer);
+            RingBuffer ringBuffer = Native.createRingBuffer(copy.getRingSize(),
+                    copy.getKernelWorkerOffloadThreshold(), setupFlags, copy.getSqThreadCpu(),
+                    copy.getSqThreadIdle());
+            return new IOUringHandler(ringBuffer, copy);
         };
     }
 
+    static int setupFlags(IOUringHandlerConfig config) {
+        int flags = 0;
+        if (config.isSubmitAll() && SUBMIT_ALL_SUPPORTED) {
+            flags |= Native.IORING_SETUP_SUBMIT_ALL;
+        }
+        if (config.isCoopTaskrun()) {
+            if (COOP_TASKRUN_SUPPORTED) {
+                flags |= Native.IORING_SETUP_COOP_TASKRUN;
+            } else {
+                logger.debug("IORING_SETUP_COOP_TASKRUN not supported, ignoring");
+            }
+        }
+        if (config.isSqPoll()) {
+            if (SQPOLL_SUPPORTED) {
+                flags |= Native.IORING_SETUP_SQPOLL;
+            } else {
+                logger.debug("IORING_SETUP_SQPOLL not supported, ignoring");
+            }
+        }
+        if (config.isDeferTaskrun()) {
+            if ((flags & Native.IORING_SETUP_SQPOLL) != 0) {
+                logger.debug("IORING_SETUP_DEFER_TASKRUN cannot be combined with IORING_SETUP_SQPOLL, ignoring");
+            } else if (DEFER_TASKRUN_SUPPORTED) {
+                flags |= Native.IORING_SETUP_DEFER_TASKRUN | Native.IORING_SETUP_SINGLE_ISSUER;
+            } else {
+                logger.debug("IORING_SETUP_DEFER_TASKRUN not supported, ignoring");
+            }
+        }
+        if (config.isSingleIssuer()) {
+            if (SINGLE_ISSUER_SUPPORTED) {
+                flags |= Native.IORING_SETUP_SINGLE_ISSUER;
+            } else {
+                logger.debug("IORING_SETUP_SINGLE_ISSUER not supported, ignoring");
+            }
+        }
+        if ((flags & Native.IORING_SETUP_SINGLE_ISSUER) != 0) {
+            // The ring is created by whatever thread creates the event loop group, so we start it disabled and let
+            // the event loop thread enable it, which makes that thread the single issuer.
+            flags |= Native.IORING_SETUP_R_DISABLED;
+        }
+        return flags;
+    }
+
     private IOUring() {
     }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.util.internal.MathUtil;
+import io.netty5.util.internal.PlatformDependent;
+import io.netty5.util.internal.SilentDispose;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * A kernel-registered provided buffer ring ({@code IORING_REGISTER_PBUF_RING}).
+ * <p>
+ * Receives submitted with {@code IOSQE_BUFFER_SELECT} let the kernel pick a buffer from this ring once data actually
+ * arrives, so idle connections do not pin a receive buffer each. The buffer id reported in the completion is mapped
+ * back to the {@link Buffer} that backs it.
+ */
+final class IOUringBufferRing {
+    private static final Logger logger = LoggerFactory.getLogger(IOUringBufferRing.class);
+
+    // The kernel limits the number of entries in a buffer ring.
+    static final int MAX_ENTRIES = 1 << 15;
+
+    //these offsets are used to access specific properties
+    //io_uring_buf https://github.com/axboe/liburing/blob/master/src/include/liburing/io_uring.h
+    private static final int SIZEOF_IO_URING_BUF = 16;
+    private static final int IO_URING_BUF_ADDR_FIELD = 0;
+    private static final int IO_URING_BUF_LEN_FIELD = 8;
+    private static final int IO_URING_BUF_BID_FIELD = 12;
+    // The tail shares the memory of the resv field of the first entry.
+    private static final int IO_URING_BUF_RING_TAIL_FIELD = 14;
+
+    private final int ringFd;
+    private final long ringAddress;
+    private final int entries;
+    private final int mask;
+    private final short bufferGroupId;
+    private final int bufferSize;
+    private final int copyThreshold;
+    private final BufferAllocator allocator;
+    private final Buffer[] buffers;
+    private short tail;
+    private boolean closed;
+
+    private IOUringBufferRing(int ringFd, long ringAddress, int entries, short bufferGroupId, int bufferSize,
+                              BufferAllocator allocator) {
+        this.ringFd = ringFd;
+        this.ringAddress = ringAddress;
+        this.entries = entries;
+        this.bufferGroupId = bufferGroupId;
+        this.bufferSize = bufferSize;
+        this.allocator = allocator;
+        mask = entries - 1;
+        // Reads that only use a small fraction of a buffer are copied out, so the buffer can go straight back.
+        copyThreshold = bufferSize >>> 2;
+        buffers = new Buffer[entries];
+    }
+
+    /**
+     * Register a new buffer ring with the given ring, and fill it with buffers.
+     *
+     * @return the new buffer ring, or {@code null} if the kernel does not support provided buffer rings.
+     */
+    static IOUringBufferRing register(int ringFd, int entries, short bufferGroupId, int bufferSize,
+                                      BufferAllocator allocator) {
+        int ringEntries = MathUtil.findNextPositivePowerOfTwo(Math.min(entries, MAX_ENTRIES));
+        long ringAddress = Native.ioUringRegisterBufRing(ringFd, ringEntries, bufferGroupId);
+        if (ringAddress < 0) {
+            logger.debug("Failed to register provided buffer ring (errno={}), falling back to allocating buffers " +
+                    "per read", -ringAddress);
+            return null;
+        }
+        IOUringBufferRing ring = new IOUringBufferRing(
+                ringFd, ringAddress, ringEntries, bufferGroupId, bufferSize, allocator);
+        for (int bid = 0; bid < ringEntries; bid++) {
+            ring.addBuffer(bid, allocator.allocate(bufferSize));
+        }
+        ring.commit();
+        return ring;
+    }
+
+    short bufferGroupId() {
+        return bufferGroupId;
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Take the buffer the kernel selected for a completed receive, and give the ring a buffer for the id in return.
+     *
+     * @param bid the buffer id, as reported in the completion flags.
+     * @param bytes the number of bytes the kernel wrote into the buffer.
+     * @return the buffer containing the received bytes, owned by the caller.
+     */
+    Buffer useBuffer(int bid, int bytes) {
+        Buffer buffer = buffers[bid];
+        assert buffer != null : "Buffer id not in use: " + bid;
+        buffer.skipWritableBytes(bytes);
+        if (bytes <= copyThreshold) {
+            Buffer copy = allocator.allocate(bytes);
+            copy.writeBytes(buffer);
+            recycleBuffer(bid);
+            return copy;
+        }
+        addBuffer(bid, allocator.allocate(bufferSize));
+        commit();
+        return buffer;
+    }
+
+    /**
+     * Give the buffer of the given id back to the kernel without using it.
+     */
+    void recycleBuffer(int bid) {
+        Buffer buffer = buffers[bid];
+        assert buffer != null : "Buffer id not in use: " + bid;
+        addBuffer(bid, buffer.resetOffsets());
+        commit();
+    }
+
+    private void addBuffer(int bid, Buffer buffer) {
+        assert buffer.isDirect() && buffer.countWritableComponents() == 1;
+        buffers[bid] = buffer;
+        long entry = ringAddress + (long) (tail & mask) * SIZEOF_IO_URING_BUF;
+        try (var itr = buffer.forEachComponent()) {
+            var cmp = itr.firstWritable();
+            PlatformDependent.putLong(entry + IO_URING_BUF_ADDR_FIELD, cmp.writableNativeAddress());
+            PlatformDependent.putInt(entry + IO_URING_BUF_LEN_FIELD, cmp.writableBytes());
+        }
+        PlatformDependent.putShort(entry + IO_URING_BUF_BID_FIELD, (short) bid);
+        tail++;
+    }
+
+    private void commit() {
+        // Ensure the kernel only sees the new tail after the entries have been written.
+        VarHandle.releaseFence();
+        PlatformDependent.putShort(ringAddress + IO_URING_BUF_RING_TAIL_FIELD, tail);
+    }
+
+    /**
+     * Unregister the ring from the kernel and release all buffers. Must be called before the ring itself is closed.
+     */
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        int res = Native.ioUringUnregisterBufRing(ringFd, ringAddress, entries, bufferGroupId);
+        if (res < 0) {
+            logger.debug("Failed to unregister provided buffer ring (errno={})", -res);
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            Buffer buffer = buffers[i];
+            if (buffer != null) {
+                buffers[i] = null;
+                SilentDispose.dispose(buffer, logger);
+            }
+        }
+    }
+}
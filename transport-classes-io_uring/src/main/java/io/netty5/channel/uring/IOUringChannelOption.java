@@ -44,4 +44,20 @@ public class IOUringChannelOption<T> extends UnixChannelOption<T> {
 
     public static final ChannelOption<Integer> MAX_DATAGRAM_PAYLOAD_SIZE = valueOf("MAX_DATAGRAM_PAYLOAD_SIZE");
     public static final ChannelOption<Boolean> UDP_GRO = valueOf("UDP_GRO");
+
+    /**
+     * Buffers with at least this many readable bytes are written with a zero-copy send ({@code IORING_OP_SEND_ZC}),
+     * if {@linkplain IOUring#isSendZcSupported() supported}. The write promise of such a buffer is only completed,
+     * and the buffer released, once the kernel notifies that it no longer references the memory. A value of
+     * {@code 0} (the default) disables zero-copy sends.
+     */
+    public static final ChannelOption<Integer> SEND_ZC_THRESHOLD =
+            valueOf(IOUringChannelOption.class, "SEND_ZC_THRESHOLD");
+
+    /**
+     * Link the read that follows a write to that write ({@code IOSQE_IO_LINK}), so the kernel only starts the read
+     * once the write completed. This suits request/response protocols, and only takes effect if the write was not
+     * submitted yet when the read is issued, see {@link IOUringHandlerConfig#setCoalesceWrites(boolean)}.
+     */
+    public static final ChannelOption<Boolean> LINK_WRITE_READ = valueOf(IOUringChannelOption.class, "LINK_WRITE_READ");
 }
@@ -452,7 +452,7 @@ public final class IOUringDatagramChannel extends AbstractIOUringChannel<UnixCha
     }
 
     @Override
-    void writeComplete(int result, long udata) {
+    void writeComplete(int result, int flags, long udata) {
         Promise<Void> promise = pendingWrites.removePending(UserData.decodeData(udata));
         if (result < 0) {
             promise.setFailure(Errors.newIOException("send/sendmsg", result));
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.pool.PoolChunkListener;
+import io.netty5.buffer.pool.PoolChunkListenerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * The fixed buffer table of a ring ({@code IORING_REGISTER_BUFFERS2}), kept in sync with the chunks of a pooling
+ * allocator.
+ * <p>
+ * Reads and writes on memory of a registered chunk can use {@code IORING_OP_READ_FIXED} and
+ * {@code IORING_OP_WRITE_FIXED}, which saves the kernel from pinning the pages of the buffer for every operation.
+ * Buffers outside any registered chunk use the regular operations.
+ */
+final class IOUringFixedBuffers implements PoolChunkListener {
+    private static final Logger logger = LoggerFactory.getLogger(IOUringFixedBuffers.class);
+
+    // The kernel limits the number of registered buffers.
+    static final int MAX_SLOTS = 1 << 14;
+
+    private final int ringFd;
+    private final PoolChunkListenerRegistry registry;
+    private final int[] freeSlots;
+    private int freeSlotCount;
+    private boolean closed;
+    // Written under the lock of this object, but read without it from the event loop.
+    private volatile Regions regions = Regions.EMPTY;
+
+    private IOUringFixedBuffers(int ringFd, PoolChunkListenerRegistry registry, int slots) {
+        this.ringFd = ringFd;
+        this.registry = registry;
+        freeSlots = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            freeSlots[i] = slots - 1 - i;
+        }
+        freeSlotCount = slots;
+    }
+
+    /**
+     * Register a sparse fixed buffer table with the given ring, and fill it with the chunks of the given allocator.
+     *
+     * @return the fixed buffers, or {@code null} if the allocator does not pool its memory in chunks, or the kernel
+     * does not support sparse buffer tables.
+     */
+    static IOUringFixedBuffers register(int ringFd, int slots, BufferAllocator allocator) {
+        if (!(allocator instanceof PoolChunkListenerRegistry)) {
+            logger.debug("Allocator {} does not report its chunks, not using fixed buffers", allocator);
+            return null;
+        }
+        int res = Native.ioUringRegisterBuffersSparse(ringFd, slots);
+        if (res < 0) {
+            logger.debug("Failed to register fixed buffer table (errno={}), not using fixed buffers", -res);
+            return null;
+        }
+        PoolChunkListenerRegistry registry = (PoolChunkListenerRegistry) allocator;
+        IOUringFixedBuffers fixedBuffers = new IOUringFixedBuffers(ringFd, registry, slots);
+        registry.addChunkListener(fixedBuffers);
+        return fixedBuffers;
+    }
+
+    /**
+     * Find the fixed buffer that contains the given memory region.
+     *
+     * @return the index of the fixed buffer, or {@code -1} if the region is not part of any registered chunk.
+     */
+    int bufferIndex(long address, int length) {
+        return regions.bufferIndex(address, length);
+    }
+
+    @Override
+    public synchronized void chunkAllocated(long memoryAddress, int size) {
+        if (closed || regions.contains(memoryAddress)) {
+            return;
+        }
+        if (freeSlotCount == 0) {
+            logger.debug("No free fixed buffer slot for chunk of {} bytes", size);
+            return;
+        }
+        int slot = freeSlots[--freeSlotCount];
+        int res = Native.ioUringRegisterBuffersUpdate(ringFd, slot, memoryAddress, size);
+        if (res < 0) {
+            // Most likely the memlock limit has been reached.
+            logger.debug("Failed to register chunk of {} bytes as fixed buffer (errno={})", size, -res);
+            freeSlots[freeSlotCount++] = slot;
+            return;
+        }
+        regions = regions.add(memoryAddress, size, slot);
+    }
+
+    @Override
+    public synchronized void chunkReleased(long memoryAddress, int size) {
+        if (closed) {
+            return;
+        }
+        int slot = regions.slot(memoryAddress);
+        if (slot < 0) {
+            return;
+        }
+        regions = regions.remove(memoryAddress);
+        int res = Native.ioUringRegisterBuffersUpdate(ringFd, slot, 0, 0);
+        if (res < 0) {
+            logger.debug("Failed to clear fixed buffer slot {} (errno={})", slot, -res);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Stop tracking the chunks of the allocator and unregister the table. Must be called before the ring is closed.
+     */
+    void close() {
+        registry.removeChunkListener(this);
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            regions = Regions.EMPTY;
+        }
+        int res = Native.ioUringUnregisterBuffers(ringFd);
+        if (res < 0) {
+            logger.debug("Failed to unregister fixed buffers (errno={})", -res);
+        }
+    }
+
+    /**
+     * An immutable snapshot of the registered chunks, sorted by address. Chunks are added and removed rarely, so
+     * copying on change keeps the lookups on the event loop free of locks and allocations.
+     */
+    private static final class Regions {
+        static final Regions EMPTY = new Regions(new long[0], new int[0], new int[0]);
+
+        private final long[] addresses;
+        private final int[] sizes;
+        private final int[] slots;
+
+        private Regions(long[] addresses, int[] sizes, int[] slots) {
+            this.addresses = addresses;
+            this.sizes = sizes;
+            this.slots = slots;
+        }
+
+        int bufferIndex(long address, int length) {
+            int i = Arrays.binarySearch(addresses, address);
+            if (i < 0) {
+                // Not the start of a chunk; look at the chunk that starts before the address.
+                i = -i - 2;
+                if (i < 0) {
+                    return -1;
+                }
+            }
+            return address + length <= addresses[i] + sizes[i] ? slots[i] : -1;
+        }
+
+        boolean contains(long address) {
+            return Arrays.binarySearch(addresses, address) >= 0;
+        }
+
+        int slot(long address) {
+            int i = Arrays.binarySearch(addresses, address);
+            return i < 0 ? -1 : slots[i];
+        }
+
+        Regions add(long address, int size, int slot) {
+            int i = -Arrays.binarySearch(addresses, address) - 1;
+            assert i >= 0;
+            int length = addresses.length;
+            long[] newAddresses = new long[length + 1];
+            int[] newSizes = new int[length + 1];
+            int[] newSlots = new int[length + 1];
+            System.arraycopy(addresses, 0, newAddresses, 0, i);
+            System.arraycopy(sizes, 0, newSizes, 0, i);
+            System.arraycopy(slots, 0, newSlots, 0, i);
+            newAddresses[i] = address;
+            newSizes[i] = size;
+            newSlots[i] = slot;
+            System.arraycopy(addresses, i, newAddresses, i + 1, length - i);
+            System.arraycopy(sizes, i, newSizes, i + 1, length - i);
+            System.arraycopy(slots, i, newSlots, i + 1, length - i);
+            return new Regions(newAddresses, newSizes, newSlots);
+        }
+
+        Regions remove(long address) {
+            int i = Arrays.binarySearch(addresses, address);
+            assert i >= 0;
+            int length = addresses.length;
+            long[] newAddresses = new long[length - 1];
+            int[] newSizes = new int[length - 1];
+            int[] newSlots = new int[length - 1];
+            System.arraycopy(addresses, 0, newAddresses, 0, i);
+            System.arraycopy(sizes, 0, newSizes, 0, i);
+            System.arraycopy(slots, 0, newSlots, 0, i);
+            System.arraycopy(addresses, i + 1, newAddresses, i, length - i - 1);
+            System.arraycopy(sizes, i + 1, newSizes, i, length - i - 1);
+            System.arraycopy(slots, i + 1, newSlots, i, length - i - 1);
+            return new Regions(newAddresses, newSizes, newSlots);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * The fixed file table of a ring ({@code IORING_REGISTER_FILES2}).
+ * <p>
+ * Submissions for a file descriptor that has a slot in this table use {@code IOSQE_FIXED_FILE}, which saves the
+ * kernel from looking up and reference counting the file for every operation. The table holds a reference to the
+ * file, so a descriptor must be removed before it is closed. Only used from the event loop.
+ * <p>
+ * SQEs refer to the slot rather than the descriptor, so a slot must not be reused while SQEs that were added for its
+ * previous descriptor may still be processed. A descriptor is therefore removed in order with its SQEs, via
+ * {@link SubmissionQueue#addFixedFileRemove(int, boolean, boolean)}, and its slot is only
+ * {@linkplain #release(int) released} once the last completion of the descriptor was reaped.
+ */
+final class IOUringFixedFiles {
+    private static final Logger logger = LoggerFactory.getLogger(IOUringFixedFiles.class);
+
+    // The kernel limits the number of registered files.
+    static final int MAX_SLOTS = 1 << 20;
+    // The user data of a slot removal that releases the slot once it completes.
+    static final short RELEASE_SLOT = 1;
+
+    private final int ringFd;
+    // A single -1 descriptor, which IORING_OP_FILES_UPDATE reads to clear a slot.
+    private final long clearedFdAddress;
+    private final int[] freeSlots;
+    private int freeSlotCount;
+    // The slot of each fd plus one, so unused entries are zero.
+    private int[] slotsByFd = new int[64];
+
+    private IOUringFixedFiles(int ringFd, int slots) {
+        this.ringFd = ringFd;
+        freeSlots = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            freeSlots[i] = slots - 1 - i;
+        }
+        freeSlotCount = slots;
+        clearedFdAddress = PlatformDependent.allocateMemory(Integer.BYTES);
+        PlatformDependent.putInt(clearedFdAddress, -1);
+    }
+
+    /**
+     * Register a sparse fixed file table with the given ring.
+     *
+     * @return the fixed files, or {@code null} if the kernel does not support sparse file tables.
+     */
+    static IOUringFixedFiles register(int ringFd, int slots) {
+        int res = Native.ioUringRegisterFilesSparse(ringFd, slots);
+        if (res < 0) {
+            logger.debug("Failed to register fixed file table (errno={}), not using fixed files", -res);
+            return null;
+        }
+        return new IOUringFixedFiles(ringFd, slots);
+    }
+
+    /**
+     * Returns the slot of the given file descriptor, or {@code -1} if it has none.
+     */
+    int slot(int fd) {
+        return fd < slotsByFd.length ? slotsByFd[fd] - 1 : -1;
+    }
+
+    /**
+     * Give the file descriptor a slot in the table, if there is one free.
+     */
+    void add(int fd) {
+        if (freeSlotCount == 0 || slot(fd) >= 0) {
+            return;
+        }
+        int slot = freeSlots[--freeSlotCount];
+        int res = Native.ioUringRegisterFilesUpdate(ringFd, slot, fd);
+        if (res < 0) {
+            logger.debug("Failed to register fd {} as fixed file (errno={})", fd, -res);
+            freeSlots[freeSlotCount++] = slot;
+            return;
+        }
+        if (fd >= slotsByFd.length) {
+            slotsByFd = Arrays.copyOf(slotsByFd, Math.max(fd + 1, slotsByFd.length << 1));
+        }
+        slotsByFd[fd] = slot + 1;
+    }
+
+    /**
+     * Stop using the slot of the file descriptor for new submissions. The slot still refers to the file until it is
+     * cleared in the ring, and is not handed out again until it is {@linkplain #release(int) released}.
+     *
+     * @return the slot of the file descriptor, or {@code -1} if it has none.
+     */
+    int detach(int fd) {
+        int slot = slot(fd);
+        if (slot >= 0) {
+            slotsByFd[fd] = 0;
+        }
+        return slot;
+    }
+
+    /**
+     * Return a {@linkplain #detach(int) detached} slot, which was cleared in the ring and is no longer referenced by
+     * any SQE, so it can be given to another file descriptor.
+     */
+    void release(int slot) {
+        assert slot >= 0 && freeSlotCount < freeSlots.length;
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Returns the address of the descriptor that {@code IORING_OP_FILES_UPDATE} sets a slot to, to clear it.
+     */
+    long clearedFdAddress() {
+        return clearedFdAddress;
+    }
+
+    /**
+     * Unregister the table. Must be called before the ring is closed.
+     */
+    void close() {
+        int res = Native.ioUringUnregisterFiles(ringFd);
+        if (res < 0) {
+            logger.debug("Failed to unregister fixed files (errno={})", -res);
+        }
+        PlatformDependent.freeMemory(clearedFdAddress);
+    }
+}
@@ -15,9 +15,11 @@
  */
 package io.netty5.channel.uring;
 
+import io.netty5.buffer.DefaultBufferAllocators;
 import io.netty5.channel.IoExecutionContext;
 import io.netty5.channel.IoHandle;
 import io.netty5.channel.IoHandler;
+import io.netty5.channel.SelectStrategy;
 import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.util.collection.IntObjectHashMap;
 import io.netty5.util.collection.IntObjectMap;
@@ -32,6 +34,7 @@ import java.util.ArrayDeque;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -43,48 +46,117 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
     private static final short RING_CLOSE = 1;
 
     private final RingBuffer ringBuffer;
+    private final IOUringBufferRing bufferRing;
+    private final IOUringFixedBuffers fixedBuffers;
+    private final IOUringFixedFiles fixedFiles;
     private final IntObjectMap<AbstractIOUringChannel<?>> channels;
     private final ArrayDeque<AbstractIOUringChannel<?>> touchedChannels;
+    private final SelectStrategy selectStrategy;
+    private final IntSupplier selectNowSupplier;
 
     private final AtomicBoolean eventfdAsyncNotify = new AtomicBoolean();
     private final FileDescriptor eventfd;
     private final long eventfdReadBuf;
     private long eventfdReadSubmitted;
 
+    private boolean ringDisabled;
     private boolean eventFdClosing;
     private volatile boolean shuttingDown;
     private boolean closeCompleted;
 
-    IOUringHandler(RingBuffer ringBuffer) {
+    IOUringHandler(RingBuffer ringBuffer, IOUringHandlerConfig config) {
         // Ensure that we load all native bits as otherwise it may fail when try to use native methods in IovArray
         IOUring.ensureAvailability();
         this.ringBuffer = requireNonNull(ringBuffer, "ringBuffer");
+        int bufferRingSize = config.getBufferRingSize();
+        bufferRing = bufferRingSize > 0 ? IOUringBufferRing.register(ringBuffer.fd(), bufferRingSize, (short) 0,
+                config.getBufferRingBufferSize(), DefaultBufferAllocators.offHeapAllocator()) : null;
+        int fixedBuffersSize = config.getFixedBuffersSize();
+        if (fixedBuffersSize > 0 && (ringBuffer.setupFlags() & Native.IORING_SETUP_SINGLE_ISSUER) != 0) {
+            // Fixed buffers are updated by whichever thread allocates or releases a pooled chunk.
+            logger.debug("Fixed buffers are not used with IORING_SETUP_SINGLE_ISSUER");
+            fixedBuffersSize = 0;
+        }
+        fixedBuffers = fixedBuffersSize > 0 ? IOUringFixedBuffers.register(ringBuffer.fd(), fixedBuffersSize,
+                DefaultBufferAllocators.offHeapAllocator()) : null;
+        int fixedFilesSize = config.getFixedFilesSize();
+        fixedFiles = fixedFilesSize > 0 ? IOUringFixedFiles.register(ringBuffer.fd(), fixedFilesSize) : null;
+        SubmissionQueue submissionQueue = ringBuffer.ioUringSubmissionQueue();
+        submissionQueue.fixedFiles(fixedFiles);
+        submissionQueue.coalesceWrites(config.isCoalesceWrites());
+        config.getSubmissionMetricsListener().accept(submissionQueue.metrics());
+        ringDisabled = (ringBuffer.setupFlags() & Native.IORING_SETUP_R_DISABLED) != 0;
         channels = new IntObjectHashMap<>();
         touchedChannels = new ArrayDeque<>();
+        selectStrategy = config.getSelectStrategyFactory().newSelectStrategy();
+        CompletionQueue completionQueue = ringBuffer.ioUringCompletionQueue();
+        selectNowSupplier = () -> {
+            submissionQueue.submitAndGetEvents();
+            return completionQueue.count();
+        };
         eventfd = Native.newBlockingEventFd();
         eventfdReadBuf = PlatformDependent.allocateMemory(8);
     }
 
     @Override
     public int run(IoExecutionContext context) {
+        if (ringDisabled) {
+            enableRing();
+        }
         SubmissionQueue submissionQueue = ringBuffer.ioUringSubmissionQueue();
         CompletionQueue completionQueue = ringBuffer.ioUringCompletionQueue();
-        if (!completionQueue.hasCompletions() && context.canBlock()) {
-            if (eventfdReadSubmitted == 0) {
-                submitEventFdRead();
-            }
-            if (context.deadlineNanos() != -1) {
-                submitTimeout(context);
-            }
-            submissionQueue.submitAndWait();
-        } else {
-            submissionQueue.submit();
+        int strategy;
+        try {
+            strategy = selectStrategy.calculateStrategy(selectNowSupplier, !context.canBlock());
+        } catch (Exception e) {
+            logger.warn("Unexpected exception in the select strategy.", e);
+            return 0;
+        }
+        switch (strategy) {
+            case SelectStrategy.CONTINUE:
+                return 0;
+
+            case SelectStrategy.BUSY_WAIT:
+                // fall-through to SELECT since the busy-wait is not supported with io_uring
+
+            case SelectStrategy.SELECT:
+                if (!completionQueue.hasCompletions() && context.canBlock()) {
+                    if (eventfdReadSubmitted == 0) {
+                        submitEventFdRead();
+                    }
+                    if (context.deadlineNanos() != -1) {
+                        submitTimeout(context);
+                    }
+                    submissionQueue.submitAndWait();
+                } else {
+                    submissionQueue.submitAndGetEvents();
+                }
+                break;
+
+            default:
+                // The select strategy already submitted and checked for completions.
+        }
+        if (context.shouldReportActiveIoTime()) {
+            long activeIoStartTime = System.nanoTime();
+            int completed = completionQueue.process(this);
+            notifyIoFinished();
+            context.reportActiveIoTime(System.nanoTime() - activeIoStartTime);
+            return completed;
         }
         int completed = completionQueue.process(this);
         notifyIoFinished();
         return completed;
     }
 
+    // Enabling the ring from the event loop thread makes it the single issuer, if the ring was set up that way.
+    private void enableRing() {
+        ringDisabled = false;
+        int res = Native.ioUringRegisterEnableRings(ringBuffer.fd());
+        if (res < 0) {
+            throw new IllegalStateException("Failed to enable io_uring ring (errno=" + -res + ')');
+        }
+    }
+
     private void notifyIoFinished() {
         AbstractIOUringChannel<?> ch;
         while ((ch = touchedChannels.poll()) != null) {
@@ -109,8 +181,19 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
             // We don't care about the result of async cancels; they are best effort.
             return;
         }
+        if (op == Native.IORING_OP_FILES_UPDATE) {
+            // Removal of a fixed file, for which the user data holds the slot in place of the fd.
+            if (UserData.decodeData(udata) == IOUringFixedFiles.RELEASE_SLOT) {
+                fixedFiles.release(fd);
+            }
+            return;
+        }
         AbstractIOUringChannel<?> ch = channels.get(fd);
         if (ch == null) {
+            if ((flags & Native.IORING_CQE_F_BUFFER) != 0 && bufferRing != null) {
+                // Don't lose the selected buffer for good, if the channel went away while its read was in flight.
+                bufferRing.recycleBuffer(flags >>> Native.IORING_CQE_BUFFER_SHIFT);
+            }
             logger.debug("ignoring {} completion for unknown channel (fd={}, res={})",
                     Native.opToStr(op), fd, res);
             return;
@@ -118,16 +201,19 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
         touchedChannels.offer(ch);
         switch (op) {
             case Native.IORING_OP_READ:
+            case Native.IORING_OP_READ_FIXED:
             case Native.IORING_OP_RECV:
             case Native.IORING_OP_ACCEPT:
             case Native.IORING_OP_RECVMSG:
-                ch.readComplete(res, udata);
+                ch.readComplete(res, flags, udata);
                 break;
             case Native.IORING_OP_WRITE:
+            case Native.IORING_OP_WRITE_FIXED:
             case Native.IORING_OP_SEND:
             case Native.IORING_OP_WRITEV:
             case Native.IORING_OP_SENDMSG:
-                ch.writeComplete(res, udata);
+            case Native.IORING_OP_SEND_ZC:
+                ch.writeComplete(res, flags, udata);
                 break;
             case Native.IORING_OP_CONNECT:
                 ch.connectComplete(res, udata);
@@ -143,6 +229,9 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
             case Native.IORING_OP_CLOSE:
                 ch.closeComplete(res, udata);
                 break;
+            case Native.IORING_OP_SPLICE:
+                ch.spliceComplete(res, udata);
+                break;
             default:
                 logger.warn("Unknown {} completion: fd={}, res={}, udata={}.", Native.opToStr(op), fd, res, udata);
         }
@@ -169,6 +258,9 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
     @Override
     public void prepareToDestroy() {
         shuttingDown = true;
+        if (ringDisabled) {
+            enableRing();
+        }
         CompletionQueue completionQueue = ringBuffer.ioUringCompletionQueue();
         SubmissionQueue submissionQueue = ringBuffer.ioUringSubmissionQueue();
         AbstractIOUringChannel<?>[] chs = channels.values().toArray(AbstractIOUringChannel[]::new);
@@ -178,9 +270,7 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
 
         for (AbstractIOUringChannel<?> ch : chs) {
             ch.close();
-            if (submissionQueue.count() > 0) {
-                submissionQueue.submit();
-            }
+            submissionQueue.submitAndGetEvents();
             if (completionQueue.hasCompletions()) {
                 completionQueue.process(this);
             }
@@ -260,6 +350,16 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
             return;
         }
         closeCompleted = true;
+        if (bufferRing != null) {
+            // Must be unregistered while the ring is still open.
+            bufferRing.close();
+        }
+        if (fixedBuffers != null) {
+            fixedBuffers.close();
+        }
+        if (fixedFiles != null) {
+            fixedFiles.close();
+        }
         ringBuffer.close();
         try {
             eventfd.close();
@@ -276,10 +376,13 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
             throw new RejectedExecutionException("IoEventLoop is shutting down");
         }
         int fd = ch.fd().intValue();
-        ch.completeChannelRegister(ringBuffer.ioUringSubmissionQueue());
+        ch.completeChannelRegister(ringBuffer.ioUringSubmissionQueue(), bufferRing, fixedBuffers);
         if (channels.put(fd, ch) == null) {
             ringBuffer.ioUringSubmissionQueue().incrementHandledFds();
         }
+        if (fixedFiles != null) {
+            fixedFiles.add(fd);
+        }
     }
 
     @Override
@@ -295,6 +398,9 @@ final class IOUringHandler implements IoHandler, CompletionCallback {
                 // If we found another Channel in the map that is mapped to the same FD the given Channel MUST be
                 // closed.
                 assert !ch.isOpen();
+            } else {
+                // No-op if the Channel was closed, which already removed the fd from the fixed files.
+                ringBuffer.ioUringSubmissionQueue().addFixedFileRemove(fd, false, true);
             }
         }
     }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.channel.DefaultSelectStrategyFactory;
+import io.netty5.channel.SelectStrategyFactory;
+
+import java.util.function.Consumer;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Configuration for the rings created by {@link IOUring#newFactory(IOUringHandlerConfig)}.
+ * <p>
+ * Setup modes that the kernel does not support are left out when the ring is created, see
+ * {@link IOUring#isSqPollSupported()}, {@link IOUring#isSingleIssuerSupported()},
+ * {@link IOUring#isDeferTaskrunSupported()}, {@link IOUring#isCoopTaskrunSupported()} and
+ * {@link IOUring#isSubmitAllSupported()}.
+ * <p>
+ * The configuration is copied when the factory is created, so later changes do not affect existing factories.
+ */
+public final class IOUringHandlerConfig {
+    private int ringSize = Native.DEFAULT_RING_SIZE;
+    private int kernelWorkerOffloadThreshold = Native.DEFAULT_IOSEQ_ASYNC_THRESHOLD;
+    private boolean sqPoll;
+    private int sqThreadCpu = -1;
+    private int sqThreadIdle;
+    private boolean singleIssuer;
+    private boolean deferTaskrun;
+    private boolean coopTaskrun;
+    private boolean submitAll = true;
+    private int bufferRingSize = Native.DEFAULT_BUFFER_RING_SIZE;
+    private int bufferRingBufferSize = Native.DEFAULT_BUFFER_RING_BUFFER_SIZE;
+    private int fixedBuffersSize = Native.DEFAULT_FIXED_BUFFERS_SIZE;
+    private int fixedFilesSize = Native.DEFAULT_FIXED_FILES_SIZE;
+    private boolean coalesceWrites;
+    private Consumer<IOUringSubmissionMetrics> submissionMetricsListener = metrics -> { };
+    private SelectStrategyFactory selectStrategyFactory = DefaultSelectStrategyFactory.INSTANCE;
+
+    public IOUringHandlerConfig() {
+    }
+
+    private IOUringHandlerConfig(IOUringHandlerConfig config) {
+        ringSize = config.ringSize;
+        kernelWorkerOffloadThreshold = config.kernelWorkerOffloadThreshold;
+        sqPoll = config.sqPoll;
+        sqThreadCpu = config.sqThreadCpu;
+        sqThreadIdle = config.sqThreadIdle;
+        singleIssuer = config.singleIssuer;
+        deferTaskrun = config.deferTaskrun;
+        coopTaskrun = config.coopTaskrun;
+        submitAll = config.submitAll;
+        bufferRingSize = config.bufferRingSize;
+        bufferRingBufferSize = config.bufferRingBufferSize;
+        fixedBuffersSize = config.fixedBuffersSize;
+        fixedFilesSize = config.fixedFilesSize;
+        coalesceWrites = config.coalesceWrites;
+        submissionMetricsListener = config.submissionMetricsListener;
+        selectStrategyFactory = config.selectStrategyFactory;
+    }
+
+    IOUringHandlerConfig copy() {
+        return new IOUringHandlerConfig(this);
+    }
+
+    public int getRingSize() {
+        return ringSize;
+    }
+
+    /**
+     * Set the number of submission queue entries of the ring.
+     */
+    public IOUringHandlerConfig setRingSize(int ringSize) {
+        this.ringSize = checkPositive(ringSize, "ringSize");
+        return this;
+    }
+
+    public int getKernelWorkerOffloadThreshold() {
+        return kernelWorkerOffloadThreshold;
+    }
+
+    /**
+     * Set the number of channels after which submissions are marked with {@code IOSQE_ASYNC}, and so are offloaded to
+     * kernel worker threads.
+     */
+    public IOUringHandlerConfig setKernelWorkerOffloadThreshold(int kernelWorkerOffloadThreshold) {
+        this.kernelWorkerOffloadThreshold = checkPositiveOrZero(
+                kernelWorkerOffloadThreshold, "kernelWorkerOffloadThreshold");
+        return this;
+    }
+
+    public boolean isSqPoll() {
+        return sqPoll;
+    }
+
+    /**
+     * Use a kernel thread to poll the submission queue ({@code IORING_SETUP_SQPOLL}). Submissions then do not need a
+     * syscall, as long as the kernel thread is awake. This trades a busy kernel thread per ring for lower latency.
+     */
+    public IOUringHandlerConfig setSqPoll(boolean sqPoll) {
+        this.sqPoll = sqPoll;
+        return this;
+    }
+
+    public int getSqThreadCpu() {
+        return sqThreadCpu;
+    }
+
+    /**
+     * Set the CPU the submission queue polling thread is pinned to, or {@code -1} (the default) to not pin it.
+     */
+    public IOUringHandlerConfig setSqThreadCpu(int sqThreadCpu) {
+        if (sqThreadCpu < -1) {
+            throw new IllegalArgumentException("sqThreadCpu: " + sqThreadCpu + " (expected: >= -1)");
+        }
+        this.sqThreadCpu = sqThreadCpu;
+        return this;
+    }
+
+    public int getSqThreadIdle() {
+        return sqThreadIdle;
+    }
+
+    /**
+     * Set the number of milliseconds the submission queue polling thread keeps polling without work, before it goes
+     * to sleep. {@code 0} (the default) uses the kernel default.
+     */
+    public IOUringHandlerConfig setSqThreadIdle(int sqThreadIdle) {
+        this.sqThreadIdle = checkPositiveOrZero(sqThreadIdle, "sqThreadIdle");
+        return this;
+    }
+
+    public boolean isSingleIssuer() {
+        return singleIssuer;
+    }
+
+    /**
+     * Tell the kernel that only the event loop thread submits to the ring ({@code IORING_SETUP_SINGLE_ISSUER}), which
+     * allows it to skip some synchronization. Fixed buffers are not used in this mode, as those are registered by the
+     * threads that allocate the pooled chunks.
+     */
+    public IOUringHandlerConfig setSingleIssuer(boolean singleIssuer) {
+        this.singleIssuer = singleIssuer;
+        return this;
+    }
+
+    public boolean isDeferTaskrun() {
+        return deferTaskrun;
+    }
+
+    /**
+     * Defer the completion work of the kernel until the event loop asks for completions
+     * ({@code IORING_SETUP_DEFER_TASKRUN}), instead of interrupting the event loop thread whenever something
+     * completes. This implies {@link #setSingleIssuer(boolean) single issuer}, and cannot be combined with
+     * {@link #setSqPoll(boolean) SQPOLL}.
+     */
+    public IOUringHandlerConfig setDeferTaskrun(boolean deferTaskrun) {
+        this.deferTaskrun = deferTaskrun;
+        return this;
+    }
+
+    public boolean isCoopTaskrun() {
+        return coopTaskrun;
+    }
+
+    /**
+     * Only run completion work when the event loop thread enters the kernel anyway ({@code IORING_SETUP_COOP_TASKRUN}),
+     * rather than interrupting it.
+     */
+    public IOUringHandlerConfig setCoopTaskrun(boolean coopTaskrun) {
+        this.coopTaskrun = coopTaskrun;
+        return this;
+    }
+
+    public boolean isSubmitAll() {
+        return submitAll;
+    }
+
+    /**
+     * Keep submitting the rest of a batch when one submission fails ({@code IORING_SETUP_SUBMIT_ALL}). This is enabled
+     * by default.
+     */
+    public IOUringHandlerConfig setSubmitAll(boolean submitAll) {
+        this.submitAll = submitAll;
+        return this;
+    }
+
+    public int getBufferRingSize() {
+        return bufferRingSize;
+    }
+
+    /**
+     * Set the number of buffers in the provided buffer ring, or {@code 0} to not use a provided buffer ring.
+     */
+    public IOUringHandlerConfig setBufferRingSize(int bufferRingSize) {
+        this.bufferRingSize = checkPositiveOrZero(bufferRingSize, "bufferRingSize");
+        return this;
+    }
+
+    public int getBufferRingBufferSize() {
+        return bufferRingBufferSize;
+    }
+
+    /**
+     * Set the size of each buffer in the provided buffer ring.
+     */
+    public IOUringHandlerConfig setBufferRingBufferSize(int bufferRingBufferSize) {
+        this.bufferRingBufferSize = checkPositive(bufferRingBufferSize, "bufferRingBufferSize");
+        return this;
+    }
+
+    public int getFixedBuffersSize() {
+        return fixedBuffersSize;
+    }
+
+    /**
+     * Set the number of fixed buffer slots registered for pooled chunks, or {@code 0} to not use fixed buffers.
+     */
+    public IOUringHandlerConfig setFixedBuffersSize(int fixedBuffersSize) {
+        this.fixedBuffersSize = Math.min(IOUringFixedBuffers.MAX_SLOTS,
+                checkPositiveOrZero(fixedBuffersSize, "fixedBuffersSize"));
+        return this;
+    }
+
+    public int getFixedFilesSize() {
+        return fixedFilesSize;
+    }
+
+    /**
+     * Set the number of fixed file slots registered for channels, or {@code 0} to not use fixed files.
+     */
+    public IOUringHandlerConfig setFixedFilesSize(int fixedFilesSize) {
+        this.fixedFilesSize = Math.min(IOUringFixedFiles.MAX_SLOTS,
+                checkPositiveOrZero(fixedFilesSize, "fixedFilesSize"));
+        return this;
+    }
+
+    public boolean isCoalesceWrites() {
+        return coalesceWrites;
+    }
+
+    /**
+     * Do not submit the writes of a flush right away, but leave them for the event loop, which then submits the writes
+     * of all channels that flushed in the same iteration with a single {@code io_uring_enter}. This saves syscalls
+     * when many channels flush small writes, at the cost of a little latency for the individual flush.
+     */
+    public IOUringHandlerConfig setCoalesceWrites(boolean coalesceWrites) {
+        this.coalesceWrites = coalesceWrites;
+        return this;
+    }
+
+    public Consumer<IOUringSubmissionMetrics> getSubmissionMetricsListener() {
+        return submissionMetricsListener;
+    }
+
+    /**
+     * Set a listener that is given the {@link IOUringSubmissionMetrics} of every ring that is created.
+     */
+    public IOUringHandlerConfig setSubmissionMetricsListener(
+            Consumer<IOUringSubmissionMetrics> submissionMetricsListener) {
+        this.submissionMetricsListener = requireNonNull(submissionMetricsListener, "submissionMetricsListener");
+        return this;
+    }
+
+    public SelectStrategyFactory getSelectStrategyFactory() {
+        return selectStrategyFactory;
+    }
+
+    /**
+     * Set the {@link SelectStrategyFactory} that decides whether an event loop waits for completions or only checks
+     * for them, like {@link io.netty5.channel.SpinThenBlockSelectStrategyFactory}. By default an event loop waits for
+     * completions whenever it has nothing else to do.
+     */
+    public IOUringHandlerConfig setSelectStrategyFactory(SelectStrategyFactory selectStrategyFactory) {
+        this.selectStrategyFactory = requireNonNull(selectStrategyFactory, "selectStrategyFactory");
+        return this;
+    }
+}
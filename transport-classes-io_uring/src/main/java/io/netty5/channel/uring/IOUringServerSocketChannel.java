@@ -18,6 +18,7 @@ package io.netty5.channel.uring;
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.AdaptiveReadHandleFactory;
 import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelException;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.ChannelShutdownDirection;
 import io.netty5.channel.EventLoop;
@@ -30,6 +31,7 @@ import io.netty5.channel.socket.SocketChannelWriteHandleFactory;
 import io.netty5.channel.socket.SocketProtocolFamily;
 import io.netty5.channel.unix.Errors;
 import io.netty5.channel.unix.UnixChannel;
+import io.netty5.channel.unix.UnixChannelOption;
 import io.netty5.util.NetUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,12 +48,14 @@ import static io.netty5.channel.unix.Buffer.nativeAddressOf;
 import static io.netty5.channel.unix.Errors.ERRNO_EAGAIN_NEGATIVE;
 import static io.netty5.channel.unix.Errors.ERRNO_EWOULDBLOCK_NEGATIVE;
 import static io.netty5.channel.unix.Limits.SSIZE_MAX;
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
 import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 
 public final class IOUringServerSocketChannel extends AbstractIOUringChannel<UnixChannel>
         implements ServerSocketChannel {
     private static final Logger LOGGER = LoggerFactory.getLogger(IOUringDatagramChannel.class);
     private static final short IS_ACCEPT = 1;
+    private static final short IS_ACCEPT_MULTISHOT = 2;
     private final ByteBuffer sockaddrMemory;
     private final long sockaddrPtr;
     private final long addrlenPtr;
@@ -62,6 +66,12 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     private final byte[] inet6AddressArray = new byte[SockaddrIn.IPV6_ADDRESS_LENGTH];
 
     private volatile int backlog = NetUtil.SOMAXCONN;
+    private volatile int reusePortCpuSteering;
+
+    // Multishot accept state. The udata is non-zero for as long as the kernel may still post completions for it.
+    private boolean acceptMultishot = IOUring.isAcceptMultishotSupported();
+    private long acceptMultishotUdata;
+    private boolean acceptMultishotCancelled;
 
     public IOUringServerSocketChannel(EventLoop eventLoop, EventLoopGroup childEventLoopGroup) {
         super(null, eventLoop, false, new ServerChannelReadHandleFactory(), new ServerChannelWriteHandleFactory(),
@@ -84,15 +94,62 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
 
     @Override
     protected void doRead(boolean wasReadPendingAlready) throws Exception {
-        if (!wasReadPendingAlready) {
+        if (acceptMultishot) {
+            // A single armed multishot accept delivers all connections, so only arm it if not done already.
+            if (acceptMultishotUdata == 0) {
+                submitAcceptMultishot();
+            }
+        } else if (!wasReadPendingAlready) {
             submissionQueue.addAccept(fd().intValue(), sockaddrPtr, addrlenPtr, IS_ACCEPT);
         }
     }
 
+    private void submitAcceptMultishot() {
+        acceptMultishotUdata = submissionQueue.addAcceptMultishot(fd().intValue(), IS_ACCEPT_MULTISHOT);
+        acceptMultishotCancelled = false;
+    }
+
+    @Override
+    protected void doClearScheduledRead() {
+        super.doClearScheduledRead();
+        if (acceptMultishotUdata != 0 && !acceptMultishotCancelled) {
+            // Stop accepting while reading is paused. Connections that were already accepted by the kernel
+            // will still be delivered before the cancellation completes.
+            submissionQueue.addCancel(fd().intValue(), acceptMultishotUdata);
+            acceptMultishotCancelled = true;
+        }
+    }
+
     @Override
-    void readComplete(int res, long udata) {
+    void readComplete(int res, int flags, long udata) {
+        short data = UserData.decodeData(udata);
+        if (data == IS_ACCEPT_MULTISHOT && (flags & Native.IORING_CQE_F_MORE) == 0) {
+            // The kernel will not post any more completions for this accept.
+            acceptMultishotUdata = 0;
+            if (res == Native.ERRNO_EINVAL_NEGATIVE) {
+                // The kernel does not understand IORING_ACCEPT_MULTISHOT. Fall back to one accept per connection.
+                logger().debug("Multishot accept not supported, falling back to single accepts for {}", this);
+                acceptMultishot = false;
+                if (isActive() && isReadPending()) {
+                    submissionQueue.addAccept(fd().intValue(), sockaddrPtr, addrlenPtr, IS_ACCEPT);
+                }
+                return;
+            }
+            if (res == Native.ERRNO_ECANCELED_NEGATIVE) {
+                // Re-arm if a read was requested while the cancellation was in flight.
+                if (isActive() && isReadPending()) {
+                    submitAcceptMultishot();
+                }
+                return;
+            }
+            if (res >= 0 && isActive() && isReadPending()) {
+                // The multishot was terminated by the kernel even though it succeeded, e.g. due to CQ overflow.
+                // Re-arm it, so we continue to accept after processing this connection.
+                submitAcceptMultishot();
+            }
+        }
         currentCompletionResult = res;
-        currentCompletionData = UserData.decodeData(udata);
+        currentCompletionData = data;
         readNow();
     }
 
@@ -100,14 +157,14 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     protected boolean doReadNow(ReadSink readSink) throws IOException {
         int res = currentCompletionResult;
         short data = currentCompletionData;
-        if (data != IS_ACCEPT) {
+        if (data != IS_ACCEPT && data != IS_ACCEPT_MULTISHOT) {
             readSink.processRead(0, 0, null);
             return false;
         }
         currentCompletionResult = 0;
         currentCompletionData = 0;
         if (res >= 0) {
-            Channel channel = newChildChannel(res);
+            Channel channel = newChildChannel(res, data == IS_ACCEPT_MULTISHOT);
             readSink.processRead(1, 1, channel);
         } else if (res == ERRNO_EAGAIN_NEGATIVE || res == ERRNO_EWOULDBLOCK_NEGATIVE) {
             // Check if we failed because there was nothing to accept atm.
@@ -124,9 +181,10 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         throw new UnsupportedOperationException();
     }
 
-    private Channel newChildChannel(int fd) {
+    private Channel newChildChannel(int fd, boolean multishot) {
         final SocketAddress peer;
-        if (socket.protocolFamily() == SocketProtocolFamily.UNIX) {
+        if (socket.protocolFamily() == SocketProtocolFamily.UNIX || multishot) {
+            // Multishot accepts do not fill in the peer address, so the child will have to look it up.
             peer = null;
         } else {
             peer = buildAddress();
@@ -160,7 +218,7 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     }
 
     @Override
-    void writeComplete(int result, long udata) {
+    void writeComplete(int result, int flags, long udata) {
         throw new UnsupportedOperationException();
     }
 
@@ -210,6 +268,9 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         if (option == ChannelOption.SO_BACKLOG) {
             return (T) Integer.valueOf(getBacklog());
         }
+        if (option == UnixChannelOption.SO_REUSEPORT_CPU_STEERING) {
+            return (T) Integer.valueOf(reusePortCpuSteering);
+        }
         return super.getExtendedOption(option);
     }
 
@@ -217,6 +278,8 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
     protected <T> void setExtendedOption(ChannelOption<T> option, T value) {
         if (option == ChannelOption.SO_BACKLOG) {
             setBacklog((Integer) value);
+        } else if (option == UnixChannelOption.SO_REUSEPORT_CPU_STEERING) {
+            setReusePortCpuSteering((Integer) value);
         } else {
             super.setExtendedOption(option, value);
         }
@@ -224,7 +287,7 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
 
     @Override
     protected boolean isExtendedOptionSupported(ChannelOption<?> option) {
-        if (option == ChannelOption.SO_BACKLOG) {
+        if (option == ChannelOption.SO_BACKLOG || option == UnixChannelOption.SO_REUSEPORT_CPU_STEERING) {
             return true;
         }
         return super.isExtendedOptionSupported(option);
@@ -238,4 +301,14 @@ public final class IOUringServerSocketChannel extends AbstractIOUringChannel<Uni
         checkPositiveOrZero(backlog, "backlog");
         this.backlog = backlog;
     }
+
+    private void setReusePortCpuSteering(int groupSize) {
+        checkPositive(groupSize, "groupSize");
+        try {
+            socket.setReusePortCpuSteering(groupSize);
+            reusePortCpuSteering = groupSize;
+        } catch (IOException e) {
+            throw new ChannelException(e);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import io.netty5.channel.socket.SocketChannel;
 import io.netty5.channel.socket.SocketChannelWriteHandleFactory;
 import io.netty5.channel.socket.SocketProtocolFamily;
 import io.netty5.channel.unix.Errors;
+import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.channel.unix.IovArray;
 import io.netty5.channel.unix.UnixChannelUtil;
 import io.netty5.util.concurrent.Future;
@@ -43,11 +44,15 @@ import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.NotYetConnectedException;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.Executor;
 
 import static io.netty5.channel.unix.Limits.IOV_MAX;
 import static io.netty5.channel.unix.Limits.SSIZE_MAX;
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 import static java.util.Objects.requireNonNull;
 
 public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringServerSocketChannel>
@@ -55,14 +60,25 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
     private static final Logger LOGGER = LoggerFactory.getLogger(IOUringDatagramChannel.class);
     private static final short IS_WRITE = 0;
     private static final short IS_CONNECT = 1;
+    private static final short SPLICE_IN = 0;
+    private static final short SPLICE_OUT = 1;
+    // The default capacity of a pipe. Splicing at most this much at a time means the pipe never fills up.
+    private static final int SPLICE_PIPE_SIZE = 65536;
 
     private final IovArray writeIovs;
     private final ObjectRing<Promise<Void>> writePromises;
+    private final PendingData<ZeroCopyWrite> zeroCopyWrites;
 
     private Buffer connectInitalData;
     private MsgHdrMemory connectMsgHdr;
     private boolean writeInFlight;
     private boolean moreWritesPending;
+    private int sendZcThreshold;
+    private boolean sendZcUnsupported;
+    private boolean linkWriteRead;
+    // The zero-copy write whose send is in flight, if any. It may still await notifications once this is cleared.
+    private ZeroCopyWrite zeroCopyWrite;
+    private SpliceTask spliceTask;
 
     public IOUringSocketChannel(EventLoop eventLoop) {
         this(null, eventLoop, true, new AdaptiveReadHandleFactory(),
@@ -78,6 +94,7 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
                 socket, remote, active);
         writeIovs = new IovArray();
         writePromises = new ObjectRing<>();
+        zeroCopyWrites = PendingData.newPendingData();
     }
 
     @Override
@@ -92,6 +109,11 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         return false;
     }
 
+    @Override
+    protected boolean isBufferRingSupported() {
+        return true;
+    }
+
     @Override
     protected void submitConnect(InetSocketAddress remoteAddress, Buffer initialData) throws IOException {
         if (initialData != null && initialData.isDirect() && supportsTcpFastOpen()) {
@@ -147,15 +169,54 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         // If we already have an outstanding write promise, we can't write anymore until it completes.
         if (!writeInFlight) {
             writeSink.consumeEachFlushedMessage(this::submitWriteMessage);
-            submissionQueue.addWritev(fd().intValue(), writeIovs.memoryAddress(0), writeIovs.count(), IS_WRITE);
+            if (zeroCopyWrite != null) {
+                zeroCopyWrite.submit();
+            } else {
+                long udata = submitWrite();
+                if (linkWriteRead) {
+                    linkableWriteUdata = udata;
+                }
+            }
             writeInFlight = true;
         }
     }
 
+    private long submitWrite() {
+        long udata = submitWriteFixed();
+        if (udata == 0) {
+            udata = submissionQueue.addWritev(fd().intValue(), writeIovs.memoryAddress(0), writeIovs.count(), IS_WRITE);
+        }
+        return udata;
+    }
+
+    private long submitWriteFixed() {
+        if (fixedBuffers == null || writeIovs.count() != 1) {
+            return 0;
+        }
+        // A single buffer that is part of a registered chunk; the kernel doesn't need to pin its pages.
+        long address = writeIovs.iovBase(0);
+        int length = writeIovs.iovLen(0);
+        int bufIndex = fixedBuffers.bufferIndex(address, length);
+        if (bufIndex < 0) {
+            return 0;
+        }
+        return submissionQueue.addWriteFixed(fd().intValue(), address, length, bufIndex, IS_WRITE);
+    }
+
     private boolean submitWriteMessage(Object msg, Promise<Void> promise) {
+        if (zeroCopyWrite != null) {
+            // A zero-copy send is always submitted on its own.
+            return false;
+        }
         if (msg instanceof Buffer) {
             Buffer buf = (Buffer) msg;
-            if (buf.readableBytes() + writeIovs.size() < writeIovs.maxBytes() &&
+            if (isSendZcCandidate(buf)) {
+                if (writeIovs.count() > 0) {
+                    // Send what we have gathered so far first, and pick this buffer up with the next write.
+                    return false;
+                }
+                zeroCopyWrite = new ZeroCopyWrite(buf, promise);
+            } else if (buf.readableBytes() + writeIovs.size() < writeIovs.maxBytes() &&
                     buf.countReadableComponents() + writeIovs.count() < IOV_MAX) {
                 writePromises.push(promise, buf.readableBytes());
                 writeIovs.addReadable(buf);
@@ -178,8 +239,17 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         return true;
     }
 
+    private boolean isSendZcCandidate(Buffer buf) {
+        return sendZcThreshold > 0 && !sendZcUnsupported && buf.readableBytes() >= sendZcThreshold &&
+                buf.countReadableComponents() == 1 && IOUring.isSendZcSupported();
+    }
+
     @Override
-    void writeComplete(int result, long udata) {
+    void writeComplete(int result, int flags, long udata) {
+        if (UserData.decodeOp(udata) == Native.IORING_OP_SEND_ZC) {
+            sendZcComplete(result, flags, UserData.decodeData(udata));
+            return;
+        }
         writeInFlight = false;
         short data = UserData.decodeData(udata);
         if (data == IS_CONNECT) {
@@ -221,13 +291,145 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
                 writeFlushedNow();
             } else if (!completedAll) {
                 // We did not write everything. Submit another write IO for the remainder.
-                submissionQueue.addWritev(fd().intValue(),
-                        writeIovs.memoryAddress(0), writeIovs.count(), IS_WRITE);
+                submitWrite();
                 writeInFlight = true;
             }
         }
     }
 
+    private void sendZcComplete(int result, int flags, short id) {
+        ZeroCopyWrite write = zeroCopyWrites.getPending(id);
+        if (write == null) {
+            // Writes are only removed once all their completions arrived, or when they were never submitted.
+            return;
+        }
+        if ((flags & Native.IORING_CQE_F_NOTIF) != 0) {
+            // The kernel no longer references the memory of one of the sends.
+            write.pendingNotifications--;
+            write.tryComplete();
+            tryCompleteClose();
+            return;
+        }
+        writeInFlight = false;
+        zeroCopyWrite = null;
+        if ((flags & Native.IORING_CQE_F_MORE) != 0) {
+            // A notification will follow once the kernel is done with the memory.
+            write.pendingNotifications++;
+        }
+        if (result == Native.ERRNO_EINVAL_NEGATIVE && !write.sent && write.pendingNotifications == 0 &&
+                !isCloseSubmitted()) {
+            // Zero-copy is not supported for this socket. Fall back to a regular write of the same bytes.
+            sendZcUnsupported = true;
+            zeroCopyWrites.removePending(id);
+            writePromises.push(write.promise, write.remaining);
+            writeIovs.addReadable(write.buffer);
+            submissionQueue.addWritev(fd().intValue(), writeIovs.memoryAddress(0), writeIovs.count(), IS_WRITE);
+            writeInFlight = true;
+            return;
+        }
+        if (result < 0) {
+            var e = Errors.newIOException("send_zc", result);
+            write.cause = e;
+            write.tryComplete();
+            if (isCloseSubmitted()) {
+                tryCompleteClose();
+            } else {
+                handleWriteError(e);
+            }
+            return;
+        }
+        write.sent = true;
+        write.address += result;
+        write.remaining -= result;
+        if (write.remaining > 0 && isCloseSubmitted()) {
+            // The socket is closing, so its fd must not be used anymore.
+            write.cause = new ClosedChannelException();
+        } else if (write.remaining > 0) {
+            // We did not send everything. Submit another send for the remainder.
+            zeroCopyWrite = write;
+            write.submit();
+            writeInFlight = true;
+            return;
+        }
+        write.tryComplete();
+        if (isCloseSubmitted()) {
+            tryCompleteClose();
+        } else if (moreWritesPending) {
+            moreWritesPending = false;
+            writeFlushedNow();
+        }
+    }
+
+    /**
+     * Splice up to {@code length} bytes from this channel into the given target channel. The bytes are moved through a
+     * kernel pipe with {@code IORING_OP_SPLICE}, so they are never copied into user space.
+     * <p>
+     * Both channels must be registered on the same event loop. This channel must not read while the splice is in
+     * progress, so {@link ChannelOption#AUTO_READ} must be disabled and {@link #read()} must not be called. Nothing
+     * else should be written to the target either, as those writes would interleave with the spliced bytes.
+     * <p>
+     * If this channel reaches EOF before {@code length} bytes were spliced, the splice completes early. The half-close
+     * is relayed by shutting down the output of the target, if {@code shutdownOutputOnEof} is {@code true}.
+     *
+     * @param target the channel to splice the bytes into.
+     * @param length the number of bytes to splice, or {@link Long#MAX_VALUE} to splice until EOF.
+     * @param shutdownOutputOnEof {@code true} if the output of the target should be shut down when this channel
+     *                            reaches EOF.
+     * @return a future that is completed with the number of bytes spliced into the target.
+     */
+    public Future<Long> spliceTo(IOUringSocketChannel target, long length, boolean shutdownOutputOnEof) {
+        requireNonNull(target, "target");
+        checkPositive(length, "length");
+        Promise<Long> promise = newPromise();
+        if (target.executor() != executor()) {
+            promise.setFailure(new IllegalArgumentException("target must be registered on the same event loop"));
+        } else if (executor().inEventLoop()) {
+            spliceTo0(target, length, shutdownOutputOnEof, promise);
+        } else {
+            executor().execute(() -> spliceTo0(target, length, shutdownOutputOnEof, promise));
+        }
+        return promise.asFuture();
+    }
+
+    private void spliceTo0(IOUringSocketChannel target, long length, boolean shutdownOutputOnEof,
+                           Promise<Long> promise) {
+        if (!isActive() || !target.isActive()) {
+            promise.setFailure(new ClosedChannelException());
+            return;
+        }
+        if (submissionQueue == null) {
+            promise.setFailure(new IllegalStateException("channel not registered"));
+            return;
+        }
+        if (spliceTask != null) {
+            promise.setFailure(new IllegalStateException("splice already in progress"));
+            return;
+        }
+        if (getOption(ChannelOption.AUTO_READ)) {
+            promise.setFailure(new IllegalStateException("AUTO_READ must be disabled while splicing"));
+            return;
+        }
+        try {
+            spliceTask = new SpliceTask(target, length, shutdownOutputOnEof, promise);
+        } catch (IOException e) {
+            promise.setFailure(e);
+            return;
+        }
+        spliceTask.spliceIn();
+    }
+
+    @Override
+    boolean isSplicing() {
+        return spliceTask != null;
+    }
+
+    @Override
+    void spliceComplete(int res, long udata) {
+        if (spliceTask != null && spliceTask.spliceUdata == udata) {
+            spliceTask.complete(res, UserData.decodeData(udata));
+        }
+    }
+
     @Override
     protected void writeLoopComplete(boolean allWritten) {
         // Don't schedule new write tasks automatically
@@ -242,7 +444,7 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         // We only do one write at a time, because on TCP we have to do the writes in-order,
         // and operations in io_uring can complete out-of-order.
         moreWritesPending = true;
-        return !writePromises.isEmpty();
+        return !writePromises.isEmpty() || zeroCopyWrite != null;
     }
 
     @Override
@@ -288,17 +490,54 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
         return LOGGER;
     }
 
+    @Override
+    protected Future<Executor> prepareToClose() {
+        if (spliceTask != null) {
+            // The splice may be blocked on a kernel worker, waiting for data.
+            spliceTask.cancel();
+        }
+        return super.prepareToClose();
+    }
+
     @Override
     protected void doClose() {
         try {
             super.doClose();
         } finally {
             writeIovs.release();
+            failZeroCopyWrites();
+            if (spliceTask != null) {
+                spliceTask.fail(new ClosedChannelException());
+            }
         }
     }
 
+    @Override
+    boolean hasPendingCompletions() {
+        // The kernel may still send the memory of zero-copy writes after the socket was closed, so it must not be
+        // released, and the completions must still reach this channel, until the kernel has notified us for all.
+        return !zeroCopyWrites.isEmpty();
+    }
+
+    private void failZeroCopyWrites() {
+        // The close only completes once all zero-copy writes completed, so this only fails writes that were never
+        // submitted.
+        if (!zeroCopyWrites.isEmpty()) {
+            ClosedChannelException cause = new ClosedChannelException();
+            zeroCopyWrites.forEach((id, write) -> write.promise.tryFailure(cause));
+            zeroCopyWrites.clear();
+        }
+        zeroCopyWrite = null;
+    }
+
     @Override
     protected <T> T getExtendedOption(ChannelOption<T> option) {
+        if (option == IOUringChannelOption.SEND_ZC_THRESHOLD) {
+            return (T) Integer.valueOf(sendZcThreshold);
+        }
+        if (option == IOUringChannelOption.LINK_WRITE_READ) {
+            return (T) Boolean.valueOf(linkWriteRead);
+        }
         if (option == ChannelOption.TCP_FASTOPEN_CONNECT) {
             try {
                 return (T) Boolean.valueOf(socket.isTcpFastOpenConnect());
@@ -311,7 +550,11 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
 
     @Override
     protected <T> void setExtendedOption(ChannelOption<T> option, T value) {
-        if (option == ChannelOption.TCP_FASTOPEN_CONNECT) {
+        if (option == IOUringChannelOption.SEND_ZC_THRESHOLD) {
+            sendZcThreshold = checkPositiveOrZero((Integer) value, "sendZcThreshold");
+        } else if (option == IOUringChannelOption.LINK_WRITE_READ) {
+            linkWriteRead = (Boolean) value;
+        } else if (option == ChannelOption.TCP_FASTOPEN_CONNECT) {
             try {
                 socket.setTcpFastOpenConnect((Boolean) value);
             } catch (IOException e) {
@@ -324,7 +567,182 @@ public final class IOUringSocketChannel extends AbstractIOUringChannel<IOUringSe
 
     @Override
     protected boolean isExtendedOptionSupported(ChannelOption<?> option) {
-        return option == ChannelOption.TCP_FASTOPEN_CONNECT || super.isExtendedOptionSupported(option);
+        return option == IOUringChannelOption.SEND_ZC_THRESHOLD || option == IOUringChannelOption.LINK_WRITE_READ ||
+                option == ChannelOption.TCP_FASTOPEN_CONNECT || super.isExtendedOptionSupported(option);
+    }
+
+    /**
+     * A buffer written with {@code IORING_OP_SEND_ZC}. Its promise is only completed once all of it has been sent, and
+     * the kernel has posted a notification for every send, since only then the buffer can be released.
+     */
+    private final class ZeroCopyWrite {
+        final Buffer buffer;
+        final Promise<Void> promise;
+        final short id;
+        long address;
+        int remaining;
+        int pendingNotifications;
+        boolean sent;
+        Throwable cause;
+
+        ZeroCopyWrite(Buffer buffer, Promise<Void> promise) {
+            this.buffer = buffer;
+            this.promise = promise;
+            try (var itr = buffer.forEachComponent()) {
+                var cmp = itr.firstReadable();
+                address = cmp.readableNativeAddress();
+                remaining = cmp.readableBytes();
+            }
+            id = zeroCopyWrites.addPending(this);
+        }
+
+        void submit() {
+            submissionQueue.addSendZc(fd().intValue(), address, remaining, id);
+        }
+
+        void tryComplete() {
+            if (zeroCopyWrite == this || pendingNotifications > 0) {
+                return;
+            }
+            zeroCopyWrites.removePending(id);
+            if (cause == null) {
+                promise.setSuccess(null);
+            } else {
+                promise.setFailure(cause);
+            }
+        }
+    }
+
+    /**
+     * Moves bytes from this channel into a target channel, by alternating between a splice from the socket into the
+     * pipe, and a splice of everything in the pipe into the target socket. Every splice is linked to a poll, for
+     * {@code POLLIN} on this socket or {@code POLLOUT} on the target, so no kernel worker blocks while the socket has
+     * nothing to read, and a full send buffer of the target is waited for instead of failing the splice.
+     */
+    private final class SpliceTask {
+        private final IOUringSocketChannel target;
+        private final boolean shutdownOutputOnEof;
+        private final Promise<Long> promise;
+        private final FileDescriptor pipeOut;
+        private final FileDescriptor pipeIn;
+        private long remaining;
+        private long transferred;
+        private int buffered;
+        private long pollUdata;
+        long spliceUdata;
+
+        SpliceTask(IOUringSocketChannel target, long length, boolean shutdownOutputOnEof, Promise<Long> promise)
+                throws IOException {
+            this.target = target;
+            this.shutdownOutputOnEof = shutdownOutputOnEof;
+            this.promise = promise;
+            remaining = length;
+            FileDescriptor[] pipe = FileDescriptor.pipe();
+            pipeOut = pipe[0];
+            pipeIn = pipe[1];
+            try {
+                // Splices are executed by kernel workers, which must block on the pipe instead of failing with EAGAIN.
+                LinuxSocket.makeBlocking(pipeOut);
+                LinuxSocket.makeBlocking(pipeIn);
+            } catch (IOException e) {
+                closePipe();
+                throw e;
+            }
+        }
+
+        void spliceIn() {
+            if (submissionQueue.remaining() < 2) {
+                // The poll and the splice are linked, so they must not be separated by a submit.
+                submissionQueue.submit();
+            }
+            int fd = fd().intValue();
+            int length = (int) Math.min(remaining, SPLICE_PIPE_SIZE);
+            pollUdata = submissionQueue.addPollLink(fd, Native.POLLIN);
+            spliceUdata = submissionQueue.addSplice(fd, fd, pipeIn.intValue(), length, SPLICE_IN);
+        }
+
+        private void spliceOut() {
+            if (submissionQueue.remaining() < 2) {
+                submissionQueue.submit();
+            }
+            // The target socket is non-blocking, so only splice into it once it can take more bytes. This waits for
+            // a slow peer, instead of failing the splice with EAGAIN when the send buffer is full.
+            int targetFd = target.fd().intValue();
+            pollUdata = submissionQueue.addPollLink(targetFd, Native.POLLOUT);
+            spliceUdata = submissionQueue.addSplice(
+                    fd().intValue(), pipeOut.intValue(), targetFd, buffered, SPLICE_OUT);
+        }
+
+        void complete(int res, short stage) {
+            if (stage == SPLICE_OUT &&
+                    (res == Errors.ERRNO_EAGAIN_NEGATIVE || res == Errors.ERRNO_EWOULDBLOCK_NEGATIVE)) {
+                // The send buffer filled up again between the poll and the splice, so wait for it once more.
+                spliceOut();
+                return;
+            }
+            if (res < 0) {
+                fail(res == Native.ERRNO_ECANCELED_NEGATIVE ? new ClosedChannelException() :
+                        Errors.newIOException("splice", res));
+                return;
+            }
+            if (stage == SPLICE_IN) {
+                if (res == 0) {
+                    // EOF, nothing more will arrive.
+                    done();
+                    promise.setSuccess(transferred);
+                    if (shutdownOutputOnEof) {
+                        target.shutdown(ChannelShutdownDirection.Outbound);
+                    }
+                    return;
+                }
+                buffered = res;
+                remaining -= res;
+                spliceOut();
+            } else {
+                assert stage == SPLICE_OUT;
+                buffered -= res;
+                transferred += res;
+                if (buffered > 0) {
+                    spliceOut();
+                } else if (remaining == 0) {
+                    done();
+                    promise.setSuccess(transferred);
+                } else {
+                    spliceIn();
+                }
+            }
+        }
+
+        void cancel() {
+            int fd = fd().intValue();
+            if (pollUdata != 0) {
+                submissionQueue.addCancel(fd, pollUdata);
+            }
+            submissionQueue.addCancel(fd, spliceUdata);
+        }
+
+        void fail(Throwable cause) {
+            done();
+            promise.tryFailure(cause);
+        }
+
+        private void done() {
+            spliceTask = null;
+            closePipe();
+        }
+
+        private void closePipe() {
+            try {
+                pipeIn.close();
+            } catch (IOException e) {
+                LOGGER.debug("Failed to close splice pipe", e);
+            }
+            try {
+                pipeOut.close();
+            } catch (IOException e) {
+                LOGGER.debug("Failed to close splice pipe", e);
+            }
+        }
     }
 
     private final class RegionWriter implements WritableByteChannel, FutureListener<Void> {
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+/**
+ * Submission statistics of a single ring, as handed out by
+ * {@link IOUringHandlerConfig#setSubmissionMetricsListener(java.util.function.Consumer)}.
+ * <p>
+ * The counters are only updated by the event loop thread, but can be read from any thread.
+ */
+public final class IOUringSubmissionMetrics {
+    private volatile long submits;
+    private volatile long submittedSqes;
+
+    IOUringSubmissionMetrics() {
+    }
+
+    void recordSubmit(int sqes) {
+        // Single writer, so there is no need for atomic increments.
+        submits = submits + 1;
+        submittedSqes = submittedSqes + sqes;
+    }
+
+    /**
+     * Returns the number of times SQEs were handed to the kernel.
+     */
+    public long submits() {
+        return submits;
+    }
+
+    /**
+     * Returns the number of SQEs that were handed to the kernel.
+     */
+    public long submittedSqes() {
+        return submittedSqes;
+    }
+
+    /**
+     * Returns the average number of SQEs per submit, or {@code 0} if nothing was submitted yet.
+     */
+    public double sqesPerSubmit() {
+        long submits = this.submits;
+        return submits == 0 ? 0 : (double) submittedSqes / submits;
+    }
+
+    @Override
+    public String toString() {
+        return "IOUringSubmissionMetrics(submits: " + submits + ", submittedSqes: " + submittedSqes + ')';
+    }
+}
@@ -18,6 +18,7 @@ package io.netty5.channel.uring;
 import io.netty5.channel.ChannelException;
 import io.netty5.channel.socket.SocketProtocolFamily;
 import io.netty5.channel.unix.Errors;
+import io.netty5.channel.unix.FileDescriptor;
 import io.netty5.channel.unix.NativeInetAddress;
 import io.netty5.channel.unix.PeerCredentials;
 import io.netty5.channel.unix.Socket;
@@ -288,6 +289,13 @@ final class LinuxSocket extends Socket {
         setUdpGro(intValue(), gro ? 1 : 0);
     }
 
+    static void makeBlocking(FileDescriptor fd) throws IOException {
+        int result = makeBlocking(fd.intValue());
+        if (result != 0) {
+            throw Errors.newIOException("makeBlocking", result);
+        }
+    }
+
     void makeBlocking() throws IOException {
         int result = makeBlocking(intValue());
         if (result != 0) {
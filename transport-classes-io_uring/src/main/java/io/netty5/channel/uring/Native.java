@@ -38,6 +38,17 @@ final class Native {
     static final int DEFAULT_RING_SIZE = Math.max(64, SystemPropertyUtil.getInt("io.netty5.iouring.ringSize", 4096));
     static final int DEFAULT_IOSEQ_ASYNC_THRESHOLD =
             Math.max(0, SystemPropertyUtil.getInt("io.netty5.iouring.iosqeAsyncThreshold", 25));
+    // Number of buffers in the provided buffer ring of each IOUringHandler, or 0 to not use a buffer ring.
+    static final int DEFAULT_BUFFER_RING_SIZE =
+            Math.max(0, SystemPropertyUtil.getInt("io.netty5.iouring.bufferRingSize", 0));
+    static final int DEFAULT_BUFFER_RING_BUFFER_SIZE =
+            Math.max(64, SystemPropertyUtil.getInt("io.netty5.iouring.bufferRingBufferSize", 8192));
+    // Number of fixed buffer slots each IOUringHandler registers for pooled chunks, or 0 to not use fixed buffers.
+    static final int DEFAULT_FIXED_BUFFERS_SIZE = Math.min(IOUringFixedBuffers.MAX_SLOTS,
+            Math.max(0, SystemPropertyUtil.getInt("io.netty5.iouring.fixedBuffers", 0)));
+    // Number of fixed file slots each IOUringHandler registers for its channels, or 0 to not use fixed files.
+    static final int DEFAULT_FIXED_FILES_SIZE = Math.min(IOUringFixedFiles.MAX_SLOTS,
+            Math.max(0, SystemPropertyUtil.getInt("io.netty5.iouring.fixedFiles", 0)));
 
     static {
         Selector selector = null;
@@ -131,6 +142,8 @@ final class Native {
     static final int POLLRDHUP = NativeStaticallyReferencedJniMethods.pollrdhup();
     static final int ERRNO_ECANCELED_NEGATIVE = -NativeStaticallyReferencedJniMethods.ecanceled();
     static final int ERRNO_ETIME_NEGATIVE = -NativeStaticallyReferencedJniMethods.etime();
+    static final int ERRNO_EINVAL_NEGATIVE = -NativeStaticallyReferencedJniMethods.einval();
+    static final int ERRNO_ENOBUFS_NEGATIVE = -NativeStaticallyReferencedJniMethods.enobufs();
 
     // These constants must be defined to have the same numeric value as their corresponding
     // ordinal in the enum defined in the io_uring.h header file.
@@ -175,6 +188,15 @@ final class Native {
     static final byte IORING_OP_MKDIRAT = 37; // Specified by IORING_OP_MKDIRAT in io_uring.h
     static final byte IORING_OP_SYMLINKAT = 38; // Specified by IORING_OP_SYMLINKAT in io_uring.h
     static final byte IORING_OP_LINKAT = 39; // Specified by IORING_OP_LINKAT in io_uring.h
+    static final byte IORING_OP_MSG_RING = 40; // Specified by IORING_OP_MSG_RING in io_uring.h
+    static final byte IORING_OP_FSETXATTR = 41; // Specified by IORING_OP_FSETXATTR in io_uring.h
+    static final byte IORING_OP_SETXATTR = 42; // Specified by IORING_OP_SETXATTR in io_uring.h
+    static final byte IORING_OP_FGETXATTR = 43; // Specified by IORING_OP_FGETXATTR in io_uring.h
+    static final byte IORING_OP_GETXATTR = 44; // Specified by IORING_OP_GETXATTR in io_uring.h
+    static final byte IORING_OP_SOCKET = 45; // Specified by IORING_OP_SOCKET in io_uring.h
+    static final byte IORING_OP_URING_CMD = 46; // Specified by IORING_OP_URING_CMD in io_uring.h
+    static final byte IORING_OP_SEND_ZC = 47; // Specified by IORING_OP_SEND_ZC in io_uring.h
+    static final byte IORING_OP_SENDMSG_ZC = 48; // Specified by IORING_OP_SENDMSG_ZC in io_uring.h
 
     static String opToStr(byte op) {
         switch (op) {
@@ -218,13 +240,40 @@ final class Native {
             case IORING_OP_MKDIRAT: return "MKDIRAT";
             case IORING_OP_SYMLINKAT: return "SYMLINKAT";
             case IORING_OP_LINKAT: return "LINKAT";
+            case IORING_OP_MSG_RING: return "MSG_RING";
+            case IORING_OP_FSETXATTR: return "FSETXATTR";
+            case IORING_OP_SETXATTR: return "SETXATTR";
+            case IORING_OP_FGETXATTR: return "FGETXATTR";
+            case IORING_OP_GETXATTR: return "GETXATTR";
+            case IORING_OP_SOCKET: return "SOCKET";
+            case IORING_OP_URING_CMD: return "URING_CMD";
+            case IORING_OP_SEND_ZC: return "SEND_ZC";
+            case IORING_OP_SENDMSG_ZC: return "SENDMSG_ZC";
             default: return "[OP CODE " + op + ']';
         }
     }
 
     static final int IORING_ENTER_GETEVENTS = NativeStaticallyReferencedJniMethods.ioringEnterGetevents();
+    static final int IORING_ENTER_SQ_WAKEUP = NativeStaticallyReferencedJniMethods.ioringEnterSqWakeup();
+    static final int IORING_ENTER_SQ_WAIT = NativeStaticallyReferencedJniMethods.ioringEnterSqWait();
+    static final int IORING_SQ_NEED_WAKEUP = NativeStaticallyReferencedJniMethods.ioringSqNeedWakeup();
+    static final int IORING_SETUP_SQPOLL = NativeStaticallyReferencedJniMethods.ioringSetupSqpoll();
+    static final int IORING_SETUP_R_DISABLED = NativeStaticallyReferencedJniMethods.ioringSetupRDisabled();
+    static final int IORING_SETUP_SUBMIT_ALL = NativeStaticallyReferencedJniMethods.ioringSetupSubmitAll();
+    static final int IORING_SETUP_COOP_TASKRUN = NativeStaticallyReferencedJniMethods.ioringSetupCoopTaskrun();
+    static final int IORING_SETUP_SINGLE_ISSUER = NativeStaticallyReferencedJniMethods.ioringSetupSingleIssuer();
+    static final int IORING_SETUP_DEFER_TASKRUN = NativeStaticallyReferencedJniMethods.ioringSetupDeferTaskrun();
+    static final int IORING_ACCEPT_MULTISHOT = NativeStaticallyReferencedJniMethods.ioringAcceptMultishot();
+    static final int IORING_RECV_MULTISHOT = NativeStaticallyReferencedJniMethods.ioringRecvMultishot();
+    static final int IORING_CQE_F_MORE = NativeStaticallyReferencedJniMethods.ioringCqeFMore();
+    static final int IORING_CQE_F_BUFFER = NativeStaticallyReferencedJniMethods.ioringCqeFBuffer();
+    static final int IORING_CQE_F_NOTIF = NativeStaticallyReferencedJniMethods.ioringCqeFNotif();
+    static final int IORING_CQE_BUFFER_SHIFT = NativeStaticallyReferencedJniMethods.ioringCqeBufferShift();
+    static final int IOSQE_BUFFER_SELECT = NativeStaticallyReferencedJniMethods.iosqeBufferSelect();
     static final int IOSQE_ASYNC = NativeStaticallyReferencedJniMethods.iosqeAsync();
     static final int IOSQE_LINK = NativeStaticallyReferencedJniMethods.iosqeLink();
+    static final int IOSQE_HARDLINK = NativeStaticallyReferencedJniMethods.iosqeHardlink();
+    static final int IOSQE_FIXED_FILE = NativeStaticallyReferencedJniMethods.iosqeFixedFile();
     static final int IOSQE_IO_DRAIN = NativeStaticallyReferencedJniMethods.iosqeDrain();
     static final int MSG_DONTWAIT = NativeStaticallyReferencedJniMethods.msgDontwait();
     static final int MSG_FASTOPEN = NativeStaticallyReferencedJniMethods.msgFastopen();
@@ -269,7 +318,21 @@ final class Native {
     }
 
     static RingBuffer createRingBuffer(int ringSize, int iosqeAsyncThreshold) {
-        long[][] values = ioUringSetup(ringSize);
+        return createRingBuffer(ringSize, iosqeAsyncThreshold, 0, -1, 0);
+    }
+
+    /**
+     * Create a new ring.
+     *
+     * @param setupFlags the {@code IORING_SETUP_*} flags to create the ring with.
+     * @param sqThreadCpu the CPU to pin the kernel submission queue polling thread to, or {@code -1} to not pin it.
+     *                    Only used with {@code IORING_SETUP_SQPOLL}.
+     * @param sqThreadIdle the milliseconds the kernel submission queue polling thread spins before going to sleep.
+     *                     Only used with {@code IORING_SETUP_SQPOLL}.
+     */
+    static RingBuffer createRingBuffer(int ringSize, int iosqeAsyncThreshold, int setupFlags, int sqThreadCpu,
+                                       int sqThreadIdle) {
+        long[][] values = ioUringSetup(ringSize, setupFlags, sqThreadCpu, sqThreadIdle);
         assert values.length == 2;
         long[] completionQueueArgs = values[1];
         assert completionQueueArgs.length == 9;
@@ -298,8 +361,9 @@ final class Native {
                 submissionQueueArgs[9],
                 (int) submissionQueueArgs[10],
                 iosqeAsyncThreshold,
+                setupFlags,
                 completionQueue);
-        return new RingBuffer(submissionQueue, completionQueue);
+        return new RingBuffer(submissionQueue, completionQueue, setupFlags);
     }
 
     static void checkAllIOSupported(int ringFd) {
@@ -309,10 +373,14 @@ final class Native {
         }
     }
 
+    static boolean isOpSupported(int ringFd, int op) {
+        return ioUringProbe(ringFd, new int[] { op });
+    }
+
     static void checkKernelVersion(String kernelVersion) {
         boolean enforceKernelVersion = SystemPropertyUtil.getBoolean(
                 "io.netty5.transport.iouring.enforceKernelVersion", true);
-        boolean kernelSupported = checkKernelVersion0(kernelVersion);
+        boolean kernelSupported = isKernelVersionAtLeast(kernelVersion, 5, 9);
         if (!kernelSupported) {
             if (enforceKernelVersion) {
                 throw new UnsupportedOperationException(
@@ -324,7 +392,7 @@ final class Native {
         }
     }
 
-    private static boolean checkKernelVersion0(String kernelVersion) {
+    static boolean isKernelVersionAtLeast(String kernelVersion, int minMajor, int minMinor) {
         String[] versionComponents = kernelVersion.split("\\.");
         if (versionComponents.length < 3) {
             return false;
@@ -337,10 +405,10 @@ final class Native {
             return false;
         }
 
-        if (major <= 4) {
+        if (major < minMajor) {
             return false;
         }
-        if (major > 5) {
+        if (major > minMajor) {
             return true;
         }
 
@@ -351,11 +419,67 @@ final class Native {
             return false;
         }
 
-        return minor >= 9;
+        return minor >= minMinor;
     }
 
     private static native boolean ioUringProbe(int ringFd, int[] ios);
-    private static native long[][] ioUringSetup(int entries);
+    private static native long[][] ioUringSetup(int entries, int flags, int sqThreadCpu, int sqThreadIdle);
+
+    /**
+     * Try to create, and immediately close, a small ring with the given {@code IORING_SETUP_*} flags.
+     *
+     * @return {@code 0} if the kernel accepts the flags, otherwise the negative errno.
+     */
+    static native int ioUringSetupProbe(int flags);
+
+    /**
+     * Enable a ring that was created with {@code IORING_SETUP_R_DISABLED}. With {@code IORING_SETUP_SINGLE_ISSUER},
+     * the calling thread becomes the only thread allowed to submit to the ring.
+     *
+     * @return {@code 0} on success, otherwise the negative errno.
+     */
+    static native int ioUringRegisterEnableRings(int ringFd);
+
+    /**
+     * Allocate and register a provided buffer ring with the given number of entries for the given buffer group.
+     *
+     * @return the address of the ring memory, or a negative errno if the registration failed.
+     */
+    static native long ioUringRegisterBufRing(int ringFd, int entries, short bufferGroupId);
+
+    static native int ioUringUnregisterBufRing(int ringFd, long ringAddress, int entries, short bufferGroupId);
+
+    /**
+     * Register a sparse table of fixed buffers ({@code IORING_REGISTER_BUFFERS2}) with the given ring.
+     *
+     * @return {@code 0} on success, or the negative errno.
+     */
+    static native int ioUringRegisterBuffersSparse(int ringFd, int entries);
+
+    /**
+     * Update a single slot of the fixed buffer table. An address of {@code 0} and a length of {@code 0} clears it.
+     *
+     * @return {@code 0} on success, or the negative errno.
+     */
+    static native int ioUringRegisterBuffersUpdate(int ringFd, int offset, long address, int length);
+
+    static native int ioUringUnregisterBuffers(int ringFd);
+
+    /**
+     * Register a sparse table of fixed files ({@code IORING_REGISTER_FILES2}) with the given ring.
+     *
+     * @return {@code 0} on success, or the negative errno.
+     */
+    static native int ioUringRegisterFilesSparse(int ringFd, int entries);
+
+    /**
+     * Update a single slot of the fixed file table. A fd of {@code -1} clears it.
+     *
+     * @return {@code 0} on success, or the negative errno.
+     */
+    static native int ioUringRegisterFilesUpdate(int ringFd, int offset, int fd);
+
+    static native int ioUringUnregisterFiles(int ringFd);
 
     static native int ioUringEnter(int ringFd, int toSubmit, int minComplete, int flags);
 
@@ -61,12 +61,32 @@ final class NativeStaticallyReferencedJniMethods {
     static native int msghdrOffsetofMsgFlags();
     static native int etime();
     static native int ecanceled();
+    static native int einval();
+    static native int enobufs();
     static native int pollin();
     static native int pollout();
     static native int pollrdhup();
     static native int ioringEnterGetevents();
+    static native int ioringSetupSqpoll();
+    static native int ioringSetupRDisabled();
+    static native int ioringSetupSubmitAll();
+    static native int ioringSetupCoopTaskrun();
+    static native int ioringSetupSingleIssuer();
+    static native int ioringSetupDeferTaskrun();
+    static native int ioringSqNeedWakeup();
+    static native int ioringEnterSqWakeup();
+    static native int ioringEnterSqWait();
+    static native int ioringAcceptMultishot();
+    static native int ioringRecvMultishot();
+    static native int ioringCqeFMore();
+    static native int ioringCqeFBuffer();
+    static native int ioringCqeFNotif();
+    static native int ioringCqeBufferShift();
+    static native int iosqeBufferSelect();
     static native int iosqeAsync();
+    static native int iosqeFixedFile();
     static native int iosqeLink();
+    static native int iosqeHardlink();
     static native int iosqeDrain();
     static native int msgDontwait();
     static native int msgFastopen();
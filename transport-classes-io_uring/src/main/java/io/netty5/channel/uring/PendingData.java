@@ -31,6 +31,11 @@ interface PendingData<D> {
                 return id;
             }
 
+            @Override
+            public D getPending(short id) {
+                return get(id);
+            }
+
             @Override
             public D removePending(short id) {
                 return remove(id);
@@ -57,9 +62,13 @@ interface PendingData<D> {
 
     short addPending(D data);
 
+    D getPending(short id);
+
     D removePending(short id);
 
     boolean isEmpty();
 
+    void clear();
+
     void forEach(BiConsumer<? super Short, ? super D> consumer);
 }
@@ -18,16 +18,25 @@ package io.netty5.channel.uring;
 final class RingBuffer {
     private final SubmissionQueue submissionQueue;
     private final CompletionQueue completionQueue;
+    private final int setupFlags;
 
-    RingBuffer(SubmissionQueue submissionQueue, CompletionQueue completionQueue) {
+    RingBuffer(SubmissionQueue submissionQueue, CompletionQueue completionQueue, int setupFlags) {
         this.submissionQueue = submissionQueue;
         this.completionQueue = completionQueue;
+        this.setupFlags = setupFlags;
     }
 
     int fd() {
         return completionQueue.ringFd;
     }
 
+    /**
+     * The {@code IORING_SETUP_*} flags the ring was created with.
+     */
+    int setupFlags() {
+        return setupFlags;
+    }
+
     SubmissionQueue ioUringSubmissionQueue() {
         return this.submissionQueue;
     }
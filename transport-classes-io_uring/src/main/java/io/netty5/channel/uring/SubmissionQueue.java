@@ -43,7 +43,8 @@ final class SubmissionQueue {
     private static final int SQE_LEN_FIELD = 24;
     private static final int SQE_RW_FLAGS_FIELD = 28;
     private static final int SQE_USER_DATA_FIELD = 32;
-    private static final int SQE_PAD_FIELD = 40;
+    private static final int SQE_BUF_INDEX_FIELD = 40; // u16, union with buf_group
+    private static final int SQE_SPLICE_FD_IN_FIELD = 44; // s32, union with file_index
 
     private static final int KERNEL_TIMESPEC_TV_SEC_FIELD = 0;
     private static final int KERNEL_TIMESPEC_TV_NSEC_FIELD = 8;
@@ -65,15 +66,25 @@ final class SubmissionQueue {
     private final long timeoutMemoryAddress;
     private final int iosqeAsyncThreshold;
     private final IntSupplier completionCount;
+    // The kernel polls the submission queue itself, so we only have to enter the kernel when its thread went idle.
+    private final boolean sqPoll;
+    // Completions are only posted when we ask for them with IORING_ENTER_GETEVENTS.
+    private final boolean deferTaskrun;
     private int numHandledFds;
     private boolean link;
+    private IOUringFixedFiles fixedFiles;
+    private final IOUringSubmissionMetrics metrics = new IOUringSubmissionMetrics();
+    // Leave the SQEs of flushes for the next submit of the event loop, so they share one io_uring_enter.
+    private boolean coalesceWrites;
     private int head;
     private int tail;
+    // The tail that was last published to the kernel. SQEs before it may already be in flight.
+    private int publishedTail;
 
     SubmissionQueue(long kHeadAddress, long kTailAddress, long kRingMaskAddress, long kRingEntriesAddress,
                     long kFlagsAddress, long kDroppedAddress, long kArrayAddress,
                     long submissionQueueArrayAddress, int ringSize, long ringAddress, int ringFd,
-                    int iosqeAsyncThreshold, IntSupplier completionCount) {
+                    int iosqeAsyncThreshold, int setupFlags, IntSupplier completionCount) {
         this.kHeadAddress = kHeadAddress;
         this.kTailAddress = kTailAddress;
         this.kFlagsAddress = kFlagsAddress;
@@ -87,10 +98,13 @@ final class SubmissionQueue {
         this.ringMask = PlatformDependent.getIntVolatile(kRingMaskAddress);
         this.head = PlatformDependent.getIntVolatile(kHeadAddress);
         this.tail = PlatformDependent.getIntVolatile(kTailAddress);
+        this.publishedTail = tail;
 
         this.timeoutMemoryAddress = PlatformDependent.allocateMemory(KERNEL_TIMESPEC_SIZE);
         this.iosqeAsyncThreshold = iosqeAsyncThreshold;
         this.completionCount = completionCount;
+        sqPoll = (setupFlags & Native.IORING_SETUP_SQPOLL) != 0;
+        deferTaskrun = (setupFlags & Native.IORING_SETUP_DEFER_TASKRUN) != 0;
 
         // Zero the whole SQE array first
         PlatformDependent.setMemory(submissionQueueArrayAddress, ringEntries * SQE_SIZE, (byte) 0);
@@ -115,12 +129,95 @@ final class SubmissionQueue {
         this.link = link;
     }
 
+    void fixedFiles(IOUringFixedFiles fixedFiles) {
+        this.fixedFiles = fixedFiles;
+    }
+
+    IOUringFixedFiles fixedFiles() {
+        return fixedFiles;
+    }
+
+    void coalesceWrites(boolean coalesceWrites) {
+        this.coalesceWrites = coalesceWrites;
+    }
+
+    IOUringSubmissionMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Link the last added SQE to the next one, if it was not submitted yet and has the given user data. The next SQE
+     * is then only started once the linked one completed successfully, and is cancelled otherwise.
+     *
+     * @return {@code true} if the SQE was linked.
+     */
+    boolean linkLast(long udata) {
+        // There must be room for the next SQE, as a full ring would submit the link on its own.
+        if (tail == publishedTail || remaining() == 0) {
+            return false;
+        }
+        long sqe = submissionQueueArrayAddress + ((tail - 1) & ringMask) * SQE_SIZE;
+        if (PlatformDependent.getLong(sqe + SQE_USER_DATA_FIELD) != udata) {
+            return false;
+        }
+        byte flags = PlatformDependent.getByte(sqe + SQE_FLAGS_FIELD);
+        PlatformDependent.putByte(sqe + SQE_FLAGS_FIELD, (byte) (flags | Native.IOSQE_LINK));
+        return true;
+    }
+
+    private static boolean usesFile(byte op) {
+        switch (op) {
+            case Native.IORING_OP_READV:
+            case Native.IORING_OP_WRITEV:
+            case Native.IORING_OP_READ_FIXED:
+            case Native.IORING_OP_WRITE_FIXED:
+            case Native.IORING_OP_POLL_ADD:
+            case Native.IORING_OP_SENDMSG:
+            case Native.IORING_OP_RECVMSG:
+            case Native.IORING_OP_ACCEPT:
+            case Native.IORING_OP_CONNECT:
+            case Native.IORING_OP_READ:
+            case Native.IORING_OP_WRITE:
+            case Native.IORING_OP_SEND:
+            case Native.IORING_OP_RECV:
+            case Native.IORING_OP_SHUTDOWN:
+            case Native.IORING_OP_SEND_ZC:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private int flags() {
         return (numHandledFds < iosqeAsyncThreshold ? 0 : Native.IOSQE_ASYNC) | (link ? Native.IOSQE_LINK : 0);
     }
 
     private long enqueueSqe(byte op, int flags, int rwFlags, int fd,
                                long bufferAddress, int length, long offset, short data) {
+        return enqueueSqe(op, flags, 0, rwFlags, fd, bufferAddress, length, offset, (short) 0, data);
+    }
+
+    private long enqueueSqe(byte op, int flags, int ioPrio, int rwFlags, int fd,
+                            long bufferAddress, int length, long offset, short data) {
+        return enqueueSqe(op, flags, ioPrio, rwFlags, fd, bufferAddress, length, offset, (short) 0, data);
+    }
+
+    private long enqueueSqe(byte op, int flags, int ioPrio, int rwFlags, int fd,
+                            long bufferAddress, int length, long offset, short bufIndex, short data) {
+        long sqe = nextSqe();
+        int sqeFd = fd;
+        if (fixedFiles != null && usesFile(op)) {
+            int slot = fixedFiles.slot(fd);
+            if (slot >= 0) {
+                // The fd field holds the slot in the fixed file table; the user data keeps the actual fd.
+                sqeFd = slot;
+                flags |= Native.IOSQE_FIXED_FILE;
+            }
+        }
+        return setData(sqe, op, flags, ioPrio, rwFlags, fd, sqeFd, bufferAddress, length, offset, bufIndex, data);
+    }
+
+    private long nextSqe() {
         int pending = tail - head;
         if (pending == ringEntries) {
             int submitted = submit();
@@ -128,24 +225,30 @@ final class SubmissionQueue {
                 // We have a problem, could not submit to make more room in the ring
                 throw new RuntimeException("SQ ring full and no submissions accepted");
             }
+            if (sqPoll) {
+                awaitSqSpace();
+            }
         }
-        long sqe = submissionQueueArrayAddress + (tail++ & ringMask) * SQE_SIZE;
-        return setData(sqe, op, flags, rwFlags, fd, bufferAddress, length, offset, data);
+        return submissionQueueArrayAddress + (tail++ & ringMask) * SQE_SIZE;
     }
 
-    private long setData(long sqe, byte op, int flags, int rwFlags, int fd, long bufferAddress, int length,
-                         long offset, short data) {
+    private long setData(long sqe, byte op, int flags, int ioPrio, int rwFlags, int fd, int sqeFd,
+                         long bufferAddress, int length, long offset, short bufIndex, short data) {
         //set sqe(submission queue) properties
 
         PlatformDependent.putByte(sqe + SQE_OP_CODE_FIELD, op);
         PlatformDependent.putByte(sqe + SQE_FLAGS_FIELD, (byte) flags);
-        // This constant is set up-front
-        //PlatformDependent.putShort(sqe + SQE_IOPRIO_FIELD, (short) 0);
-        PlatformDependent.putInt(sqe + SQE_FD_FIELD, fd);
+        // Always set, as SQE slots are reused and some ops (like multishot accept) store their flags in here.
+        PlatformDependent.putShort(sqe + SQE_IOPRIO_FIELD, (short) ioPrio);
+        PlatformDependent.putInt(sqe + SQE_FD_FIELD, sqeFd);
         PlatformDependent.putLong(sqe + SQE_OFFSET_FIELD, offset);
         PlatformDependent.putLong(sqe + SQE_ADDRESS_FIELD, bufferAddress);
         PlatformDependent.putInt(sqe + SQE_LEN_FIELD, length);
         PlatformDependent.putInt(sqe + SQE_RW_FLAGS_FIELD, rwFlags);
+        // Either the fixed buffer index or the buffer group, depending on the op and flags.
+        PlatformDependent.putShort(sqe + SQE_BUF_INDEX_FIELD, bufIndex);
+        // Always reset, as a non-zero file_index would make an accept install the socket into the fixed file table.
+        PlatformDependent.putInt(sqe + SQE_SPLICE_FD_IN_FIELD, 0);
         long userData = UserData.encode(fd, op, data);
         PlatformDependent.putLong(sqe + SQE_USER_DATA_FIELD, userData);
 
@@ -203,6 +306,27 @@ final class SubmissionQueue {
         return enqueueSqe(Native.IORING_OP_POLL_ADD, 0, pollMask, fd, 0, 0, 0, (short) pollMask);
     }
 
+    /**
+     * Add a poll for the given mask, that is linked to the next SQE. The next SQE is then only started once the file
+     * is ready, for example readable for {@code POLLIN} or writable for {@code POLLOUT}.
+     */
+    long addPollLink(int fd, int pollMask) {
+        return enqueueSqe(Native.IORING_OP_POLL_ADD, Native.IOSQE_LINK, pollMask, fd, 0, 0, 0, (short) pollMask);
+    }
+
+    /**
+     * Add a splice of up to {@code length} bytes from {@code fdIn} to {@code fdOut}, where one of them must be a pipe.
+     * The completion is reported for the given {@code fd}. The fds are never translated into fixed file slots.
+     */
+    long addSplice(int fd, int fdIn, int fdOut, int length, short extraData) {
+        long sqe = nextSqe();
+        // Pipes and sockets have no file position, which is expressed with offsets of -1.
+        long udata = setData(sqe, Native.IORING_OP_SPLICE, flags(), 0, 0, fd, fdOut, -1L, length, -1L,
+                (short) 0, extraData);
+        PlatformDependent.putInt(sqe + SQE_SPLICE_FD_IN_FIELD, fdIn);
+        return udata;
+    }
+
     long addRecvmsg(int fd, long msgHdr, short extraData) {
         // Use Native.MSG_DONTWAIT due a io_uring bug which did have it not respect non-blocking fds.
         // See https://lore.kernel.org/io-uring/371592A7-A199-4F5C-A906-226FFC6CEED9@googlemail.com/T/#u
@@ -221,6 +345,28 @@ final class SubmissionQueue {
         return enqueueSqe(Native.IORING_OP_RECV, flags(), flags, fd, bufferAddress + pos, limit - pos, 0, extraData);
     }
 
+    long addRecvBufferSelect(int fd, short bufferGroupId, int flags, short extraData) {
+        // The kernel picks the buffer (and its length) from the provided buffer ring once data arrives.
+        return enqueueSqe(Native.IORING_OP_RECV, flags() | Native.IOSQE_BUFFER_SELECT, 0, flags, fd, 0, 0, 0,
+                bufferGroupId, extraData);
+    }
+
+    long addRecvMultishot(int fd, short bufferGroupId, short extraData) {
+        // Every receive posts a completion with a buffer from the provided buffer ring, until cancelled.
+        return enqueueSqe(Native.IORING_OP_RECV, flags() | Native.IOSQE_BUFFER_SELECT, Native.IORING_RECV_MULTISHOT,
+                0, fd, 0, 0, 0, bufferGroupId, extraData);
+    }
+
+    long addReadFixed(int fd, long address, int length, int bufIndex, short extraData) {
+        return enqueueSqe(Native.IORING_OP_READ_FIXED, flags(), 0, 0, fd, address, length, 0, (short) bufIndex,
+                extraData);
+    }
+
+    long addWriteFixed(int fd, long address, int length, int bufIndex, short extraData) {
+        return enqueueSqe(Native.IORING_OP_WRITE_FIXED, flags(), 0, 0, fd, address, length, 0, (short) bufIndex,
+                extraData);
+    }
+
     long addEventFdRead(int fd, long bufferAddress, int pos, int limit, short extraData) {
         return enqueueSqe(Native.IORING_OP_READ, 0, 0, fd, bufferAddress + pos, limit - pos, 0, extraData);
     }
@@ -229,6 +375,12 @@ final class SubmissionQueue {
         return enqueueSqe(Native.IORING_OP_SEND, flags(), 0, fd, bufferAddress + pos, limit - pos, 0, extraData);
     }
 
+    long addSendZc(int fd, long address, int length, short extraData) {
+        // Completes with the number of bytes sent, followed by a IORING_CQE_F_NOTIF completion once the kernel no
+        // longer references the memory.
+        return enqueueSqe(Native.IORING_OP_SEND_ZC, flags(), 0, fd, address, length, 0, extraData);
+    }
+
     long addWrite(int fd, long bufferAddress, int pos, int limit, short extraData) {
         return enqueueSqe(Native.IORING_OP_WRITE, flags(), 0, fd, bufferAddress + pos, limit - pos, 0, extraData);
     }
@@ -238,6 +390,12 @@ final class SubmissionQueue {
                 address, 0, addressLength, extraData);
     }
 
+    long addAcceptMultishot(int fd, short extraData) {
+        // The address is not filled in, as all accepted connections would share the same memory.
+        return enqueueSqe(Native.IORING_OP_ACCEPT, flags(), Native.IORING_ACCEPT_MULTISHOT,
+                Native.SOCK_CLOEXEC, fd, 0, 0, 0, extraData);
+    }
+
     //fill the address which is associated with server poll link user_data
     long addPollRemove(int fd, int pollMask) {
         assert pollMask <= Short.MAX_VALUE && pollMask >= Short.MIN_VALUE;
@@ -258,6 +416,30 @@ final class SubmissionQueue {
         return enqueueSqe(Native.IORING_OP_CLOSE, flags, 0, fd, 0, 0, 0, extraData);
     }
 
+    /**
+     * Remove the file descriptor from the fixed file table with an {@code IORING_OP_FILES_UPDATE}, so the slot is only
+     * cleared after the SQEs that were added before, which may still refer to it. The user data of the update holds
+     * the slot in place of the file descriptor.
+     *
+     * @param fd                the file descriptor to remove.
+     * @param linkNext          {@code true} to only start the next SQE once the slot was cleared, even if that fails.
+     * @param releaseOnComplete {@code true} to {@linkplain IOUringFixedFiles#release(int) release} the slot when the
+     *                          update completes, {@code false} if the caller releases it.
+     * @return the slot of the file descriptor, or {@code -1} if it had none, in which case no SQE was added.
+     */
+    int addFixedFileRemove(int fd, boolean linkNext, boolean releaseOnComplete) {
+        if (fixedFiles == null) {
+            return -1;
+        }
+        int slot = fixedFiles.detach(fd);
+        if (slot >= 0) {
+            int flags = flags() | (linkNext ? Native.IOSQE_HARDLINK : 0);
+            enqueueSqe(Native.IORING_OP_FILES_UPDATE, flags, 0, slot, fixedFiles.clearedFdAddress(), 1, slot,
+                    releaseOnComplete ? IOUringFixedFiles.RELEASE_SLOT : 0);
+        }
+        return slot;
+    }
+
     long addCancel(int fd, long sqeToCancel) {
         return enqueueSqe(Native.IORING_OP_ASYNC_CANCEL, flags(), 0, fd, sqeToCancel, 0, 0, (short) 0);
     }
@@ -267,6 +449,26 @@ final class SubmissionQueue {
         return submit > 0 ? submit(submit, 0, 0) : 0;
     }
 
+    /**
+     * Submit the SQEs that were added for a flush. When writes are coalesced, this is left to the event loop, which
+     * submits the writes of all channels that flushed in the same iteration with a single {@code io_uring_enter}.
+     */
+    int submitWrites() {
+        return coalesceWrites ? 0 : submit();
+    }
+
+    /**
+     * Submit all pending SQEs, and make sure that all completions that are ready are posted to the completion queue.
+     * This only differs from {@link #submit()} for rings created with {@code IORING_SETUP_DEFER_TASKRUN}, where we
+     * must always enter the kernel to get completions.
+     */
+    int submitAndGetEvents() {
+        if (!deferTaskrun) {
+            return submit();
+        }
+        return submit(tail - head, 0, Native.IORING_ENTER_GETEVENTS);
+    }
+
     int submitAndWait() {
         int submit = tail - head;
         if (submit > 0) {
@@ -285,6 +487,20 @@ final class SubmissionQueue {
             logger.trace("submit(ring {}): {}", ringFd, toString());
         }
         PlatformDependent.putIntOrdered(kTailAddress, tail); // release memory barrier
+        int published = tail - publishedTail;
+        publishedTail = tail;
+        if (published > 0) {
+            metrics.recordSubmit(published);
+        }
+        if (sqPoll) {
+            if ((PlatformDependent.getIntVolatile(kFlagsAddress) & Native.IORING_SQ_NEED_WAKEUP) != 0) {
+                flags |= Native.IORING_ENTER_SQ_WAKEUP;
+            } else if (flags == 0) {
+                // The kernel thread is awake and will pick up the new tail, so there is no need for a syscall.
+                head = PlatformDependent.getIntVolatile(kHeadAddress);
+                return toSubmit;
+            }
+        }
         int ret = Native.ioUringEnter(ringFd, toSubmit, minComplete, flags);
         head = PlatformDependent.getIntVolatile(kHeadAddress); // acquire memory barrier
         if (ret != toSubmit) {
@@ -297,6 +513,21 @@ final class SubmissionQueue {
         return ret;
     }
 
+    // With SQPOLL the kernel thread consumes SQEs asynchronously, so with a full ring we wait until it caught up.
+    private void awaitSqSpace() {
+        while (tail - head == ringEntries) {
+            int flags = Native.IORING_ENTER_SQ_WAIT;
+            if ((PlatformDependent.getIntVolatile(kFlagsAddress) & Native.IORING_SQ_NEED_WAKEUP) != 0) {
+                flags |= Native.IORING_ENTER_SQ_WAKEUP;
+            }
+            int ret = Native.ioUringEnter(ringFd, 0, 0, flags);
+            if (ret < 0) {
+                throw new RuntimeException("ioUringEnter syscall returned " + ret);
+            }
+            head = PlatformDependent.getIntVolatile(kHeadAddress); // acquire memory barrier
+        }
+    }
+
     private void setTimeout(long timeoutNanoSeconds) {
         long seconds, nanoSeconds;
 
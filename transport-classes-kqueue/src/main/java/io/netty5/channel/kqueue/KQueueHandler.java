@@ -310,7 +310,13 @@ public final class KQueueHandler implements IoHandler {
 
             if (strategy > 0) {
                 handled = strategy;
-                processReady(strategy);
+                if (context.shouldReportActiveIoTime()) {
+                    long activeIoStartTime = System.nanoTime();
+                    processReady(strategy);
+                    context.reportActiveIoTime(System.nanoTime() - activeIoStartTime);
+                } else {
+                    processReady(strategy);
+                }
             }
             if (allowGrowing && strategy == eventList.capacity()) {
                 //increase the size of the array as we needed the whole space for the events
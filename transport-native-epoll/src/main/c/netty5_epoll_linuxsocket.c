@@ -28,6 +28,7 @@
 #include <netinet/udp.h> // SOL_UDP
 #include <sys/sendfile.h>
 #include <linux/tcp.h> // TCP_NOTSENT_LOWAT is a linux specific define
+#include <linux/errqueue.h> // struct sock_extended_err
 #include "netty5_epoll_linuxsocket.h"
 #include "netty5_epoll_vmsocket.h"
 #include "netty5_unix_errors.h"
@@ -63,6 +64,23 @@
 #define UDP_GRO 104
 #endif
 
+// SO_ZEROCOPY and MSG_ZEROCOPY are defined in linux 4.14. We define these here so older kernels can compile.
+#ifndef SO_ZEROCOPY
+#define SO_ZEROCOPY 60
+#endif
+
+#ifndef MSG_ZEROCOPY
+#define MSG_ZEROCOPY 0x4000000
+#endif
+
+#ifndef SO_EE_ORIGIN_ZEROCOPY
+#define SO_EE_ORIGIN_ZEROCOPY 5
+#endif
+
+#ifndef SO_EE_CODE_ZEROCOPY_COPIED
+#define SO_EE_CODE_ZEROCOPY_COPIED 1
+#endif
+
 static jweak peerCredentialsClassWeak = NULL;
 static jmethodID peerCredentialsMethodId = NULL;
 
@@ -200,6 +218,65 @@ static void netty5_epoll_linuxsocket_setTcpCork(JNIEnv* env, jclass clazz, jint
     netty5_unix_socket_setOption(env, fd, IPPROTO_TCP, TCP_CORK, &optval, sizeof(optval));
 }
 
+static void netty5_epoll_linuxsocket_setSoZeroCopy(JNIEnv* env, jclass clazz, jint fd, jint optval) {
+    netty5_unix_socket_setOption(env, fd, SOL_SOCKET, SO_ZEROCOPY, &optval, sizeof(optval));
+}
+
+static jint netty5_epoll_linuxsocket_sendZeroCopy(JNIEnv* env, jclass clazz, jint fd, jlong address, jint len) {
+    ssize_t res;
+    int err;
+    do {
+        res = send(fd, (void*) (intptr_t) address, (size_t) len, MSG_ZEROCOPY | MSG_NOSIGNAL);
+        // keep on writing if it was interrupted
+    } while (res == -1 && ((err = errno) == EINTR));
+
+    if (res < 0) {
+        return -err;
+    }
+    return (jint) res;
+}
+
+// Reads one zero-copy completion from the error queue of the socket into out as [lo, hi, copied].
+// Returns 1 if a completion was read, 0 if there is none left, or -errno.
+static jint netty5_epoll_linuxsocket_recvZeroCopyCompletion(JNIEnv* env, jclass clazz, jint fd, jintArray out) {
+    char control[CMSG_SPACE(sizeof(struct sock_extended_err) + sizeof(struct sockaddr_in6))];
+    struct msghdr msg;
+    struct cmsghdr* cmsg;
+    ssize_t res;
+    int err;
+
+    for (;;) {
+        memset(&msg, 0, sizeof(msg));
+        msg.msg_control = control;
+        msg.msg_controllen = sizeof(control);
+        do {
+            res = recvmsg(fd, &msg, MSG_ERRQUEUE);
+        } while (res == -1 && ((err = errno) == EINTR));
+
+        if (res < 0) {
+            if (err == EAGAIN || err == EWOULDBLOCK) {
+                return 0;
+            }
+            return -err;
+        }
+        for (cmsg = CMSG_FIRSTHDR(&msg); cmsg != NULL; cmsg = CMSG_NXTHDR(&msg, cmsg)) {
+            if ((cmsg->cmsg_level == SOL_IP && cmsg->cmsg_type == IP_RECVERR) ||
+                (cmsg->cmsg_level == SOL_IPV6 && cmsg->cmsg_type == IPV6_RECVERR)) {
+                struct sock_extended_err* serr = (struct sock_extended_err*) CMSG_DATA(cmsg);
+                if (serr->ee_errno == 0 && serr->ee_origin == SO_EE_ORIGIN_ZEROCOPY) {
+                    jint result[3];
+                    result[0] = (jint) serr->ee_info;
+                    result[1] = (jint) serr->ee_data;
+                    result[2] = (serr->ee_code & SO_EE_CODE_ZEROCOPY_COPIED) != 0 ? 1 : 0;
+                    (*env)->SetIntArrayRegion(env, out, 0, 3, result);
+                    return 1;
+                }
+            }
+        }
+        // Not a zero-copy completion, try the next one.
+    }
+}
+
 static void netty5_epoll_linuxsocket_setTcpQuickAck(JNIEnv* env, jclass clazz, jint fd, jint optval) {
     netty5_unix_socket_setOption(env, fd, IPPROTO_TCP, TCP_QUICKACK, &optval, sizeof(optval));
 }
@@ -804,7 +881,10 @@ static const JNINativeMethod fixed_method_table[] = {
   { "leaveGroup", "(IZ[B[BII)V", (void *) netty5_epoll_linuxsocket_leaveGroup },
   { "leaveSsmGroup", "(IZ[B[BII[B)V", (void *) netty5_epoll_linuxsocket_leaveSsmGroup },
   { "isUdpGro", "(I)I", (void *) netty5_epoll_linuxsocket_isUdpGro },
-  { "setUdpGro", "(II)V", (void *) netty5_epoll_linuxsocket_setUdpGro }
+  { "setUdpGro", "(II)V", (void *) netty5_epoll_linuxsocket_setUdpGro },
+  { "setSoZeroCopy", "(II)V", (void *) netty5_epoll_linuxsocket_setSoZeroCopy },
+  { "sendZeroCopy", "(IJI)I", (void *) netty5_epoll_linuxsocket_sendZeroCopy },
+  { "recvZeroCopyCompletion", "(I[I)I", (void *) netty5_epoll_linuxsocket_recvZeroCopyCompletion }
 
   // "sendFile" has a dynamic signature
 };
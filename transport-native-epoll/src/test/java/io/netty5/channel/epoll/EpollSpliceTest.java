@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.epoll;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.ChannelShutdownDirection;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.unix.FileDescriptor;
+import io.netty5.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EpollSpliceTest {
+    private static final int SIZE = 1024 * 1024;
+
+    @BeforeAll
+    public static void loadJNI() {
+        Epoll.ensureAvailability();
+    }
+
+    @Test
+    @Timeout(30)
+    public void spliceToChannelUntilEof() throws Exception {
+        byte[] data = randomBytes();
+        CompletableFuture<byte[]> received = new CompletableFuture<>();
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, EpollHandler.newFactory());
+        try {
+            Channel sink = new ServerBootstrap()
+                    .group(group)
+                    .channel(EpollServerSocketChannel.class)
+                    .childHandler(new ChannelHandler() {
+                        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            try (Buffer buffer = (Buffer) msg) {
+                                byte[] array = new byte[buffer.readableBytes()];
+                                buffer.readBytes(array, 0, array.length);
+                                bytes.writeBytes(array);
+                            }
+                        }
+
+                        @Override
+                        public void channelInactive(ChannelHandlerContext ctx) {
+                            received.complete(bytes.toByteArray());
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+
+            CompletableFuture<Long> spliced = new CompletableFuture<>();
+            Channel proxy = newProxy(group, spliced, in -> {
+                CompletableFuture<Long> result = new CompletableFuture<>();
+                new Bootstrap()
+                        .group(in.executor())
+                        .channel(EpollSocketChannel.class)
+                        .handler(new ChannelHandler() { })
+                        .connect(sink.localAddress())
+                        .addListener(f -> {
+                            if (f.isFailed()) {
+                                result.completeExceptionally(f.cause());
+                                return;
+                            }
+                            EpollSocketChannel out = (EpollSocketChannel) f.getNow();
+                            complete(in.spliceTo(out, Long.MAX_VALUE, true), result);
+                        });
+                return result;
+            });
+
+            sendAndShutdown(group, proxy, data);
+            assertEquals(SIZE, spliced.get(20, TimeUnit.SECONDS));
+            assertArrayEquals(data, received.get(20, TimeUnit.SECONDS));
+            proxy.close().asStage().sync();
+            sink.close().asStage().sync();
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void spliceToFile(@TempDir File dir) throws Exception {
+        byte[] data = randomBytes();
+        File file = new File(dir, "splice");
+        FileDescriptor fd = FileDescriptor.from(file);
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, EpollHandler.newFactory());
+        try {
+            CompletableFuture<Long> spliced = new CompletableFuture<>();
+            Channel proxy = newProxy(group, spliced, in -> {
+                CompletableFuture<Long> result = new CompletableFuture<>();
+                complete(in.spliceTo(fd, 0, Long.MAX_VALUE), result);
+                return result;
+            });
+
+            sendAndShutdown(group, proxy, data);
+            assertEquals(SIZE, spliced.get(20, TimeUnit.SECONDS));
+            assertArrayEquals(data, Files.readAllBytes(file.toPath()));
+            proxy.close().asStage().sync();
+        } finally {
+            fd.close();
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+
+    private static byte[] randomBytes() {
+        byte[] data = new byte[SIZE];
+        ThreadLocalRandom.current().nextBytes(data);
+        return data;
+    }
+
+    private static Channel newProxy(EventLoopGroup group, CompletableFuture<Long> spliced,
+                                    Function<EpollSocketChannel, CompletableFuture<Long>> splice) throws Exception {
+        return new ServerBootstrap()
+                .group(group)
+                .channel(EpollServerSocketChannel.class)
+                .childOption(ChannelOption.AUTO_READ, false)
+                .childHandler(new ChannelHandler() {
+                    @Override
+                    public void channelActive(ChannelHandlerContext ctx) {
+                        splice.apply((EpollSocketChannel) ctx.channel()).whenComplete((transferred, cause) -> {
+                            if (cause != null) {
+                                spliced.completeExceptionally(cause);
+                            } else {
+                                spliced.complete(transferred);
+                            }
+                        });
+                    }
+                })
+                .bind(new InetSocketAddress(0)).asStage().get();
+    }
+
+    private static void complete(Future<Long> future, CompletableFuture<Long> result) {
+        future.addListener(f -> {
+            if (f.isSuccess()) {
+                result.complete(f.getNow());
+            } else {
+                result.completeExceptionally(f.cause());
+            }
+        });
+    }
+
+    private static void sendAndShutdown(EventLoopGroup group, Channel proxy, byte[] data) throws Exception {
+        Channel client = new Bootstrap()
+                .group(group)
+                .channel(EpollSocketChannel.class)
+                .handler(new ChannelHandler() { })
+                .connect(proxy.localAddress()).asStage().get();
+        client.writeAndFlush(client.bufferAllocator().copyOf(data)).asStage().sync();
+        client.shutdown(ChannelShutdownDirection.Outbound).asStage().sync();
+    }
+}
@@ -29,6 +29,7 @@
 #include <sys/mman.h>
 #include <sys/stat.h>
 #include <sys/types.h>
+#include <sys/uio.h>
 #include <unistd.h>
 
 #include "syscall.h"
@@ -233,13 +234,146 @@ done:
 }
 
 
-static jobjectArray netty5_io_uring_setup(JNIEnv *env, jclass clazz, jint entries) {
+static jlong netty5_io_uring_register_buf_ring(JNIEnv *env, jclass clazz, jint ring_fd, jint entries, jshort bgid) {
+    size_t ring_size = entries * sizeof(struct io_uring_buf);
+    // The ring memory must be page aligned, so use mmap to allocate it. It will also be zeroed which means the tail
+    // starts at 0.
+    void *ring = mmap(NULL, ring_size, PROT_READ | PROT_WRITE, MAP_ANONYMOUS | MAP_PRIVATE, -1, 0);
+    if (ring == MAP_FAILED) {
+        return -errno;
+    }
+
+    struct io_uring_buf_reg reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.ring_addr = (uint64_t) ring;
+    reg.ring_entries = (uint32_t) entries;
+    reg.bgid = (uint16_t) bgid;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_PBUF_RING, &reg, 1) < 0) {
+        int err = errno;
+        munmap(ring, ring_size);
+        return -err;
+    }
+    return (jlong) ring;
+}
+
+static jint netty5_io_uring_unregister_buf_ring(JNIEnv *env, jclass clazz, jint ring_fd, jlong ring_addr,
+                                                jint entries, jshort bgid) {
+    struct io_uring_buf_reg reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.bgid = (uint16_t) bgid;
+
+    int result = sys_io_uring_register(ring_fd, IORING_UNREGISTER_PBUF_RING, &reg, 1);
+    int err = errno;
+    munmap((void *) ring_addr, entries * sizeof(struct io_uring_buf));
+    return result < 0 ? -err : 0;
+}
+
+static jint netty5_io_uring_register_buffers_sparse(JNIEnv *env, jclass clazz, jint ring_fd, jint nr) {
+    struct io_uring_rsrc_register reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.nr = (uint32_t) nr;
+    reg.flags = IORING_RSRC_REGISTER_SPARSE;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_BUFFERS2, &reg, sizeof(reg)) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_register_buffers_update(JNIEnv *env, jclass clazz, jint ring_fd, jint offset,
+                                                    jlong address, jint length) {
+    // A NULL address with a length of 0 clears the slot again.
+    struct iovec iov;
+    iov.iov_base = (void *) address;
+    iov.iov_len = (size_t) length;
+
+    struct io_uring_rsrc_update2 update;
+    memset(&update, 0, sizeof(update));
+    update.offset = (uint32_t) offset;
+    update.data = (uint64_t) &iov;
+    update.nr = 1;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_BUFFERS_UPDATE, &update, sizeof(update)) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_unregister_buffers(JNIEnv *env, jclass clazz, jint ring_fd) {
+    if (sys_io_uring_register(ring_fd, IORING_UNREGISTER_BUFFERS, NULL, 0) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_register_files_sparse(JNIEnv *env, jclass clazz, jint ring_fd, jint nr) {
+    struct io_uring_rsrc_register reg;
+    memset(&reg, 0, sizeof(reg));
+    reg.nr = (uint32_t) nr;
+    reg.flags = IORING_RSRC_REGISTER_SPARSE;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_FILES2, &reg, sizeof(reg)) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_register_files_update(JNIEnv *env, jclass clazz, jint ring_fd, jint offset, jint fd) {
+    // A fd of -1 clears the slot again.
+    __s32 fds[1] = { fd };
+
+    struct io_uring_files_update update;
+    memset(&update, 0, sizeof(update));
+    update.offset = (uint32_t) offset;
+    update.fds = (uint64_t) fds;
+
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_FILES_UPDATE, &update, 1) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_unregister_files(JNIEnv *env, jclass clazz, jint ring_fd) {
+    if (sys_io_uring_register(ring_fd, IORING_UNREGISTER_FILES, NULL, 0) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jint netty5_io_uring_setup_probe(JNIEnv *env, jclass clazz, jint flags) {
     struct io_uring_params p;
     memset(&p, 0, sizeof(p));
+    p.flags = (unsigned) flags;
 
-#ifdef IORING_SETUP_SUBMIT_ALL
-    p.flags = IORING_SETUP_SUBMIT_ALL;
-#endif
+    int ring_fd = sys_io_uring_setup(2, &p);
+    if (ring_fd < 0) {
+        return -errno;
+    }
+    close(ring_fd);
+    return 0;
+}
+
+static jint netty5_io_uring_register_enable_rings(JNIEnv *env, jclass clazz, jint ring_fd) {
+    if (sys_io_uring_register(ring_fd, IORING_REGISTER_ENABLE_RINGS, NULL, 0) < 0) {
+        return -errno;
+    }
+    return 0;
+}
+
+static jobjectArray netty5_io_uring_setup(JNIEnv *env, jclass clazz, jint entries, jint flags,
+                                          jint sq_thread_cpu, jint sq_thread_idle) {
+    struct io_uring_params p;
+    memset(&p, 0, sizeof(p));
+
+    p.flags = (unsigned) flags;
+    if ((p.flags & IORING_SETUP_SQPOLL) != 0) {
+        if (sq_thread_cpu >= 0) {
+            p.flags |= IORING_SETUP_SQ_AFF;
+            p.sq_thread_cpu = (unsigned) sq_thread_cpu;
+        }
+        p.sq_thread_idle = (unsigned) sq_thread_idle;
+    }
 
     jobjectArray array = (*env)->NewObjectArray(env, 2, longArrayClass, NULL);
     if (array == NULL) {
@@ -483,6 +617,14 @@ static jint netty5_io_uring_ecanceled(JNIEnv* env, jclass clazz) {
     return ECANCELED;
 }
 
+static jint netty5_io_uring_enobufs(JNIEnv* env, jclass clazz) {
+    return ENOBUFS;
+}
+
+static jint netty5_io_uring_einval(JNIEnv* env, jclass clazz) {
+    return EINVAL;
+}
+
 static jint netty5_io_uring_pollin(JNIEnv* env, jclass clazz) {
     return POLLIN;
 }
@@ -499,14 +641,86 @@ static jint netty5_io_uring_ioringEnterGetevents(JNIEnv* env, jclass clazz) {
     return IORING_ENTER_GETEVENTS;
 }
 
+static jint netty5_io_uring_ioringSetupSqpoll(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_SQPOLL;
+}
+
+static jint netty5_io_uring_ioringSetupRDisabled(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_R_DISABLED;
+}
+
+static jint netty5_io_uring_ioringSetupSubmitAll(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_SUBMIT_ALL;
+}
+
+static jint netty5_io_uring_ioringSetupCoopTaskrun(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_COOP_TASKRUN;
+}
+
+static jint netty5_io_uring_ioringSetupSingleIssuer(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_SINGLE_ISSUER;
+}
+
+static jint netty5_io_uring_ioringSetupDeferTaskrun(JNIEnv* env, jclass clazz) {
+    return IORING_SETUP_DEFER_TASKRUN;
+}
+
+static jint netty5_io_uring_ioringSqNeedWakeup(JNIEnv* env, jclass clazz) {
+    return IORING_SQ_NEED_WAKEUP;
+}
+
+static jint netty5_io_uring_ioringEnterSqWakeup(JNIEnv* env, jclass clazz) {
+    return IORING_ENTER_SQ_WAKEUP;
+}
+
+static jint netty5_io_uring_ioringEnterSqWait(JNIEnv* env, jclass clazz) {
+    return IORING_ENTER_SQ_WAIT;
+}
+
+static jint netty5_io_uring_ioringAcceptMultishot(JNIEnv* env, jclass clazz) {
+    return IORING_ACCEPT_MULTISHOT;
+}
+
+static jint netty5_io_uring_ioringRecvMultishot(JNIEnv* env, jclass clazz) {
+    return IORING_RECV_MULTISHOT;
+}
+
+static jint netty5_io_uring_ioringCqeFMore(JNIEnv* env, jclass clazz) {
+    return IORING_CQE_F_MORE;
+}
+
+static jint netty5_io_uring_ioringCqeFBuffer(JNIEnv* env, jclass clazz) {
+    return IORING_CQE_F_BUFFER;
+}
+
+static jint netty5_io_uring_ioringCqeFNotif(JNIEnv* env, jclass clazz) {
+    return IORING_CQE_F_NOTIF;
+}
+
+static jint netty5_io_uring_ioringCqeBufferShift(JNIEnv* env, jclass clazz) {
+    return IORING_CQE_BUFFER_SHIFT;
+}
+
+static jint netty5_io_uring_iosqeBufferSelect(JNIEnv* env, jclass clazz) {
+    return IOSQE_BUFFER_SELECT;
+}
+
 static jint netty5_io_uring_iosqeAsync(JNIEnv* env, jclass clazz) {
     return IOSQE_ASYNC;
 }
 
+static jint netty5_io_uring_iosqeFixedFile(JNIEnv* env, jclass clazz) {
+    return IOSQE_FIXED_FILE;
+}
+
 static jint netty5_io_uring_iosqeLink(JNIEnv* env, jclass clazz) {
     return IOSQE_IO_LINK;
 }
 
+static jint netty5_io_uring_iosqeHardlink(JNIEnv* env, jclass clazz) {
+    return IOSQE_IO_HARDLINK;
+}
+
 static jint netty5_io_uring_iosqeDrain(JNIEnv* env, jclass clazz) {
     return IOSQE_IO_DRAIN;
 }
@@ -570,12 +784,32 @@ static const JNINativeMethod statically_referenced_fixed_method_table[] = {
   { "msghdrOffsetofMsgFlags", "()I", (void *) netty5_io_uring_msghdrOffsetofMsgFlags },
   { "etime", "()I", (void *) netty5_io_uring_etime },
   { "ecanceled", "()I", (void *) netty5_io_uring_ecanceled },
+  { "einval", "()I", (void *) netty5_io_uring_einval },
+  { "enobufs", "()I", (void *) netty5_io_uring_enobufs },
   { "pollin", "()I", (void *) netty5_io_uring_pollin },
   { "pollout", "()I", (void *) netty5_io_uring_pollout },
   { "pollrdhup", "()I", (void *) netty5_io_uring_pollrdhup },
   { "ioringEnterGetevents", "()I", (void *) netty5_io_uring_ioringEnterGetevents },
+  { "ioringSetupSqpoll", "()I", (void *) netty5_io_uring_ioringSetupSqpoll },
+  { "ioringSetupRDisabled", "()I", (void *) netty5_io_uring_ioringSetupRDisabled },
+  { "ioringSetupSubmitAll", "()I", (void *) netty5_io_uring_ioringSetupSubmitAll },
+  { "ioringSetupCoopTaskrun", "()I", (void *) netty5_io_uring_ioringSetupCoopTaskrun },
+  { "ioringSetupSingleIssuer", "()I", (void *) netty5_io_uring_ioringSetupSingleIssuer },
+  { "ioringSetupDeferTaskrun", "()I", (void *) netty5_io_uring_ioringSetupDeferTaskrun },
+  { "ioringSqNeedWakeup", "()I", (void *) netty5_io_uring_ioringSqNeedWakeup },
+  { "ioringEnterSqWakeup", "()I", (void *) netty5_io_uring_ioringEnterSqWakeup },
+  { "ioringEnterSqWait", "()I", (void *) netty5_io_uring_ioringEnterSqWait },
+  { "ioringAcceptMultishot", "()I", (void *) netty5_io_uring_ioringAcceptMultishot },
+  { "ioringRecvMultishot", "()I", (void *) netty5_io_uring_ioringRecvMultishot },
+  { "ioringCqeFMore", "()I", (void *) netty5_io_uring_ioringCqeFMore },
+  { "ioringCqeFBuffer", "()I", (void *) netty5_io_uring_ioringCqeFBuffer },
+  { "ioringCqeFNotif", "()I", (void *) netty5_io_uring_ioringCqeFNotif },
+  { "ioringCqeBufferShift", "()I", (void *) netty5_io_uring_ioringCqeBufferShift },
+  { "iosqeBufferSelect", "()I", (void *) netty5_io_uring_iosqeBufferSelect },
   { "iosqeAsync", "()I", (void *) netty5_io_uring_iosqeAsync },
+  { "iosqeFixedFile", "()I", (void *) netty5_io_uring_iosqeFixedFile },
   { "iosqeLink", "()I", (void *) netty5_io_uring_iosqeLink },
+  { "iosqeHardlink", "()I", (void *) netty5_io_uring_iosqeHardlink },
   { "iosqeDrain", "()I", (void *) netty5_io_uring_iosqeDrain },
   { "msgDontwait", "()I", (void *) netty5_io_uring_msgDontwait },
   { "msgFastopen", "()I", (void *) netty5_io_uring_msgFastopen },
@@ -589,8 +823,18 @@ static const JNINativeMethod statically_referenced_fixed_method_table[] = {
 static const jint statically_referenced_fixed_method_table_size = sizeof(statically_referenced_fixed_method_table) / sizeof(statically_referenced_fixed_method_table[0]);
 
 static const JNINativeMethod method_table[] = {
-    {"ioUringSetup", "(I)[[J", (void *) netty5_io_uring_setup},
+    {"ioUringSetup", "(IIII)[[J", (void *) netty5_io_uring_setup},
+    {"ioUringSetupProbe", "(I)I", (void *) netty5_io_uring_setup_probe},
+    {"ioUringRegisterEnableRings", "(I)I", (void *) netty5_io_uring_register_enable_rings},
     {"ioUringProbe", "(I[I)Z", (void *) netty5_io_uring_probe},
+    {"ioUringRegisterBufRing", "(IIS)J", (void *) netty5_io_uring_register_buf_ring},
+    {"ioUringUnregisterBufRing", "(IJIS)I", (void *) netty5_io_uring_unregister_buf_ring},
+    {"ioUringRegisterBuffersSparse", "(II)I", (void *) netty5_io_uring_register_buffers_sparse},
+    {"ioUringRegisterBuffersUpdate", "(IIJI)I", (void *) netty5_io_uring_register_buffers_update},
+    {"ioUringUnregisterBuffers", "(I)I", (void *) netty5_io_uring_unregister_buffers},
+    {"ioUringRegisterFilesSparse", "(II)I", (void *) netty5_io_uring_register_files_sparse},
+    {"ioUringRegisterFilesUpdate", "(III)I", (void *) netty5_io_uring_register_files_update},
+    {"ioUringUnregisterFiles", "(I)I", (void *) netty5_io_uring_unregister_files},
     {"ioUringExit", "(JIJIJII)V", (void *) netty5_io_uring_ring_buffer_exit},
     {"createFile", "(Ljava/lang/String;)I", (void *) netty5_create_file},
     {"ioUringEnter", "(IIII)I", (void *) netty5_io_uring_enter},
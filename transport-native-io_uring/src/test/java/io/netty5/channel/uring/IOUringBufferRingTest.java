@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.DefaultBufferAllocators;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringBufferRingTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void useAndRecycleBuffers() {
+        RingBuffer ringBuffer = Native.createRingBuffer(8);
+        try {
+            IOUringBufferRing bufferRing = IOUringBufferRing.register(
+                    ringBuffer.fd(), 4, (short) 0, 1024, DefaultBufferAllocators.offHeapAllocator());
+            assumeTrue(bufferRing != null, "Provided buffer rings not supported by the kernel");
+            try {
+                // Small reads are copied into a right-sized buffer.
+                try (Buffer small = bufferRing.useBuffer(0, 10)) {
+                    assertEquals(10, small.readableBytes());
+                    assertEquals(10, small.capacity());
+                }
+                // Large reads hand out the ring buffer itself.
+                try (Buffer large = bufferRing.useBuffer(1, 1000)) {
+                    assertEquals(1000, large.readableBytes());
+                    assertEquals(1024, large.capacity());
+                }
+                bufferRing.recycleBuffer(2);
+                try (Buffer reused = bufferRing.useBuffer(2, 1024)) {
+                    assertEquals(1024, reused.readableBytes());
+                }
+            } finally {
+                bufferRing.close();
+            }
+        } finally {
+            ringBuffer.close();
+        }
+    }
+}
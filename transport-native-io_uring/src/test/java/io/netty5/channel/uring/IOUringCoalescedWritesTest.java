@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringCoalescedWritesTest {
+    private static final int ROUNDTRIPS = 1000;
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    @Timeout(30)
+    public void pingPongWithLinkedReads() throws Exception {
+        List<IOUringSubmissionMetrics> metrics = new CopyOnWriteArrayList<>();
+        IOUringHandlerConfig config = new IOUringHandlerConfig()
+                .setCoalesceWrites(true)
+                .setSubmissionMetricsListener(metrics::add);
+        CompletableFuture<Integer> done = new CompletableFuture<>();
+        EventLoopGroup group = new MultithreadEventLoopGroup(2, IOUring.newFactory(config));
+        try {
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(IOUringServerSocketChannel.class)
+                    .childOption(IOUringChannelOption.LINK_WRITE_READ, true)
+                    .childHandler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ctx.writeAndFlush(msg);
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+
+            Channel client = new Bootstrap()
+                    .group(group)
+                    .channel(IOUringSocketChannel.class)
+                    .option(IOUringChannelOption.LINK_WRITE_READ, true)
+                    .handler(new ChannelHandler() {
+                        private int received;
+                        private int roundtrips;
+
+                        @Override
+                        public void channelActive(ChannelHandlerContext ctx) {
+                            ctx.writeAndFlush(ctx.bufferAllocator().copyOf(new byte[] { 1, 2, 3, 4 }));
+                        }
+
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            try (Buffer buffer = (Buffer) msg) {
+                                received += buffer.readableBytes();
+                            }
+                            if (received == 4) {
+                                received = 0;
+                                if (++roundtrips == ROUNDTRIPS) {
+                                    done.complete(roundtrips);
+                                } else {
+                                    ctx.writeAndFlush(ctx.bufferAllocator().copyOf(new byte[] { 1, 2, 3, 4 }));
+                                }
+                            }
+                        }
+                    })
+                    .connect(server.localAddress()).asStage().get();
+
+            assertTrue(client.getOption(IOUringChannelOption.LINK_WRITE_READ));
+            assertEquals(ROUNDTRIPS, done.get(20, TimeUnit.SECONDS));
+            client.close().asStage().sync();
+            server.close().asStage().sync();
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+        assertEquals(2, metrics.size());
+        for (IOUringSubmissionMetrics m : metrics) {
+            assertFalse(m.submits() == 0);
+            assertTrue(m.submittedSqes() >= m.submits());
+            assertTrue(m.sqesPerSubmit() >= 1);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
+import io.netty5.buffer.MemoryManager;
+import io.netty5.buffer.pool.PooledBufferAllocator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringFixedBuffersTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void unpooledAllocatorIsNotSupported() {
+        RingBuffer ringBuffer = Native.createRingBuffer(8);
+        try (BufferAllocator allocator = BufferAllocator.offHeapUnpooled()) {
+            assertNull(IOUringFixedBuffers.register(ringBuffer.fd(), 8, allocator));
+        } finally {
+            ringBuffer.close();
+        }
+    }
+
+    @Test
+    public void chunksOfPooledAllocatorAreRegistered() {
+        RingBuffer ringBuffer = Native.createRingBuffer(8);
+        PooledBufferAllocator allocator = new PooledBufferAllocator(MemoryManager.instance(), true);
+        try {
+            IOUringFixedBuffers fixedBuffers = IOUringFixedBuffers.register(ringBuffer.fd(), 8, allocator);
+            assumeTrue(fixedBuffers != null, "Sparse fixed buffer tables not supported by the kernel");
+            try {
+                long address;
+                try (Buffer buffer = allocator.allocate(1024)) {
+                    try (var itr = buffer.forEachComponent()) {
+                        address = itr.firstWritable().writableNativeAddress();
+                    }
+                    // Registration may fail if the memlock limit is too low.
+                    assumeTrue(fixedBuffers.bufferIndex(address, 1024) >= 0, "Chunk could not be registered");
+                    assertTrue(fixedBuffers.bufferIndex(address + 512, 512) >= 0);
+                    assertEquals(-1, fixedBuffers.bufferIndex(address - 1, 1));
+                }
+                allocator.close();
+                assertEquals(-1, fixedBuffers.bufferIndex(address, 1024));
+            } finally {
+                fixedBuffers.close();
+            }
+        } finally {
+            ringBuffer.close();
+        }
+    }
+}
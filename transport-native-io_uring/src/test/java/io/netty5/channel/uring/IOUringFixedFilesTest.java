@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.unix.FileDescriptor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringFixedFilesTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void addAndRemoveFiles() throws Exception {
+        RingBuffer ringBuffer = Native.createRingBuffer(8);
+        FileDescriptor first = Native.newBlockingEventFd();
+        FileDescriptor second = Native.newBlockingEventFd();
+        try {
+            IOUringFixedFiles fixedFiles = IOUringFixedFiles.register(ringBuffer.fd(), 1);
+            assumeTrue(fixedFiles != null, "Sparse fixed file tables not supported by the kernel");
+            try {
+                assertEquals(-1, fixedFiles.slot(first.intValue()));
+                fixedFiles.add(first.intValue());
+                assertEquals(0, fixedFiles.slot(first.intValue()));
+
+                // The table is full, so the second fd keeps using its plain descriptor.
+                fixedFiles.add(second.intValue());
+                assertEquals(-1, fixedFiles.slot(second.intValue()));
+
+                // A detached slot is not handed out again until it is released.
+                assertEquals(0, fixedFiles.detach(first.intValue()));
+                assertEquals(-1, fixedFiles.slot(first.intValue()));
+                fixedFiles.add(second.intValue());
+                assertEquals(-1, fixedFiles.slot(second.intValue()));
+                fixedFiles.release(0);
+                fixedFiles.add(second.intValue());
+                assertTrue(fixedFiles.slot(second.intValue()) >= 0);
+            } finally {
+                fixedFiles.close();
+            }
+        } finally {
+            first.close();
+            second.close();
+            ringBuffer.close();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void closeWithQueuedIoAndRegisterNewChannel() throws Exception {
+        IOUringHandlerConfig config = new IOUringHandlerConfig().setFixedFilesSize(4);
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, IOUring.newFactory(config));
+        try {
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(IOUringServerSocketChannel.class)
+                    .childHandler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ctx.writeAndFlush(msg);
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+            for (int i = 0; i < 20; i++) {
+                Channel closed = new Bootstrap()
+                        .group(group)
+                        .channel(IOUringSocketChannel.class)
+                        .handler(new ChannelHandler() { })
+                        .connect(server.localAddress()).asStage().get();
+                String message = "message " + i;
+                CompletableFuture<String> echo = new CompletableFuture<>();
+                Bootstrap bootstrap = new Bootstrap()
+                        .group(group)
+                        .channel(IOUringSocketChannel.class)
+                        .handler(new ChannelHandler() {
+                            private final StringBuilder received = new StringBuilder();
+
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                try (Buffer buffer = (Buffer) msg) {
+                                    received.append(buffer.toString(StandardCharsets.US_ASCII));
+                                }
+                                if (received.length() == message.length()) {
+                                    echo.complete(received.toString());
+                                }
+                            }
+                        });
+
+                // The write and read SQEs of the closed channel are still queued when its slot is cleared, and the
+                // new channel is registered right after.
+                closed.executor().submit(() -> {
+                    closed.read();
+                    closed.writeAndFlush(closed.bufferAllocator().copyOf("garbage", StandardCharsets.US_ASCII));
+                    closed.close();
+                    bootstrap.connect(server.localAddress()).addListener(future -> {
+                        Channel channel = future.getNow();
+                        channel.writeAndFlush(channel.bufferAllocator().copyOf(message, StandardCharsets.US_ASCII));
+                    });
+                }).asStage().sync();
+                assertEquals(message, echo.get(10, TimeUnit.SECONDS));
+            }
+            server.close().asStage().sync();
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+}
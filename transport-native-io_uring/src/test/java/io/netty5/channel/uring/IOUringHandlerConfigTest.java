@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringHandlerConfigTest {
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    public void unsupportedModesAreLeftOut() {
+        IOUringHandlerConfig config = new IOUringHandlerConfig()
+                .setSqPoll(true)
+                .setSingleIssuer(true)
+                .setDeferTaskrun(true)
+                .setCoopTaskrun(true);
+        int flags = IOUring.setupFlags(config);
+        assertEquals(IOUring.isSqPollSupported(), (flags & Native.IORING_SETUP_SQPOLL) != 0);
+        assertEquals(IOUring.isSingleIssuerSupported(), (flags & Native.IORING_SETUP_SINGLE_ISSUER) != 0);
+        assertEquals(IOUring.isCoopTaskrunSupported(), (flags & Native.IORING_SETUP_COOP_TASKRUN) != 0);
+        assertEquals(IOUring.isSubmitAllSupported(), (flags & Native.IORING_SETUP_SUBMIT_ALL) != 0);
+        // DEFER_TASKRUN can not be combined with SQPOLL.
+        assertEquals(IOUring.isDeferTaskrunSupported() && !IOUring.isSqPollSupported(),
+                (flags & Native.IORING_SETUP_DEFER_TASKRUN) != 0);
+    }
+
+    @Test
+    public void invalidValues() {
+        IOUringHandlerConfig config = new IOUringHandlerConfig();
+        assertThrows(IllegalArgumentException.class, () -> config.setRingSize(0));
+        assertThrows(IllegalArgumentException.class, () -> config.setSqThreadCpu(-2));
+        assertThrows(IllegalArgumentException.class, () -> config.setSqThreadIdle(-1));
+    }
+
+    @Test
+    public void runTasksWithSqPoll() throws Exception {
+        assumeTrue(IOUring.isSqPollSupported());
+        runTask(new IOUringHandlerConfig().setSqPoll(true).setSqThreadIdle(10));
+    }
+
+    @Test
+    public void runTasksWithDeferTaskrun() throws Exception {
+        assumeTrue(IOUring.isDeferTaskrunSupported());
+        runTask(new IOUringHandlerConfig().setDeferTaskrun(true).setCoopTaskrun(IOUring.isCoopTaskrunSupported()));
+    }
+
+    private static void runTask(IOUringHandlerConfig config) throws Exception {
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, IOUring.newFactory(config));
+        try {
+            assertEquals(42, group.next().submit(() -> 42).asStage().get());
+            // Make sure the loop can block on the ring and be woken up again.
+            Thread.sleep(50);
+            assertEquals(43, group.next().submit(() -> 43).asStage().get());
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+}
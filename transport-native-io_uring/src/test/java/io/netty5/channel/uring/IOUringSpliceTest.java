@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.uring;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.Channel;
+import io.netty5.channel.ChannelHandler;
+import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.ChannelOption;
+import io.netty5.channel.ChannelShutdownDirection;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.channel.MultithreadEventLoopGroup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class IOUringSpliceTest {
+    private static final int SIZE = 1024 * 1024;
+
+    @BeforeAll
+    public static void loadJNI() {
+        assumeTrue(IOUring.isAvailable());
+    }
+
+    @Test
+    @Timeout(30)
+    public void spliceUntilEof() throws Exception {
+        spliceUntilEof(false);
+    }
+
+    @Test
+    @Timeout(30)
+    public void spliceUntilEofIntoSlowSink() throws Exception {
+        // The sink does not read for a while, so the send buffer of the target fills up and the splice must wait.
+        spliceUntilEof(true);
+    }
+
+    private static void spliceUntilEof(boolean slowSink) throws Exception {
+        byte[] data = new byte[SIZE];
+        ThreadLocalRandom.current().nextBytes(data);
+        CompletableFuture<byte[]> received = new CompletableFuture<>();
+        CompletableFuture<Long> spliced = new CompletableFuture<>();
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, IOUring.newFactory());
+        try {
+            Channel sink = new ServerBootstrap()
+                    .group(group)
+                    .channel(IOUringServerSocketChannel.class)
+                    .option(ChannelOption.SO_RCVBUF, slowSink ? Integer.valueOf(8192) : null)
+                    .childOption(ChannelOption.AUTO_READ, !slowSink)
+                    .childHandler(new ChannelHandler() {
+                        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+                        @Override
+                        public void channelActive(ChannelHandlerContext ctx) {
+                            if (slowSink) {
+                                ctx.executor().schedule(() -> ctx.channel().setOption(ChannelOption.AUTO_READ, true),
+                                        500, TimeUnit.MILLISECONDS);
+                            }
+                        }
+
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            try (Buffer buffer = (Buffer) msg) {
+                                byte[] array = new byte[buffer.readableBytes()];
+                                buffer.readBytes(array, 0, array.length);
+                                bytes.writeBytes(array);
+                            }
+                        }
+
+                        @Override
+                        public void channelInactive(ChannelHandlerContext ctx) {
+                            received.complete(bytes.toByteArray());
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+
+            Channel proxy = new ServerBootstrap()
+                    .group(group)
+                    .channel(IOUringServerSocketChannel.class)
+                    .childOption(ChannelOption.AUTO_READ, false)
+                    .childHandler(new ChannelHandler() {
+                        @Override
+                        public void channelActive(ChannelHandlerContext ctx) {
+                            IOUringSocketChannel in = (IOUringSocketChannel) ctx.channel();
+                            new Bootstrap()
+                                    .group(in.executor())
+                                    .channel(IOUringSocketChannel.class)
+                                    .option(ChannelOption.SO_SNDBUF, slowSink ? Integer.valueOf(8192) : null)
+                                    .handler(new ChannelHandler() { })
+                                    .connect(sink.localAddress())
+                                    .addListener(f -> {
+                                        if (f.isFailed()) {
+                                            spliced.completeExceptionally(f.cause());
+                                            return;
+                                        }
+                                        IOUringSocketChannel out = (IOUringSocketChannel) f.getNow();
+                                        in.spliceTo(out, Long.MAX_VALUE, true).addListener(s -> {
+                                            if (s.isSuccess()) {
+                                                spliced.complete(s.getNow());
+                                            } else {
+                                                spliced.completeExceptionally(s.cause());
+                                            }
+                                        });
+                                    });
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+
+            Channel client = new Bootstrap()
+                    .group(group)
+                    .channel(IOUringSocketChannel.class)
+                    .handler(new ChannelHandler() { })
+                    .connect(proxy.localAddress()).asStage().get();
+            client.writeAndFlush(client.bufferAllocator().copyOf(data)).asStage().sync();
+            client.shutdown(ChannelShutdownDirection.Outbound).asStage().sync();
+
+            assertEquals(SIZE, spliced.get(20, TimeUnit.SECONDS));
+            assertArrayEquals(data, received.get(20, TimeUnit.SECONDS));
+            client.close().asStage().sync();
+            proxy.close().asStage().sync();
+            sink.close().asStage().sync();
+        } finally {
+            group.shutdownGracefully().asStage().sync();
+        }
+    }
+}
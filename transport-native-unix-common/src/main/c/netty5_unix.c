@@ -15,6 +15,7 @@
  */
 #include "netty5_unix_jni.h"
 #include "netty5_unix.h"
+#include "netty5_unix_affinity.h"
 #include "netty5_unix_buffer.h"
 #include "netty5_unix_errors.h"
 #include "netty5_unix_filedescriptor.h"
@@ -30,6 +31,7 @@ jint netty5_unix_register(JNIEnv* env, const char* packagePrefix) {
     int filedescriptorOnLoadCalled = 0;
     int socketOnLoadCalled = 0;
     int bufferOnLoadCalled = 0;
+    int affinityOnLoadCalled = 0;
 
     // Load all c modules that we depend upon
     if (netty5_unix_limits_JNI_OnLoad(env, packagePrefix) == JNI_ERR) {
@@ -57,6 +59,11 @@ jint netty5_unix_register(JNIEnv* env, const char* packagePrefix) {
     }
     bufferOnLoadCalled = 1;
 
+    if (netty5_unix_affinity_JNI_OnLoad(env, packagePrefix) == JNI_ERR) {
+        goto error;
+    }
+    affinityOnLoadCalled = 1;
+
     return NETTY_JNI_UTIL_JNI_VERSION;
 error:
    if (limitsOnLoadCalled == 1) {
@@ -74,6 +81,9 @@ error:
    if (bufferOnLoadCalled == 1) {
       netty5_unix_buffer_JNI_OnUnLoad(env, packagePrefix);
    }
+   if (affinityOnLoadCalled == 1) {
+      netty5_unix_affinity_JNI_OnUnLoad(env, packagePrefix);
+   }
    return JNI_ERR;
 }
 
@@ -83,5 +93,6 @@ void netty5_unix_unregister(JNIEnv* env, const char* packagePrefix) {
     netty5_unix_filedescriptor_JNI_OnUnLoad(env, packagePrefix);
     netty5_unix_socket_JNI_OnUnLoad(env, packagePrefix);
     netty5_unix_buffer_JNI_OnUnLoad(env, packagePrefix);
+    netty5_unix_affinity_JNI_OnUnLoad(env, packagePrefix);
 }
 
@@ -25,6 +25,9 @@
 #include <arpa/inet.h>
 #include <netinet/in.h>
 #include <netinet/tcp.h>
+#ifdef __linux__
+#include <linux/filter.h>
+#endif /* __linux__ */
 
 #include "netty5_unix_errors.h"
 #include "netty5_unix_jni.h"
@@ -39,6 +42,13 @@
 #define SO_REUSEPORT 15
 #endif /* SO_REUSEPORT */
 
+#ifdef __linux__
+// SO_ATTACH_REUSEPORT_CBPF is defined in linux 4.5. We define this here so older kernels can compile.
+#ifndef SO_ATTACH_REUSEPORT_CBPF
+#define SO_ATTACH_REUSEPORT_CBPF 51
+#endif /* SO_ATTACH_REUSEPORT_CBPF */
+#endif /* __linux__ */
+
 // MSG_FASTOPEN is defined in linux 3.6. We define this here so older kernels can compile.
 #ifndef MSG_FASTOPEN
 #define MSG_FASTOPEN 0x20000000
@@ -999,6 +1009,28 @@ static void netty5_unix_socket_setReusePort(JNIEnv* env, jclass clazz, jint fd,
     netty5_unix_socket_setOption(env, fd, SOL_SOCKET, SO_REUSEPORT, &optval, sizeof(optval));
 }
 
+static void netty5_unix_socket_setReusePortCpuSteering(JNIEnv* env, jclass clazz, jint fd, jint groupSize) {
+#ifdef __linux__
+    // Select the socket of the reuseport group by the CPU that processes the packet, so a connection is accepted by
+    // the socket with the same index as the CPU (modulo the group size).
+    struct sock_filter code[] = {
+        // A = the current CPU
+        { BPF_LD | BPF_W | BPF_ABS, 0, 0, SKF_AD_OFF + SKF_AD_CPU },
+        // A = A % groupSize
+        { BPF_ALU | BPF_MOD | BPF_K, 0, 0, (uint32_t) groupSize },
+        // return A
+        { BPF_RET | BPF_A, 0, 0, 0 }
+    };
+    struct sock_fprog prog = {
+        .len = sizeof(code) / sizeof(code[0]),
+        .filter = code
+    };
+    netty5_unix_socket_setOption(env, fd, SOL_SOCKET, SO_ATTACH_REUSEPORT_CBPF, &prog, sizeof(prog));
+#else
+    netty5_unix_errors_throwChannelExceptionErrorNo(env, "setsockopt() failed: ", ENOPROTOOPT);
+#endif /* __linux__ */
+}
+
 static void netty5_unix_socket_setTcpNoDelay(JNIEnv* env, jclass clazz, jint fd, jint optval) {
     netty5_unix_socket_setOption(env, fd, IPPROTO_TCP, TCP_NODELAY, &optval, sizeof(optval));
 }
@@ -1226,6 +1258,7 @@ static const JNINativeMethod fixed_method_table[] = {
   { "connectDomainSocket", "(I[B)I", (void *) netty5_unix_socket_connectDomainSocket },
   { "setTcpNoDelay", "(II)V", (void *) netty5_unix_socket_setTcpNoDelay },
   { "setReusePort", "(II)V", (void *) netty5_unix_socket_setReusePort },
+  { "setReusePortCpuSteering", "(II)V", (void *) netty5_unix_socket_setReusePortCpuSteering },
   { "setBroadcast", "(II)V", (void *) netty5_unix_socket_setBroadcast },
   { "setReuseAddress", "(II)V", (void *) netty5_unix_socket_setReuseAddress },
   { "setReceiveBufferSize", "(II)V", (void *) netty5_unix_socket_setReceiveBufferSize },
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import io.netty5.util.NumaNodes;
+import io.netty5.util.internal.UnstableApi;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binds threads to CPUs via {@code sched_setaffinity}, which is only supported on Linux.
+ * <p>
+ * The native methods are part of the native transports, so one of them must be loaded before these methods are used,
+ * like by calling {@code Epoll.ensureAvailability()} or {@code IOUring.ensureAvailability()}.
+ * <p>
+ * To pin the threads of an {@code EventLoopGroup}, create it with a {@link ThreadFactory} returned by
+ * {@link #newThreadFactory(ThreadFactory, int[]...)} or {@link #newNumaNodeThreadFactory(ThreadFactory)}. The event
+ * loops then also report the NUMA node of their threads, and the pooled allocators prefer arenas for that node.
+ */
+@UnstableApi
+public final class CpuAffinity {
+    private static final Logger logger = LoggerFactory.getLogger(CpuAffinity.class);
+
+    private CpuAffinity() {
+    }
+
+    /**
+     * Binds the current thread to the given CPUs, and records the NUMA node they belong to via
+     * {@link NumaNodes#setCurrentThreadNode(int)}.
+     *
+     * @param cpus  the CPUs the thread may run on.
+     * @throws IOException if the affinity could not be set.
+     */
+    public static void setCurrentThreadAffinity(int... cpus) throws IOException {
+        requireNonNull(cpus, "cpus");
+        if (cpus.length == 0) {
+            throw new IllegalArgumentException("cpus must not be empty");
+        }
+        int res = setCurrentThreadAffinity0(cpus);
+        if (res < 0) {
+            throw Errors.newIOException("sched_setaffinity", res);
+        }
+        NumaNodes.setCurrentThreadNode(NumaNodes.nodeOfCpus(cpus));
+    }
+
+    /**
+     * Returns the CPU the current thread is running on.
+     *
+     * @throws IOException if the CPU could not be determined.
+     */
+    public static int currentCpu() throws IOException {
+        int res = currentCpu0();
+        if (res < 0) {
+            throw Errors.newIOException("sched_getcpu", res);
+        }
+        return res;
+    }
+
+    /**
+     * Returns a {@link ThreadFactory} that binds the threads created by the given {@link ThreadFactory} to the given
+     * CPU sets. Every new thread is bound to the next CPU set, starting over with the first one once all were used.
+     * If a thread can not be bound, a warning is logged and the thread runs without being bound.
+     *
+     * @param threadFactory the {@link ThreadFactory} that creates the threads.
+     * @param cpuSets       the CPU sets to bind the threads to, for example a single CPU for every thread.
+     */
+    public static ThreadFactory newThreadFactory(ThreadFactory threadFactory, int[]... cpuSets) {
+        requireNonNull(threadFactory, "threadFactory");
+        requireNonNull(cpuSets, "cpuSets");
+        if (cpuSets.length == 0) {
+            throw new IllegalArgumentException("cpuSets must not be empty");
+        }
+        int[][] sets = new int[cpuSets.length][];
+        for (int i = 0; i < cpuSets.length; i++) {
+            sets[i] = requireNonNull(cpuSets[i], "cpuSets[" + i + ']').clone();
+            if (sets[i].length == 0) {
+                throw new IllegalArgumentException("cpuSets[" + i + "] must not be empty");
+            }
+        }
+        AtomicInteger idx = new AtomicInteger();
+        return runnable -> {
+            int[] cpus = sets[Math.abs(idx.getAndIncrement() % sets.length)];
+            return threadFactory.newThread(() -> {
+                try {
+                    setCurrentThreadAffinity(cpus);
+                } catch (Throwable cause) {
+                    logger.warn("Failed to bind thread {} to CPUs {}", Thread.currentThread().getName(),
+                            Arrays.toString(cpus), cause);
+                }
+                runnable.run();
+            });
+        };
+    }
+
+    /**
+     * Returns a {@link ThreadFactory} that binds the threads created by the given {@link ThreadFactory} to the CPUs of
+     * a NUMA node, spreading them evenly over the nodes of the machine. On a machine with a single node the threads
+     * are bound to all its CPUs, which still lets them report their node.
+     *
+     * @param threadFactory the {@link ThreadFactory} that creates the threads.
+     */
+    public static ThreadFactory newNumaNodeThreadFactory(ThreadFactory threadFactory) {
+        List<int[]> cpuSets = new ArrayList<>();
+        for (int node = 0; node < NumaNodes.nodeCount(); node++) {
+            int[] cpus = NumaNodes.cpusOfNode(node);
+            if (cpus.length > 0) {
+                cpuSets.add(cpus);
+            }
+        }
+        if (cpuSets.isEmpty()) {
+            throw new IllegalStateException("Unable to determine the CPUs of the NUMA nodes");
+        }
+        return newThreadFactory(threadFactory, cpuSets.toArray(new int[0][]));
+    }
+
+    private static native int setCurrentThreadAffinity0(int[] cpus);
+    private static native int currentCpu0();
+}
@@ -285,6 +285,20 @@ public final class IovArray implements Predicate<Object> {
         return add(nativeAddress, byteCount);
     }
 
+    /**
+     * Returns the base address of the {@code iovec} at the given index.
+     */
+    public long iovBase(int index) {
+        return getAddr(index);
+    }
+
+    /**
+     * Returns the length of the {@code iovec} at the given index.
+     */
+    public int iovLen(int index) {
+        return getLen(index);
+    }
+
     private void putAddr(int index, long addr) {
         put(idx(index), addr);
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.channel.Channel;
+import io.netty5.channel.EventLoop;
+import io.netty5.channel.EventLoopGroup;
+import io.netty5.util.NettyRuntime;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.Promise;
+import io.netty5.util.internal.UnstableApi;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binds one server socket per {@link EventLoop} to the same address, using {@link UnixChannelOption#SO_REUSEPORT},
+ * and lets the kernel hand each connection to the socket of the {@link EventLoop} that runs on the CPU which
+ * processed its packets ({@link UnixChannelOption#SO_REUSEPORT_CPU_STEERING}).
+ * <p>
+ * Connections that arrive on CPU {@code n} are accepted by the {@code n % loops}-th socket, which is registered with,
+ * and hands its connections to, the {@code n % loops}-th {@link EventLoop} of the group. For the RX queue interrupts,
+ * the kernel network processing and the {@link EventLoop} to share a core, bind the threads of the group to the CPU
+ * sets returned by {@link #cpuSets(int)}, for example via {@link CpuAffinity#newThreadFactory}, and spread the RX
+ * queue interrupts of the network interface over the same CPUs.
+ * <pre>
+ * EventLoopGroup group = new MultithreadEventLoopGroup(loops,
+ *         CpuAffinity.newThreadFactory(new DefaultThreadFactory("server"), ReusePortCpuSteering.cpuSets(loops)),
+ *         EpollHandler.newFactory());
+ * ServerBootstrap bootstrap = new ServerBootstrap()
+ *         .group(group)
+ *         .channel(EpollServerSocketChannel.class)
+ *         .childHandler(...);
+ * List&lt;Channel&gt; servers = ReusePortCpuSteering.bind(bootstrap, new InetSocketAddress(8080)).asStage().get();
+ * </pre>
+ * This is only supported on Linux, with {@code EpollServerSocketChannel} and {@code IOUringServerSocketChannel}.
+ */
+@UnstableApi
+public final class ReusePortCpuSteering {
+
+    private ReusePortCpuSteering() {
+    }
+
+    /**
+     * Returns the CPU sets to bind the threads of an {@link EventLoopGroup} with the given number of
+     * {@link EventLoop}s to, so that the {@code i}-th {@link EventLoop} runs on the CPUs whose connections are
+     * accepted by the {@code i}-th socket.
+     * <p>
+     * The kernel picks the socket by the id of the CPU, so the {@code i}-th set holds the CPUs whose id modulo
+     * {@code loops} is {@code i}. This assumes the process may run on the CPUs {@code 0} to
+     * {@link NettyRuntime#availableProcessors()} {@code - 1}. If it is restricted to other CPUs, for example by
+     * {@code taskset} or a cgroup cpuset, build the sets from the CPUs it may run on with the same rule instead.
+     */
+    public static int[][] cpuSets(int loops) {
+        checkPositive(loops, "loops");
+        int cpus = NettyRuntime.availableProcessors();
+        if (loops > cpus) {
+            throw new IllegalArgumentException("loops: " + loops + " (expected: <= " + cpus + " available CPUs)");
+        }
+        int[][] sets = new int[loops][];
+        for (int i = 0; i < loops; i++) {
+            int[] set = new int[(cpus - i + loops - 1) / loops];
+            for (int j = 0; j < set.length; j++) {
+                set[j] = i + j * loops;
+            }
+            sets[i] = set;
+        }
+        return sets;
+    }
+
+    /**
+     * Binds one server socket per {@link EventLoop} of the group of the given {@link ServerBootstrap} to the given
+     * address. Each socket is registered with its {@link EventLoop}, which also handles the connections it accepts.
+     * The sockets are bound one after the other, as the order in which they join the {@code SO_REUSEPORT} group
+     * decides which CPUs they are selected for. If the port of the address is {@code 0}, all sockets are bound to the
+     * port picked for the first one.
+     *
+     * @param bootstrap     the {@link ServerBootstrap} to bind with, which is not modified.
+     * @param localAddress  the address to bind to.
+     * @return a {@link Future} that is completed with the bound server channels, in the order of the
+     *         {@link EventLoop}s. If one of them fails to bind, the others are closed again.
+     */
+    public static Future<List<Channel>> bind(ServerBootstrap bootstrap, SocketAddress localAddress) {
+        requireNonNull(bootstrap, "bootstrap");
+        requireNonNull(localAddress, "localAddress");
+        EventLoopGroup group = requireNonNull(bootstrap.config().group(), "bootstrap.config().group()");
+        List<EventLoop> loops = new ArrayList<>();
+        for (EventExecutor executor : group) {
+            loops.add((EventLoop) executor);
+        }
+        if (loops.isEmpty()) {
+            throw new IllegalArgumentException("group has no EventLoops: " + group);
+        }
+        Promise<List<Channel>> promise = loops.get(0).newPromise();
+        bindNext(bootstrap, loops, localAddress, new ArrayList<>(loops.size()), promise);
+        return promise.asFuture();
+    }
+
+    private static void bindNext(ServerBootstrap bootstrap, List<EventLoop> loops, SocketAddress localAddress,
+                                 List<Channel> channels, Promise<List<Channel>> promise) {
+        if (channels.size() == loops.size()) {
+            promise.setSuccess(Collections.unmodifiableList(channels));
+            return;
+        }
+        EventLoop loop = loops.get(channels.size());
+        bootstrap.clone()
+                .group(loop, loop)
+                .option(UnixChannelOption.SO_REUSEPORT, true)
+                .option(UnixChannelOption.SO_REUSEPORT_CPU_STEERING, loops.size())
+                .bind(localAddress).addListener(future -> {
+                    if (future.isFailed()) {
+                        for (Channel channel : channels) {
+                            channel.close();
+                        }
+                        promise.setFailure(future.cause());
+                        return;
+                    }
+                    Channel channel = future.getNow();
+                    channels.add(channel);
+                    SocketAddress nextAddress = localAddress;
+                    if (localAddress instanceof InetSocketAddress) {
+                        InetSocketAddress address = (InetSocketAddress) localAddress;
+                        if (address.getPort() == 0) {
+                            // Bind the other sockets to the port that was picked for the first one.
+                            nextAddress = new InetSocketAddress(address.getAddress(),
+                                    ((InetSocketAddress) channel.localAddress()).getPort());
+                        }
+                    }
+                    bindNext(bootstrap, loops, nextAddress, channels, promise);
+                });
+    }
+}
@@ -40,6 +40,7 @@ import static io.netty5.channel.unix.Errors.ioResult;
 import static io.netty5.channel.unix.Errors.newIOException;
 import static io.netty5.channel.unix.NativeInetAddress.address;
 import static io.netty5.channel.unix.NativeInetAddress.ipv4MappedIpv6Address;
+import static io.netty5.util.internal.ObjectUtil.checkPositive;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
@@ -514,6 +515,18 @@ public class Socket extends FileDescriptor {
         setReusePort(fd, reusePort ? 1 : 0);
     }
 
+    /**
+     * Attach a classic BPF program to the {@code SO_REUSEPORT} group of this socket, that selects the socket by the
+     * CPU that processes an incoming packet ({@code SO_ATTACH_REUSEPORT_CBPF}). Connections arriving on CPU {@code n}
+     * are given to the socket that joined the group as {@code n % groupSize}-th. This is only supported on Linux.
+     *
+     * @param groupSize the number of sockets in the group.
+     */
+    public final void setReusePortCpuSteering(int groupSize) throws IOException {
+        checkPositive(groupSize, "groupSize");
+        setReusePortCpuSteering(fd, groupSize);
+    }
+
     public final void setBroadcast(boolean broadcast) throws IOException {
         setBroadcast(fd, broadcast ? 1 : 0);
     }
@@ -725,6 +738,7 @@ public class Socket extends FileDescriptor {
 
     private static native void setReuseAddress(int fd, int reuseAddress) throws IOException;
     private static native void setReusePort(int fd, int reuseAddress) throws IOException;
+    private static native void setReusePortCpuSteering(int fd, int groupSize) throws IOException;
     private static native void setKeepAlive(int fd, int keepAlive) throws IOException;
     private static native void setReceiveBufferSize(int fd, int receiveBufferSize) throws IOException;
     private static native void setSendBufferSize(int fd, int sendBufferSize) throws IOException;
@@ -19,6 +19,13 @@ import io.netty5.channel.ChannelOption;
 
 public class UnixChannelOption<T> extends ChannelOption<T> {
     public static final ChannelOption<Boolean> SO_REUSEPORT = valueOf(UnixChannelOption.class, "SO_REUSEPORT");
+    /**
+     * Select the socket of the {@link #SO_REUSEPORT} group that accepts a connection by the CPU that processes its
+     * packets, via a {@code SO_ATTACH_REUSEPORT_CBPF} program. The value is the number of sockets in the group. Only
+     * supported on Linux, see {@link ReusePortCpuSteering}.
+     */
+    public static final ChannelOption<Integer> SO_REUSEPORT_CPU_STEERING =
+            valueOf(UnixChannelOption.class, "SO_REUSEPORT_CPU_STEERING");
     public static final ChannelOption<DomainSocketReadMode> DOMAIN_SOCKET_READ_MODE =
             ChannelOption.valueOf(UnixChannelOption.class, "DOMAIN_SOCKET_READ_MODE");
     /**
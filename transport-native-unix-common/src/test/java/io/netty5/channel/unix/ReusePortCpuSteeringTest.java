@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel.unix;
+
+import io.netty5.util.NettyRuntime;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReusePortCpuSteeringTest {
+
+    @Test
+    public void cpuSetsMatchSteeringModulo() {
+        int cpus = NettyRuntime.availableProcessors();
+        for (int loops = 1; loops <= cpus; loops++) {
+            int[][] sets = ReusePortCpuSteering.cpuSets(loops);
+            assertEquals(loops, sets.length);
+            int total = 0;
+            for (int i = 0; i < loops; i++) {
+                for (int cpu : sets[i]) {
+                    assertEquals(i, cpu % loops);
+                    total++;
+                }
+            }
+            assertEquals(cpus, total);
+        }
+    }
+
+    @Test
+    public void rejectsInvalidLoops() {
+        assertThrows(IllegalArgumentException.class, () -> ReusePortCpuSteering.cpuSets(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> ReusePortCpuSteering.cpuSets(NettyRuntime.availableProcessors() + 1));
+    }
+}
@@ -61,6 +61,7 @@ import static io.netty5.channel.ChannelOption.READ_HANDLE_FACTORY;
 import static io.netty5.channel.ChannelOption.TCP_FASTOPEN_CONNECT;
 import static io.netty5.channel.ChannelOption.WRITE_BUFFER_WATER_MARK;
 import static io.netty5.channel.ChannelOption.WRITE_HANDLE_FACTORY;
+import static io.netty5.channel.ChannelOption.WRITE_INBOX;
 import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
 import static java.lang.Math.min;
 import static java.util.Objects.requireNonNull;
@@ -1575,6 +1576,9 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
         if (option == ALLOW_HALF_CLOSURE) {
             return (T) Boolean.valueOf(isAllowHalfClosure());
         }
+        if (option == WRITE_INBOX) {
+            return (T) Boolean.valueOf(isWriteInbox());
+        }
 
         return getExtendedOption(option);
     }
@@ -1615,6 +1619,8 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
             setMessageSizeEstimator((MessageSizeEstimator) value);
         } else if (option == ALLOW_HALF_CLOSURE) {
             setAllowHalfClosure((Boolean) value);
+        } else if (option == WRITE_INBOX) {
+            setWriteInbox((Boolean) value);
         } else {
             setExtendedOption(option, value);
         }
@@ -1657,7 +1663,7 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
         return newSupportedIdentityOptionsSet(
                 AUTO_READ, WRITE_BUFFER_WATER_MARK, CONNECT_TIMEOUT_MILLIS,
                 BUFFER_ALLOCATOR, READ_HANDLE_FACTORY, WRITE_HANDLE_FACTORY, AUTO_CLOSE, MESSAGE_SIZE_ESTIMATOR,
-                ALLOW_HALF_CLOSURE);
+                ALLOW_HALF_CLOSURE, WRITE_INBOX);
     }
 
     /**
@@ -1733,6 +1739,19 @@ public abstract class AbstractChannel<P extends Channel, L extends SocketAddress
         }
     }
 
+    private boolean isWriteInbox() {
+        return pipeline instanceof DefaultChannelPipeline && ((DefaultChannelPipeline) pipeline).isWriteInbox();
+    }
+
+    private void setWriteInbox(boolean writeInbox) {
+        if (pipeline instanceof DefaultChannelPipeline) {
+            ((DefaultChannelPipeline) pipeline).setWriteInbox(writeInbox);
+        } else if (writeInbox) {
+            throw new UnsupportedOperationException(
+                    WRITE_INBOX + " requires a " + DefaultChannelPipeline.class.getSimpleName());
+        }
+    }
+
     private boolean isAutoClose() {
         return autoClose;
     }
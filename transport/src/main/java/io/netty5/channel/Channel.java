@@ -316,6 +316,20 @@ public interface Channel extends AttributeMap, ChannelOutboundInvoker, Comparabl
         return pipeline().writeAndFlush(msg);
     }
 
+    /**
+     * @see ChannelPipeline#writeVoid(Object)
+     */
+    default void writeVoid(Object msg) {
+        pipeline().writeVoid(msg);
+    }
+
+    /**
+     * @see ChannelPipeline#writeAndFlushVoid(Object)
+     */
+    default void writeAndFlushVoid(Object msg) {
+        pipeline().writeAndFlushVoid(msg);
+    }
+
     @Override
     default Channel flush() {
         pipeline().flush();
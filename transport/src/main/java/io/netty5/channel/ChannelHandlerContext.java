@@ -137,6 +137,23 @@ public interface ChannelHandlerContext extends ChannelInboundInvoker, ChannelOut
     @Override
     ChannelHandlerContext flush();
 
+    /**
+     * Request to write a message like {@link #write(Object)}, for a caller that does not need to know when, or
+     * whether, the write completed. A failed write is reported via
+     * {@link ChannelPipeline#fireChannelExceptionCaught(Throwable)} instead. If no handler between the caller
+     * and the transport intercepts the write, no {@link io.netty5.util.concurrent.Promise} is allocated to track it.
+     */
+    default void writeVoid(Object msg) {
+        write(msg).addListener(channel(), ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
+    /**
+     * Shortcut for call {@link #writeVoid(Object)} and {@link #flush()}.
+     */
+    default void writeAndFlushVoid(Object msg) {
+        writeAndFlush(msg).addListener(channel(), ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
     /**
      * Return the assigned {@link ChannelPipeline}
      */
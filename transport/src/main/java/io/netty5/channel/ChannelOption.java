@@ -96,6 +96,14 @@ public class ChannelOption<T> extends AbstractConstant<ChannelOption<T>> {
      */
     public static final ChannelOption<Boolean> AUTO_CLOSE = valueOf("AUTO_CLOSE");
 
+    /**
+     * If {@code true} then the outbound operations that are done from outside the event loop, like writes, are
+     * collected per {@link ChannelHandlerContext} and done by a single task that also only flushes once, instead of
+     * each of them being scheduled as a task of its own. This should be set before the {@link Channel} is used.
+     * The default value is {@code false}.
+     */
+    public static final ChannelOption<Boolean> WRITE_INBOX = valueOf("WRITE_INBOX");
+
     public static final ChannelOption<Boolean> SO_BROADCAST = valueOf("SO_BROADCAST");
     public static final ChannelOption<Boolean> SO_KEEPALIVE = valueOf("SO_KEEPALIVE");
     public static final ChannelOption<Integer> SO_SNDBUF = valueOf("SO_SNDBUF");
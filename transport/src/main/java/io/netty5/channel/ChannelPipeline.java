@@ -614,6 +614,23 @@ public interface ChannelPipeline
     @Override
     ChannelPipeline read();
 
+    /**
+     * Request to write a message like {@link #write(Object)}, for a caller that does not need to know when, or
+     * whether, the write completed. A failed write is reported via
+     * {@link ChannelPipeline#fireChannelExceptionCaught(Throwable)} instead. If no handler between the caller
+     * and the transport intercepts the write, no {@link io.netty5.util.concurrent.Promise} is allocated to track it.
+     */
+    default void writeVoid(Object msg) {
+        write(msg).addListener(channel(), ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
+    /**
+     * Shortcut for call {@link #writeVoid(Object)} and {@link #flush()}.
+     */
+    default void writeAndFlushVoid(Object msg) {
+        writeAndFlush(msg).addListener(channel(), ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
+    }
+
     /**
      * The number of the outbound bytes that are buffered / queued in this {@link ChannelPipeline}. This number will
      * affect the writability of the {@link Channel} together the buffered / queued bytes in the {@link Channel} itself.
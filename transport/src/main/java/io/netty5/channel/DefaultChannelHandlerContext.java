@@ -21,6 +21,7 @@ import io.netty5.util.concurrent.EventExecutor;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.Promise;
 import io.netty5.util.internal.ObjectPool;
+import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.StringUtil;
 import io.netty5.util.internal.SystemPropertyUtil;
 import io.netty5.util.internal.ThrowableUtil;
@@ -28,8 +29,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static io.netty5.channel.ChannelHandlerMask.MASK_BIND;
 import static io.netty5.channel.ChannelHandlerMask.MASK_CHANNEL_ACTIVE;
@@ -95,6 +99,9 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
     private Tasks invokeTasks;
     private int handlerState = INIT;
 
+    // Lazily instantiated inbox for writes from outside the event loop, see writeInbox().
+    private volatile WriteInbox writeInbox;
+
     private volatile boolean removed;
 
     DefaultChannelHandlerContext next;
@@ -133,6 +140,18 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         return new ChannelPipelineException("Context " + ctx + " already removed", cause);
     }
 
+    private WriteInbox writeInbox(EventExecutor executor) {
+        WriteInbox inbox = writeInbox;
+        if (inbox == null) {
+            // Unlike the Tasks there must only ever be one inbox, as otherwise writes could be reordered.
+            inbox = new WriteInbox(this, executor);
+            if (!WRITE_INBOX_UPDATER.compareAndSet(this, null, inbox)) {
+                inbox = writeInbox;
+            }
+        }
+        return inbox;
+    }
+
     private Tasks invokeTasks() {
         Tasks tasks = invokeTasks;
         if (tasks == null) {
@@ -538,7 +557,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         }
 
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeBind(localAddress).cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeBind(localAddress).cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -554,7 +573,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeDeregister();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeDeregister().cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeDeregister().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
     private Future<Void> findAndInvokeBind(SocketAddress localAddress) {
@@ -589,7 +608,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeConnect(remoteAddress, localAddress);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () ->
+        executeOutbound(executor, () ->
                 findAndInvokeConnect(remoteAddress, localAddress).cascadeTo(promise), promise, null);
 
         return promise.asFuture();
@@ -631,7 +650,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeDisconnect();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeDisconnect().cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeDisconnect().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -665,7 +684,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeClose();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeClose().cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeClose().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -699,7 +718,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeShutdown(direction);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeShutdown(direction).cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeShutdown(direction).cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -733,7 +752,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeRegister();
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeRegister().cascadeTo(promise), promise, null);
+        executeOutbound(executor, () -> findAndInvokeRegister().cascadeTo(promise), promise, null);
         return promise.asFuture();
     }
 
@@ -790,7 +809,11 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             findAndInvokeRead(DefaultChannelPipeline.DEFAULT_READ_BUFFER_ALLOCATOR);
         } else {
             Tasks tasks = invokeTasks();
-            executor.execute(tasks.invokeReadTask);
+            if (pipeline.isWriteInbox()) {
+                writeInbox(executor).add(tasks.invokeReadTask);
+            } else {
+                executor.execute(tasks.invokeReadTask);
+            }
         }
         return this;
     }
@@ -808,6 +831,8 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         EventExecutor executor = originalExecutor();
         if (executor.inEventLoop()) {
             findAndInvokeRead(readBufferAllocator);
+        } else if (pipeline.isWriteInbox()) {
+            writeInbox(executor).add(() -> findAndInvokeRead(readBufferAllocator));
         } else {
             executor.execute(() -> findAndInvokeRead(readBufferAllocator));
         }
@@ -838,7 +863,12 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
 
     @Override
     public Future<Void> write(Object msg) {
-        return write(msg, false);
+        return write(msg, false, false);
+    }
+
+    @Override
+    public void writeVoid(Object msg) {
+        write(msg, false, true);
     }
 
     private Future<Void> invokeWrite(Object msg) {
@@ -869,7 +899,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             promise.asFuture().addListener(channel(), ChannelFutureListeners.FIRE_EXCEPTION_ON_FAILURE);
             // If flush throws we want to at least propagate the exception through the ChannelPipeline
             // as otherwise the user will not be made aware of the failure at all.
-            safeExecute(executor, tasks.invokeFlushTask, promise, null);
+            executeOutbound(executor, tasks.invokeFlushTask, promise, null);
         }
 
         return this;
@@ -899,7 +929,12 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
 
     @Override
     public Future<Void> writeAndFlush(Object msg) {
-        return write(msg, true);
+        return write(msg, true, false);
+    }
+
+    @Override
+    public void writeAndFlushVoid(Object msg) {
+        write(msg, true, true);
     }
 
     private Future<Void> invokeWriteAndFlush(Object msg) {
@@ -908,7 +943,25 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         return f;
     }
 
-    private Future<Void> write(Object msg, boolean flush) {
+    // Invokes the write of a message that was written via writeVoid(Object) and reports its failure to the pipeline.
+    private void invokeVoidWrite(Object msg) {
+        if (!pipeline.isHead(this)) {
+            // The handler may chain on the Future of the write it forwards, so it must get a real one.
+            pipeline.voidWriteComplete(invokeWrite(msg));
+            return;
+        }
+        Object previous = pipeline.beginVoidWrite(msg);
+        Future<Void> future;
+        try {
+            future = invokeWrite(msg);
+        } finally {
+            pipeline.endVoidWrite(previous);
+        }
+        pipeline.voidWriteComplete(future);
+    }
+
+    // The returned Future must not be used if voidWrite is true.
+    private Future<Void> write(Object msg, boolean flush, boolean voidWrite) {
         requireNonNull(msg, "msg");
 
         EventExecutor executor = originalExecutor();
@@ -917,21 +970,34 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
                     (MASK_WRITE | MASK_FLUSH) : MASK_WRITE);
             if (next == null) {
                 Resource.dispose(msg);
-                return failRemoved(this);
+                Future<Void> failed = failRemoved(this);
+                if (voidWrite) {
+                    pipeline.voidWriteComplete(failed);
+                }
+                return failed;
+            }
+            if (voidWrite) {
+                next.invokeVoidWrite(msg);
+                if (flush) {
+                    next.invokeFlush();
+                }
+                return null;
             }
             if (flush) {
                 return next.invokeWriteAndFlush(msg);
             }
             return next.invokeWrite(msg);
         } else {
-            Promise<Void> promise  = newPromise();
+            Promise<Void> promise = voidWrite ? pipeline.voidWritePromise() : newPromise();
             final AbstractWriteTask task;
             if (flush) {
                 task = WriteAndFlushTask.newInstance(this, msg, promise);
             }  else {
                 task = WriteTask.newInstance(this, msg, promise);
             }
-            if (task != null && !safeExecute(executor, task, promise, msg)) {
+            if (task != null && pipeline.isWriteInbox()) {
+                writeInbox(executor).add(task);
+            } else if (task != null && !safeExecute(executor, task, promise, msg)) {
                 // We failed to submit the AbstractWriteTask. We need to cancel it so we decrement the pending bytes
                 // and put it back in the Recycler for re-use later.
                 //
@@ -949,7 +1015,7 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return findAndInvokeSendOutboundEvent(event);
         }
         Promise<Void> promise  = newPromise();
-        safeExecute(executor, () -> findAndInvokeSendOutboundEvent(event).cascadeTo(promise), promise, event);
+        executeOutbound(executor, () -> findAndInvokeSendOutboundEvent(event).cascadeTo(promise), promise, event);
         return promise.asFuture();
     }
 
@@ -1088,6 +1154,15 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         next = null;
     }
 
+    private void executeOutbound(EventExecutor executor, Runnable runnable, Promise<Void> promise, Object msg) {
+        if (pipeline.isWriteInbox()) {
+            // Go through the inbox as well, so the operation is not done before the writes that were done before it.
+            writeInbox(executor).add(new OutboundTask(runnable, promise, msg));
+        } else {
+            safeExecute(executor, runnable, promise, msg);
+        }
+    }
+
     static boolean safeExecute(EventExecutor executor, Runnable runnable, Promise<Void> promise, Object msg) {
         try {
             executor.execute(runnable);
@@ -1123,6 +1198,124 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
     private static final int WRITE_TASK_OVERHEAD =
             SystemPropertyUtil.getInt("io.netty5.transport.writeTaskSizeOverhead", 48);
 
+    private static final int WRITE_INBOX_MAX_TASKS_PER_RUN =
+            SystemPropertyUtil.getInt("io.netty5.transport.writeInboxMaxTasksPerRun", 1024);
+
+    private static final AtomicReferenceFieldUpdater<DefaultChannelHandlerContext, WriteInbox> WRITE_INBOX_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(DefaultChannelHandlerContext.class, WriteInbox.class, "writeInbox");
+
+    /**
+     * Collects the outbound operations that are done from outside the event loop when {@link ChannelOption#WRITE_INBOX}
+     * is set, so they can be done by a single task that also only flushes once, instead of each of them being
+     * scheduled as a task of its own.
+     * <p>
+     * The operations of the context are done in the order in which they were added, but there is no ordering
+     * guarantee relative to the operations of other contexts or to tasks that are submitted to the
+     * {@link EventExecutor} directly. A run does at most {@code io.netty5.transport.writeInboxMaxTasksPerRun}
+     * operations and then re-schedules itself, so other tasks of the event loop are not starved.
+     */
+    private static final class WriteInbox implements Runnable {
+        private final Queue<Runnable> tasks = PlatformDependent.newMpscQueue();
+        // true while the task is queued or running, only the thread that set it may poll the inbox.
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final DefaultChannelHandlerContext ctx;
+        private final EventExecutor executor;
+
+        WriteInbox(DefaultChannelHandlerContext ctx, EventExecutor executor) {
+            this.ctx = ctx;
+            this.executor = executor;
+        }
+
+        void add(Runnable task) {
+            tasks.offer(task);
+            if (scheduled.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this);
+            } catch (Throwable cause) {
+                do {
+                    Runnable task;
+                    while ((task = tasks.poll()) != null) {
+                        fail(task, cause);
+                    }
+                } while (!release());
+            }
+        }
+
+        /**
+         * Returns {@code true} if the inbox is empty and was released, {@code false} if it must be drained again.
+         */
+        private boolean release() {
+            scheduled.set(false);
+            return tasks.isEmpty() || !scheduled.compareAndSet(false, true);
+        }
+
+        private static void fail(Runnable task, Throwable cause) {
+            if (task instanceof AbstractWriteTask) {
+                ((AbstractWriteTask) task).fail(cause);
+            } else if (task instanceof OutboundTask) {
+                ((OutboundTask) task).fail(cause);
+            }
+        }
+
+        @Override
+        public void run() {
+            boolean flush = false;
+            Runnable task;
+            for (int i = 0; i < WRITE_INBOX_MAX_TASKS_PER_RUN && (task = tasks.poll()) != null; i++) {
+                if (task instanceof AbstractWriteTask) {
+                    flush |= ((AbstractWriteTask) task).run(false);
+                } else {
+                    if (flush) {
+                        // The writes before the operation must be flushed before it is done.
+                        ctx.findAndInvokeFlush();
+                        flush = false;
+                    }
+                    task.run();
+                }
+            }
+            if (flush) {
+                // A single flush for all the writes that were done via writeAndFlush.
+                ctx.findAndInvokeFlush();
+            }
+            if (!tasks.isEmpty() || !release()) {
+                // Continue behind the tasks that were submitted in the meantime.
+                schedule();
+            }
+        }
+    }
+
+    private static final class OutboundTask implements Runnable {
+        private final Runnable runnable;
+        private final Promise<Void> promise;
+        private final Object msg;
+
+        OutboundTask(Runnable runnable, Promise<Void> promise, Object msg) {
+            this.runnable = runnable;
+            this.promise = promise;
+            this.msg = msg;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        void fail(Throwable cause) {
+            try {
+                if (msg != null) {
+                    Resource.dispose(msg);
+                }
+            } finally {
+                promise.tryFailure(cause);
+            }
+        }
+    }
+
     abstract static class AbstractWriteTask implements Runnable {
 
         private final ObjectPool.Handle<AbstractWriteTask> handle;
@@ -1169,26 +1362,62 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         }
 
         protected abstract DefaultChannelHandlerContext findContext(DefaultChannelHandlerContext ctx);
+
+        /**
+         * Returns {@code true} if the message needs to be flushed after it was written.
+         */
+        protected abstract boolean flushes();
+
         @Override
         public final void run() {
+            run(true);
+        }
+
+        /**
+         * Write the message, and flush it if needed and {@code flush} is {@code true}.
+         *
+         * @return {@code true} if the message was written and still needs to be flushed.
+         */
+        final boolean run(boolean flush) {
             try {
                 decrementPendingOutboundBytes();
                 if (promise.isCancelled()) {
                     Resource.dispose(msg);
-                    return;
+                    return false;
                 }
                 DefaultChannelHandlerContext next = findContext(ctx);
                 if (next == null) {
                     Resource.dispose(msg);
                     failRemoved(ctx).cascadeTo(promise);
-                    return;
+                    return false;
+                }
+                if (promise instanceof VoidWritePromise) {
+                    next.invokeVoidWrite(msg);
+                } else {
+                    next.invokeWrite(msg).cascadeTo(promise);
+                }
+                if (!flushes()) {
+                    return false;
                 }
-                write(next, msg, promise);
+                if (flush) {
+                    next.invokeFlush();
+                    return false;
+                }
+                return true;
             } finally {
                 recycle();
             }
         }
 
+        void fail(Throwable cause) {
+            try {
+                Resource.dispose(msg);
+                promise.tryFailure(cause);
+            } finally {
+                cancel();
+            }
+        }
+
         void cancel() {
             try {
                 decrementPendingOutboundBytes();
@@ -1211,10 +1440,6 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             promise = null;
             handle.recycle(this);
         }
-
-        protected void write(DefaultChannelHandlerContext ctx, Object msg, Promise<Void> promise) {
-            ctx.invokeWrite(msg).cascadeTo(promise);
-        }
     }
 
     static final class WriteTask extends AbstractWriteTask implements SingleThreadEventLoop.NonWakeupRunnable {
@@ -1235,6 +1460,11 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
             return ctx.findContextOutbound(MASK_WRITE);
         }
 
+        @Override
+        protected boolean flushes() {
+            return false;
+        }
+
         private WriteTask(ObjectPool.Handle<WriteTask> handle) {
             super(handle);
         }
@@ -1263,9 +1493,8 @@ final class DefaultChannelHandlerContext implements ChannelHandlerContext, Resou
         }
 
         @Override
-        public void write(DefaultChannelHandlerContext ctx, Object msg, Promise<Void> promise) {
-            super.write(ctx, msg, promise);
-            ctx.invokeFlush();
+        protected boolean flushes() {
+            return true;
         }
     }
 
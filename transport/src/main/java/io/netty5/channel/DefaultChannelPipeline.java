@@ -78,6 +78,11 @@ public abstract class DefaultChannelPipeline implements ChannelPipeline {
     private final List<DefaultChannelHandlerContext> handlers = new ArrayList<>(4);
 
     private volatile MessageSizeEstimator.Handle estimatorHandle;
+    private volatile boolean writeInbox;
+
+    private final VoidWritePromise voidWritePromise;
+    // The message of the writeVoid(Object) call that is passed through the pipeline on the event loop right now.
+    private Object voidWriteMessage;
 
     private static final AtomicLongFieldUpdater<DefaultChannelPipeline> TOTAL_PENDING_OUTBOUND_BYTES_UPDATER =
             AtomicLongFieldUpdater.newUpdater(DefaultChannelPipeline.class, "pendingOutboundBytes");
@@ -87,6 +92,7 @@ public abstract class DefaultChannelPipeline implements ChannelPipeline {
     protected DefaultChannelPipeline(Channel channel) {
         this.channel = requireNonNull(channel, "channel");
         succeededFuture = channel.executor().newSucceededFuture(null);
+        voidWritePromise = new VoidWritePromise(this);
 
         tail = new DefaultChannelHandlerContext(this, TAIL_NAME, TAIL_HANDLER);
         head = new DefaultChannelHandlerContext(this, HEAD_NAME, HEAD_HANDLER);
@@ -97,6 +103,50 @@ public abstract class DefaultChannelPipeline implements ChannelPipeline {
         tail.setAddComplete();
     }
 
+    final boolean isWriteInbox() {
+        return writeInbox;
+    }
+
+    final void setWriteInbox(boolean writeInbox) {
+        this.writeInbox = writeInbox;
+    }
+
+    final VoidWritePromise voidWritePromise() {
+        return voidWritePromise;
+    }
+
+    final boolean isHead(DefaultChannelHandlerContext ctx) {
+        return ctx == head;
+    }
+
+    /**
+     * Marks the given message as written via {@link #writeVoid(Object)} while the head writes it, so the head can use
+     * the {@link VoidWritePromise}. Only used if the head is the first context that handles the write, as any handler
+     * in between may chain on the {@link Future} of the write it forwards. Must be called from the event loop.
+     *
+     * @return the message of the enclosing call, to be restored via {@link #endVoidWrite(Object)}.
+     */
+    final Object beginVoidWrite(Object msg) {
+        Object previous = voidWriteMessage;
+        voidWriteMessage = msg;
+        return previous;
+    }
+
+    final void endVoidWrite(Object previous) {
+        voidWriteMessage = previous;
+    }
+
+    /**
+     * Fires the failure of a write that was done via {@link #writeVoid(Object)} through the pipeline.
+     */
+    final void voidWriteComplete(Future<Void> future) {
+        if (!future.isDone()) {
+            future.cascadeTo(voidWritePromise);
+        } else if (future.isFailed()) {
+            voidWritePromise.tryFailure(future.cause());
+        }
+    }
+
     final MessageSizeEstimator.Handle estimatorHandle() {
         MessageSizeEstimator.Handle handle = estimatorHandle;
         if (handle == null) {
@@ -919,6 +969,16 @@ public abstract class DefaultChannelPipeline implements ChannelPipeline {
         return tail.writeAndFlush(msg);
     }
 
+    @Override
+    public final void writeVoid(Object msg) {
+        tail.writeVoid(msg);
+    }
+
+    @Override
+    public final void writeAndFlushVoid(Object msg) {
+        tail.writeAndFlushVoid(msg);
+    }
+
     @Override
     public final Future<Void> sendOutboundEvent(Object event) {
         return tail.sendOutboundEvent(event);
@@ -1232,7 +1292,8 @@ public abstract class DefaultChannelPipeline implements ChannelPipeline {
         public Future<Void> write(ChannelHandlerContext ctx, Object msg) {
             DefaultChannelPipeline pipeline = defaultChannelPipeline(ctx);
             EventExecutor executor = pipeline.transportExecutor();
-            Promise<Void> promise = executor.newPromise();
+            Promise<Void> promise = msg == pipeline.voidWriteMessage ? pipeline.voidWritePromise
+                    : executor.newPromise();
             if (executor.inEventLoop()) {
                 pipeline.writeTransport(msg, promise);
             } else {
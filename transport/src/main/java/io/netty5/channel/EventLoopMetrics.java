@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+/**
+ * {@link EventLoopMetricsListener} that sums up the timings of a single {@link SingleThreadEventLoop}.
+ * <p>
+ * The counters are only updated by the event loop thread, but can be read from any thread. An instance must not be
+ * shared between multiple {@link EventLoop}s.
+ */
+public final class EventLoopMetrics implements EventLoopMetricsListener {
+    private volatile long iterations;
+    private volatile long ioWaitNanos;
+    private volatile long ioProcessingNanos;
+    private volatile long ioHandled;
+    private volatile long tasks;
+    private volatile long taskProcessingNanos;
+    private volatile int taskQueueDepth;
+    private volatile long maxTaskLatencyNanos;
+
+    @Override
+    public void ioProcessed(long waitNanos, long processingNanos, int handled) {
+        // Single writer, so there is no need for atomic increments.
+        iterations = iterations + 1;
+        ioWaitNanos = ioWaitNanos + waitNanos;
+        ioProcessingNanos = ioProcessingNanos + processingNanos;
+        ioHandled = ioHandled + handled;
+    }
+
+    @Override
+    public void tasksProcessed(int tasks, long processingNanos, int queueDepth, long maxLatencyNanos) {
+        this.tasks = this.tasks + tasks;
+        taskProcessingNanos = taskProcessingNanos + processingNanos;
+        taskQueueDepth = queueDepth;
+        if (maxLatencyNanos > maxTaskLatencyNanos) {
+            maxTaskLatencyNanos = maxLatencyNanos;
+        }
+    }
+
+    /**
+     * Returns the number of iterations of the event loop.
+     */
+    public long iterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the time spent waiting for IO.
+     */
+    public long ioWaitNanos() {
+        return ioWaitNanos;
+    }
+
+    /**
+     * Returns the time spent processing IO.
+     */
+    public long ioProcessingNanos() {
+        return ioProcessingNanos;
+    }
+
+    /**
+     * Returns the number of times IO was processed for an {@link IoHandle}.
+     */
+    public long ioHandled() {
+        return ioHandled;
+    }
+
+    /**
+     * Returns the number of tasks that ran.
+     */
+    public long tasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the time spent running tasks.
+     */
+    public long taskProcessingNanos() {
+        return taskProcessingNanos;
+    }
+
+    /**
+     * Returns the average number of tasks that ran per iteration, or {@code 0} if there was no iteration yet.
+     */
+    public double tasksPerIteration() {
+        long iterations = this.iterations;
+        return iterations == 0 ? 0 : (double) tasks / iterations;
+    }
+
+    /**
+     * Returns the number of tasks that were pending at the start of the last iteration.
+     */
+    public int taskQueueDepth() {
+        return taskQueueDepth;
+    }
+
+    /**
+     * Returns approximately the longest time a task waited between being added and being run.
+     */
+    public long maxTaskLatencyNanos() {
+        return maxTaskLatencyNanos;
+    }
+
+    /**
+     * Returns the share of time spent processing IO and tasks instead of waiting for IO, between {@code 0} and
+     * {@code 1}.
+     */
+    public double busyRatio() {
+        long busyNanos = ioProcessingNanos + taskProcessingNanos;
+        long totalNanos = busyNanos + ioWaitNanos;
+        return totalNanos == 0 ? 0 : (double) busyNanos / totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "EventLoopMetrics(iterations: " + iterations + ", ioWaitNanos: " + ioWaitNanos +
+                ", ioProcessingNanos: " + ioProcessingNanos + ", ioHandled: " + ioHandled + ", tasks: " + tasks +
+                ", taskProcessingNanos: " + taskProcessingNanos + ", taskQueueDepth: " + taskQueueDepth +
+                ", maxTaskLatencyNanos: " + maxTaskLatencyNanos + ')';
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+/**
+ * Receives the timings of a {@link SingleThreadEventLoop}, once it was set via
+ * {@link SingleThreadEventLoop#setMetricsListener(EventLoopMetricsListener)}. See {@link EventLoopMetrics} for an
+ * implementation that sums them up.
+ * <p>
+ * All methods are called from the {@link EventLoop} thread once per iteration of the loop, and only get primitive
+ * values so they can be recorded without allocating. Implementations must be fast and must never block, as they
+ * delay the {@link EventLoop}.
+ */
+public interface EventLoopMetricsListener {
+
+    /**
+     * Called after the {@link IoHandler} ran.
+     *
+     * @param waitNanos         the time spent waiting for IO to be ready.
+     * @param processingNanos   the time spent processing the IO that was ready, as reported by the {@link IoHandler}
+     *                          via {@link IoExecutionContext#reportActiveIoTime(long)}.
+     * @param handled           the number of {@link IoHandle}s for which IO was processed.
+     */
+    void ioProcessed(long waitNanos, long processingNanos, int handled);
+
+    /**
+     * Called after the tasks of an iteration ran.
+     *
+     * @param tasks             the number of tasks that ran.
+     * @param processingNanos   the time spent running them.
+     * @param queueDepth        the number of tasks that were pending before they ran.
+     * @param maxLatencyNanos   approximately the longest time one of the tasks waited between being added and
+     *                          being run, or {@code 0} if no task was added since the last iteration.
+     */
+    void tasksProcessed(int tasks, long processingNanos, int queueDepth, long maxLatencyNanos);
+}
@@ -36,4 +36,20 @@ public interface IoExecutionContext {
      * closest scheduled task should run or {@code -1} if nothing is scheduled to run.
      */
     long deadlineNanos();
+
+    /**
+     * Returns {@code true} if the {@link IoHandler} should measure the time it spends processing IO that is ready,
+     * as opposed to waiting for IO, and report it via {@link #reportActiveIoTime(long)}.
+     */
+    default boolean shouldReportActiveIoTime() {
+        return false;
+    }
+
+    /**
+     * Reports the time the {@link IoHandler} spent processing IO that was ready during the current
+     * {@link IoHandler#run(IoExecutionContext)} call.
+     */
+    default void reportActiveIoTime(long activeNanos) {
+        // NOOP
+    }
 }
@@ -17,6 +17,9 @@ package io.netty5.channel;
 
 import io.netty5.util.NettyRuntime;
 import io.netty5.util.concurrent.DefaultThreadFactory;
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.EventExecutorChooserFactory;
+import io.netty5.util.concurrent.EventExecutorChoosers;
 import io.netty5.util.concurrent.MultithreadEventExecutorGroup;
 import io.netty5.util.concurrent.RejectedExecutionHandler;
 import io.netty5.util.concurrent.RejectedExecutionHandlers;
@@ -212,6 +215,112 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
                 maxPendingTasks, rejectedHandler, maxTasksPerRun, EmptyArrays.EMPTY_OBJECTS);
     }
 
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns.
+     * @param useTimingWheel    {@code true} if the scheduled tasks of each {@link EventLoop} should be kept in a
+     *                          hierarchical timing wheel instead of a binary heap, which suits many long timeouts
+     *                          that are usually cancelled before they are due.
+     */
+    public MultithreadEventLoopGroup(int nThreads, Executor executor,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory,
+                                     boolean useTimingWheel) {
+        this(nThreads, executor, ioHandlerFactory,
+                maxPendingTasks, rejectedHandler, maxTasksPerRun, chooserFactory, useTimingWheel,
+                EmptyArrays.EMPTY_OBJECTS);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param threadFactory     the {@link ThreadFactory} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns.
+     * @param useTimingWheel    {@code true} if the scheduled tasks of each {@link EventLoop} should be kept in a
+     *                          hierarchical timing wheel instead of a binary heap, which suits many long timeouts
+     *                          that are usually cancelled before they are due.
+     */
+    public MultithreadEventLoopGroup(int nThreads, ThreadFactory threadFactory,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory,
+                                     boolean useTimingWheel) {
+        this(nThreads, threadFactory, ioHandlerFactory,
+                maxPendingTasks, rejectedHandler, maxTasksPerRun, chooserFactory, useTimingWheel,
+                EmptyArrays.EMPTY_OBJECTS);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns, like {@link EventExecutorChoosers#leastLoaded()} to place new
+     *                          channels on the least busy {@link EventLoop}.
+     */
+    public MultithreadEventLoopGroup(int nThreads, Executor executor,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory) {
+        this(nThreads, executor, ioHandlerFactory,
+                maxPendingTasks, rejectedHandler, maxTasksPerRun, chooserFactory,
+                false, EmptyArrays.EMPTY_OBJECTS);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param threadFactory     the {@link ThreadFactory} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns, like {@link EventExecutorChoosers#leastLoaded()} to place new
+     *                          channels on the least busy {@link EventLoop}.
+     */
+    public MultithreadEventLoopGroup(int nThreads, ThreadFactory threadFactory,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory) {
+        this(nThreads, threadFactory, ioHandlerFactory,
+                maxPendingTasks, rejectedHandler, maxTasksPerRun, chooserFactory,
+                false, EmptyArrays.EMPTY_OBJECTS);
+    }
+
     // Constructors provided for sub-classes that want to pass more args to newChild(...).
 
     /**
@@ -227,15 +336,45 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
      * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
      *                          before trying to handle IO again.
      * @param args              extra arguments passed to {@link #newChild(Executor, int, RejectedExecutionHandler,
-     *                          IoHandler, int, Object...)}
+     *                          IoHandler, int, boolean, Object...)}
      */
     protected MultithreadEventLoopGroup(int nThreads, Executor executor,
                                      IoHandlerFactory ioHandlerFactory,
                                      int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
                                      int maxTasksPerRun, Object... args) {
+        this(nThreads, executor, ioHandlerFactory, maxPendingTasks, rejectedHandler, maxTasksPerRun,
+                EventExecutorChoosers.roundRobin(), false, args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param executor          the {@link Executor} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns.
+     * @param useTimingWheel    {@code true} if the scheduled tasks of each {@link EventLoop} should be kept in a
+     *                          hierarchical timing wheel instead of a binary heap.
+     * @param args              extra arguments passed to {@link #newChild(Executor, int, RejectedExecutionHandler,
+     *                          IoHandler, int, boolean, Object...)}
+     */
+    protected MultithreadEventLoopGroup(int nThreads, Executor executor,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory,
+                                     boolean useTimingWheel, Object... args) {
         super(pickThreadCount(nThreads),
                 executor == null ? new ThreadPerTaskExecutor(newDefaultThreadFactory()) : executor,
-                maxPendingTasks, rejectedHandler, merge(ioHandlerFactory, maxTasksPerRun, args));
+                maxPendingTasks, rejectedHandler, chooserFactory,
+                merge(ioHandlerFactory, maxTasksPerRun, useTimingWheel, args));
+        setGroupLoops();
     }
 
     /**
@@ -251,14 +390,63 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
      * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
      *                          before trying to handle IO again.
      * @param args              extra arguments passed to {@link #newChild(Executor, int, RejectedExecutionHandler,
-     *                          IoHandler, int, Object...)}
+     *                          IoHandler, int, boolean, Object...)}
      */
     protected MultithreadEventLoopGroup(int nThreads, ThreadFactory threadFactory,
                                      IoHandlerFactory ioHandlerFactory,
                                      int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
                                      int maxTasksPerRun, Object... args) {
+        this(nThreads, threadFactory, ioHandlerFactory, maxPendingTasks, rejectedHandler, maxTasksPerRun,
+                EventExecutorChoosers.roundRobin(), false, args);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param nThreads          the number of threads that will be used by this instance.
+     * @param threadFactory     the {@link ThreadFactory} to use, or {@code null} if the default should be used.
+     * @param ioHandlerFactory  the {@link IoHandlerFactory} to use for creating new
+     *                          {@link IoHandler} instances that will handle the IO for the
+     *                          {@link EventLoop}.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param chooserFactory    the {@link EventExecutorChooserFactory} that decides which {@link EventLoop}
+     *                          {@link #next()} returns.
+     * @param useTimingWheel    {@code true} if the scheduled tasks of each {@link EventLoop} should be kept in a
+     *                          hierarchical timing wheel instead of a binary heap.
+     * @param args              extra arguments passed to {@link #newChild(Executor, int, RejectedExecutionHandler,
+     *                          IoHandler, int, boolean, Object...)}
+     */
+    protected MultithreadEventLoopGroup(int nThreads, ThreadFactory threadFactory,
+                                     IoHandlerFactory ioHandlerFactory,
+                                     int maxPendingTasks, RejectedExecutionHandler rejectedHandler,
+                                     int maxTasksPerRun, EventExecutorChooserFactory chooserFactory,
+                                     boolean useTimingWheel, Object... args) {
         super(pickThreadCount(nThreads), threadFactory == null ? newDefaultThreadFactory() : threadFactory,
-                maxPendingTasks, rejectedHandler, merge(ioHandlerFactory, maxTasksPerRun, args));
+                maxPendingTasks, rejectedHandler, chooserFactory,
+                merge(ioHandlerFactory, maxTasksPerRun, useTimingWheel, args));
+        setGroupLoops();
+    }
+
+    private void setGroupLoops() {
+        List<EventExecutor> executors = executors();
+        if (executors.size() < 2) {
+            return;
+        }
+        SingleThreadEventLoop[] loops = new SingleThreadEventLoop[executors.size()];
+        for (int i = 0; i < loops.length; i++) {
+            EventExecutor executor = executors.get(i);
+            if (!(executor instanceof SingleThreadEventLoop)) {
+                // Stealing only works between our own event loops.
+                return;
+            }
+            loops[i] = (SingleThreadEventLoop) executor;
+        }
+        for (SingleThreadEventLoop loop : loops) {
+            loop.setGroupLoops(loops);
+        }
     }
 
     private static ThreadFactory newDefaultThreadFactory() {
@@ -273,10 +461,11 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
     }
 
     private static Object[] merge(IoHandlerFactory ioHandlerFactory,
-                                  int maxTasksPerRun, Object... args) {
-        List<Object> argList = new ArrayList<>(2 + args.length);
+                                  int maxTasksPerRun, boolean useTimingWheel, Object... args) {
+        List<Object> argList = new ArrayList<>(3 + args.length);
         argList.add(ioHandlerFactory);
         argList.add(maxTasksPerRun);
+        argList.add(useTimingWheel);
         Collections.addAll(argList, args);
         return argList.toArray();
     }
@@ -286,12 +475,58 @@ public class MultithreadEventLoopGroup extends MultithreadEventExecutorGroup imp
         return (EventLoop) super.next();
     }
 
+    /**
+     * Executes the given task on the {@link #next()} {@link EventLoop}, and allows idle sibling {@link EventLoop}s to
+     * steal it. See {@link SingleThreadEventLoop#executeStealable(Runnable)} for which tasks this is suited for.
+     */
+    public void executeStealable(Runnable task) {
+        EventLoop loop = next();
+        if (loop instanceof SingleThreadEventLoop) {
+            ((SingleThreadEventLoop) loop).executeStealable(task);
+        } else {
+            loop.execute(task);
+        }
+    }
+
     @Override
     protected final EventLoop newChild(Executor executor, int maxPendingTasks,
                                        RejectedExecutionHandler rejectedExecutionHandler, Object... args) {
         return newChild(executor, maxPendingTasks, rejectedExecutionHandler,
-                ((IoHandlerFactory) args[0]).newHandler(), (Integer) args[1],
-                Arrays.copyOfRange(args, 2, args.length));
+                ((IoHandlerFactory) args[0]).newHandler(), (Integer) args[1], (Boolean) args[2],
+                Arrays.copyOfRange(args, 3, args.length));
+    }
+
+    /**
+     * Creates a new {@link EventLoop} to use.
+     *
+     * As this method is called from within the constructor you can only use the parameters passed into the method when
+     * overriding this method. Unless a timing wheel was requested this calls
+     * {@link #newChild(Executor, int, RejectedExecutionHandler, IoHandler, int, Object...)}, so sub-classes that
+     * request one must override this method instead.
+     *
+     * @param executor                  the {@link Executor} to use for execution.
+     * @param maxPendingTasks           the maximum number of pending tasks.
+     * @param rejectedExecutionHandler  the {@link RejectedExecutionHandler} to use when the number of outstanding tasks
+     *                                  reach {@code maxPendingTasks}.
+     * @param ioHandler                 the {@link IoHandler} to use.
+     * @param maxTasksPerRun            the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                                  before trying to handle IO again.
+     * @param useTimingWheel            {@code true} if the scheduled tasks of the {@link EventLoop} should be kept in
+     *                                  a hierarchical timing wheel instead of a binary heap.
+     * @param args                      any extra args needed to construct the {@link EventLoop}. This will be an empty
+     *                                  array if not sub-classes and extra arguments are given.
+     * @return                          the {@link EventLoop} to use.
+     */
+    protected EventLoop newChild(Executor executor, int maxPendingTasks,
+                                 RejectedExecutionHandler rejectedExecutionHandler,
+                                 IoHandler ioHandler, int maxTasksPerRun, boolean useTimingWheel,
+                                 Object... args) {
+        if (!useTimingWheel) {
+            return newChild(executor, maxPendingTasks, rejectedExecutionHandler, ioHandler, maxTasksPerRun, args);
+        }
+        assert args.length == 0;
+        return new SingleThreadEventLoop(executor, ioHandler, maxPendingTasks,
+                rejectedExecutionHandler, maxTasksPerRun, true);
     }
 
     /**
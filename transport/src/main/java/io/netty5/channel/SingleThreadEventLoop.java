@@ -22,9 +22,12 @@ import io.netty5.util.concurrent.RejectedExecutionHandlers;
 import io.netty5.util.concurrent.SingleThreadEventExecutor;
 import io.netty5.util.internal.PlatformDependent;
 import io.netty5.util.internal.SystemPropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Queue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 
 import static io.netty5.util.internal.ObjectUtil.checkPositive;
@@ -35,6 +38,7 @@ import static java.util.Objects.requireNonNull;
  * IO processing.
  */
 public class SingleThreadEventLoop extends SingleThreadEventExecutor implements EventLoop {
+    private static final Logger logger = LoggerFactory.getLogger(SingleThreadEventLoop.class);
 
     protected static final int DEFAULT_MAX_PENDING_TASKS = Math.max(16,
             SystemPropertyUtil.getInt("io.netty5.eventLoop.maxPendingTasks", Integer.MAX_VALUE));
@@ -43,11 +47,17 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     protected static final int DEFAULT_MAX_TASKS_PER_RUN = Math.max(1,
             SystemPropertyUtil.getInt("io.netty5.eventLoop.maxTaskPerRun", 1024 * 4));
 
+    private static final int LOAD_PER_HANDLE = Math.max(0,
+            SystemPropertyUtil.getInt("io.netty5.eventLoop.loadPerHandle", 1));
+
+    private static final int MAX_STEALABLE_TASKS = Math.max(16,
+            SystemPropertyUtil.getInt("io.netty5.eventLoop.maxStealableTasks", 1024));
+
     private final IoExecutionContext context = new IoExecutionContext() {
         @Override
         public boolean canBlock() {
             assert inEventLoop();
-            return !hasTasks() && !hasScheduledTasks();
+            return !hasTasks() && !hasScheduledTasks() && stealableTasks.isEmpty();
         }
 
         @Override
@@ -61,10 +71,34 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
             assert inEventLoop();
             return SingleThreadEventLoop.this.deadlineNanos();
         }
+
+        @Override
+        public boolean shouldReportActiveIoTime() {
+            assert inEventLoop();
+            return reportActiveIoTime;
+        }
+
+        @Override
+        public void reportActiveIoTime(long activeNanos) {
+            assert inEventLoop();
+            activeIoNanos += activeNanos;
+        }
     };
 
     private final IoHandler ioHandler;
     private final int maxTasksPerRun;
+    private volatile int registeredHandles;
+    private volatile EventLoopMetricsListener metricsListener;
+    // Tasks that idle siblings may run instead of this event loop, see executeStealable(Runnable).
+    private final Queue<Runnable> stealableTasks = PlatformDependent.newFixedMpmcQueue(MAX_STEALABLE_TASKS);
+    // The event loops of the same group, including this one, or null if there are none.
+    private volatile SingleThreadEventLoop[] groupLoops;
+    // The groupLoops once a stealable task was given to one of them, only then do idle event loops try to steal.
+    private volatile SingleThreadEventLoop[] siblings;
+    private int nextSibling;
+    // Only accessed by the event loop thread.
+    private boolean reportActiveIoTime;
+    private long activeIoNanos;
 
     /**
      * Create a new instance
@@ -145,7 +179,27 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     public SingleThreadEventLoop(Executor executor,
                                  IoHandler ioHandler, int maxPendingTasks,
                                  RejectedExecutionHandler rejectedHandler, int maxTasksPerRun) {
-        super(executor, maxPendingTasks, rejectedHandler);
+        this(executor, ioHandler, maxPendingTasks, rejectedHandler, maxTasksPerRun, DEFAULT_USE_TIMING_WHEEL);
+    }
+
+    /**
+     * Create a new instance
+     *
+     * @param executor          the {@link Executor} which will be used to run this {@link EventLoop}.
+     * @param ioHandler         the {@link IoHandler} to use.
+     * @param maxPendingTasks   the maximum number of pending tasks before new tasks will be rejected.
+     * @param rejectedHandler   the {@link RejectedExecutionHandler} to use.
+     * @param maxTasksPerRun    the maximum number of tasks per {@link EventLoop} run that will be processed
+     *                          before trying to handle IO again.
+     * @param useTimingWheel    {@code true} if scheduled tasks should be kept in a hierarchical timing wheel instead of
+     *                          a binary heap, which suits many long timeouts that are usually cancelled before they
+     *                          are due.
+     */
+    public SingleThreadEventLoop(Executor executor,
+                                 IoHandler ioHandler, int maxPendingTasks,
+                                 RejectedExecutionHandler rejectedHandler, int maxTasksPerRun,
+                                 boolean useTimingWheel) {
+        super(executor, maxPendingTasks, rejectedHandler, useTimingWheel);
         this.ioHandler = requireNonNull(ioHandler, "ioHandler");
         this.maxTasksPerRun = checkPositive(maxTasksPerRun, "maxTasksPerRun");
     }
@@ -173,12 +227,185 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
     protected void run() {
         assert inEventLoop();
         do {
-            runIO();
+            if (siblings != null && !isShuttingDown() && context.canBlock() && runStolenTask()) {
+                // Check for work of our own again before stealing more.
+                continue;
+            }
+            EventLoopMetricsListener metricsListener = this.metricsListener;
+            long ioStartTime = 0;
+            if (metricsListener != null) {
+                reportActiveIoTime = true;
+                activeIoNanos = 0;
+                ioStartTime = ticker().nanoTime();
+            }
+            // The IoHandler may only block if there is nothing else to do, so count the time in runIO() as idle
+            // unless it did not block, or it processed IO.
+            boolean mayBlock = context.canBlock();
+            if (mayBlock) {
+                idleStarted();
+            }
+            int handled = runIO();
+            if (mayBlock) {
+                idleEnded(handled == 0);
+            }
             if (isShuttingDown()) {
                 ioHandler.prepareToDestroy();
             }
-            runAllTasks(maxTasksPerRun);
+            if (metricsListener == null) {
+                runAllTasks(maxTasksPerRun);
+                runStealableTasks(maxTasksPerRun);
+            } else {
+                reportActiveIoTime = false;
+                long ioEndTime = ticker().nanoTime();
+                long ioProcessingNanos = Math.min(activeIoNanos, ioEndTime - ioStartTime);
+                metricsListener.ioProcessed(ioEndTime - ioStartTime - ioProcessingNanos, ioProcessingNanos, handled);
+                int queueDepth = pendingTasks();
+                int tasks = runAllTasks(maxTasksPerRun) + runStealableTasks(maxTasksPerRun);
+                long tasksEndTime = ticker().nanoTime();
+                metricsListener.tasksProcessed(tasks, tasksEndTime - ioEndTime, queueDepth, taskQueueLatencyNanos());
+            }
         } while (!confirmShutdown());
+        // Run what was added while shutting down, unless a sibling stole it already.
+        runStealableTasks(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Executes the given task on this {@link EventLoop}, or on an idle sibling {@link EventLoop} of the same
+     * {@link MultithreadEventLoopGroup} that steals it, which flattens the latency when some event loops are a lot
+     * busier than others.
+     * <p>
+     * Only use this for tasks that do not touch the state of a {@link Channel} or anything else that is bound to this
+     * {@link EventLoop}, as they may run on another thread. Stealable tasks are not ordered with each other, nor with
+     * the tasks given to {@link #execute(Runnable)}, which are always run by this {@link EventLoop} in order.
+     */
+    public final void executeStealable(Runnable task) {
+        requireNonNull(task, "task");
+        SingleThreadEventLoop[] siblings = this.siblings;
+        if (siblings == null) {
+            siblings = linkSiblings();
+        }
+        if (siblings == null || !isStarted() || isShuttingDown() || !stealableTasks.offer(task)) {
+            execute(task);
+            return;
+        }
+        if (isShuttingDown()) {
+            // We raced with the shutdown, which may have drained the stealable tasks for the last time already.
+            rescheduleStealableTasks(task);
+            return;
+        }
+        if (inEventLoop()) {
+            return;
+        }
+        if (isIdle()) {
+            wakeup(false);
+            return;
+        }
+        // We are busy, so let an idle sibling steal the task.
+        for (SingleThreadEventLoop sibling : siblings) {
+            if (sibling != this && sibling.isIdle()) {
+                sibling.wakeup(false);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sets the event loops of a {@link MultithreadEventLoopGroup}, so they can steal the tasks that were given to
+     * {@link #executeStealable(Runnable)} from each other. They are only linked once the first such task is given to
+     * one of them, as otherwise every idle event loop would check the queues of all the others for nothing.
+     */
+    void setGroupLoops(SingleThreadEventLoop[] groupLoops) {
+        this.groupLoops = groupLoops;
+    }
+
+    private SingleThreadEventLoop[] linkSiblings() {
+        SingleThreadEventLoop[] loops = groupLoops;
+        if (loops != null) {
+            for (SingleThreadEventLoop loop : loops) {
+                loop.siblings = loops;
+            }
+        }
+        return loops;
+    }
+
+    boolean isStealing() {
+        return siblings != null;
+    }
+
+    private void rescheduleStealableTasks(Runnable offered) {
+        // Move the stealable tasks to the task queue, which runs or rejects them. Whoever polls a task runs it, so none
+        // runs twice, and if another thread took the offered task already, it runs it.
+        Runnable task;
+        while ((task = stealableTasks.poll()) != null) {
+            if (task == offered) {
+                execute(task);
+            } else {
+                try {
+                    execute(task);
+                } catch (RejectedExecutionException e) {
+                    logger.warn("A stealable task was rejected after the event loop was shut down.", e);
+                }
+            }
+        }
+    }
+
+    private int runStealableTasks(int maxTasks) {
+        int processedTasks = 0;
+        for (; processedTasks < maxTasks; processedTasks++) {
+            Runnable task = stealableTasks.poll();
+            if (task == null) {
+                break;
+            }
+            safeRun(task);
+        }
+        if (processedTasks > 0) {
+            updateLastExecutionTime();
+        }
+        return processedTasks;
+    }
+
+    private boolean runStolenTask() {
+        SingleThreadEventLoop[] siblings = this.siblings;
+        // Start at a different sibling every time, so we do not always drain the same one first.
+        int start = nextSibling = (nextSibling + 1) % siblings.length;
+        for (int i = 0; i < siblings.length; i++) {
+            SingleThreadEventLoop sibling = siblings[(start + i) % siblings.length];
+            if (sibling == this) {
+                continue;
+            }
+            Runnable task = sibling.stealableTasks.poll();
+            if (task != null) {
+                safeRun(task);
+                updateLastExecutionTime();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void safeRun(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("A task raised an exception.", t);
+        }
+    }
+
+    /**
+     * Sets the {@link EventLoopMetricsListener} that receives the timings of this {@link EventLoop}, or {@code null}
+     * to stop recording them, which is the default. The listener is used from the next iteration of the loop on.
+     */
+    public final void setMetricsListener(EventLoopMetricsListener metricsListener) {
+        trackTaskQueueLatency(metricsListener != null);
+        this.metricsListener = metricsListener;
+    }
+
+    /**
+     * Returns the {@link EventLoopMetricsListener} that was set via
+     * {@link #setMetricsListener(EventLoopMetricsListener)}, or {@code null} if none.
+     */
+    public final EventLoopMetricsListener getMetricsListener() {
+        return metricsListener;
     }
 
     /**
@@ -216,6 +443,8 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
             promise.setFailure(cause);
             return;
         }
+        // Single writer, so there is no need for atomic increments.
+        registeredHandles = registeredHandles + 1;
         promise.setSuccess(null);
     }
 
@@ -242,6 +471,7 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
             promise.setFailure(cause);
             return;
         }
+        registeredHandles = registeredHandles - 1;
         promise.setSuccess(null);
     }
 
@@ -251,6 +481,24 @@ public class SingleThreadEventLoop extends SingleThreadEventExecutor implements
         }
     }
 
+    /**
+     * Returns the number of {@link IoHandle}s that are currently registered to this {@link EventLoop}.
+     */
+    public final int registeredHandles() {
+        return registeredHandles;
+    }
+
+    /**
+     * Returns the {@linkplain SingleThreadEventExecutor#load() load} of the executor plus
+     * {@code io.netty5.eventLoop.loadPerHandle} percent, {@code 1} by default, for every
+     * {@linkplain #registeredHandles() registered handle}. The busy percentage and the pending tasks only tell how
+     * busy the {@link EventLoop} is right now, while the handles tell how busy it will be, so their term is not capped.
+     */
+    @Override
+    public long load() {
+        return super.load() + (long) registeredHandles * LOAD_PER_HANDLE;
+    }
+
     @Override
     protected final void wakeup(boolean inEventLoop) {
         ioHandler.wakeup(inEventLoop);
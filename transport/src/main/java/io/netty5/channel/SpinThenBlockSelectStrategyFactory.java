@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntSupplier;
+
+import static io.netty5.util.internal.ObjectUtil.checkPositiveOrZero;
+
+/**
+ * {@link SelectStrategyFactory} whose {@link SelectStrategy}s do not block for IO as soon as there is nothing to do.
+ * Instead, an idle event loop first polls for IO without blocking while busy-spinning for a number of iterations,
+ * then polls while {@linkplain Thread#yield() yielding} for a number of iterations, and only then blocks until IO is
+ * ready or it is woken up. Whenever IO is ready, or there are tasks to run, the event loop starts over with spinning.
+ * <p>
+ * This lowers the latency of picking up new IO and tasks, at the cost of burning CPU while idle, so it is best used
+ * with dedicated cores. When sockets use busy polling (like {@code EpollChannelOption.SO_BUSY_POLL}), the
+ * non-blocking polls of the spinning phases also busy-poll the device queues.
+ * <p>
+ * The strategies can be used with {@code NioHandler}, {@code EpollHandler} and {@code IOUringHandler}. Each strategy
+ * is used by a single event loop, while the counters of this factory sum up the phases of all of them.
+ */
+public final class SpinThenBlockSelectStrategyFactory implements SelectStrategyFactory {
+    private final int spinIterations;
+    private final int yieldIterations;
+    private final List<SpinThenBlockSelectStrategy> strategies = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param spinIterations    the number of times to poll while busy-spinning, before yielding.
+     * @param yieldIterations   the number of times to poll while yielding, before blocking.
+     */
+    public SpinThenBlockSelectStrategyFactory(int spinIterations, int yieldIterations) {
+        this.spinIterations = checkPositiveOrZero(spinIterations, "spinIterations");
+        this.yieldIterations = checkPositiveOrZero(yieldIterations, "yieldIterations");
+    }
+
+    @Override
+    public SelectStrategy newSelectStrategy() {
+        SpinThenBlockSelectStrategy strategy = new SpinThenBlockSelectStrategy(spinIterations, yieldIterations);
+        strategies.add(strategy);
+        return strategy;
+    }
+
+    /**
+     * Returns the number of times the event loops polled while busy-spinning.
+     */
+    public long spins() {
+        long spins = 0;
+        for (SpinThenBlockSelectStrategy strategy : strategies) {
+            spins += strategy.spins;
+        }
+        return spins;
+    }
+
+    /**
+     * Returns the number of times the event loops polled while yielding.
+     */
+    public long yields() {
+        long yields = 0;
+        for (SpinThenBlockSelectStrategy strategy : strategies) {
+            yields += strategy.yields;
+        }
+        return yields;
+    }
+
+    /**
+     * Returns the number of times the event loops blocked.
+     */
+    public long blocks() {
+        long blocks = 0;
+        for (SpinThenBlockSelectStrategy strategy : strategies) {
+            blocks += strategy.blocks;
+        }
+        return blocks;
+    }
+
+    /**
+     * Returns the number of times the event loops found IO to be ready while spinning or yielding, and so did not need
+     * to block.
+     */
+    public long spinWakeups() {
+        long wakeups = 0;
+        for (SpinThenBlockSelectStrategy strategy : strategies) {
+            wakeups += strategy.spinWakeups;
+        }
+        return wakeups;
+    }
+
+    @Override
+    public String toString() {
+        return "SpinThenBlockSelectStrategyFactory(spinIterations: " + spinIterations + ", yieldIterations: " +
+                yieldIterations + ", spins: " + spins() + ", yields: " + yields() + ", blocks: " + blocks() +
+                ", spinWakeups: " + spinWakeups() + ')';
+    }
+
+    private static final class SpinThenBlockSelectStrategy implements SelectStrategy {
+        private final int spinIterations;
+        private final int idleIterations;
+        private int idleCount;
+
+        // Single writer, so there is no need for atomic increments.
+        volatile long spins;
+        volatile long yields;
+        volatile long blocks;
+        volatile long spinWakeups;
+
+        SpinThenBlockSelectStrategy(int spinIterations, int yieldIterations) {
+            this.spinIterations = spinIterations;
+            idleIterations = spinIterations + yieldIterations;
+        }
+
+        @Override
+        public int calculateStrategy(IntSupplier selectSupplier, boolean notBlockForIo) throws Exception {
+            if (notBlockForIo) {
+                idleCount = 0;
+                return selectSupplier.getAsInt();
+            }
+            if (idleCount == idleIterations) {
+                // Done spinning, block until there is something to do.
+                idleCount = 0;
+                blocks = blocks + 1;
+                return SelectStrategy.SELECT;
+            }
+            int ready = selectSupplier.getAsInt();
+            if (ready > 0) {
+                if (idleCount > 0) {
+                    spinWakeups = spinWakeups + 1;
+                }
+                idleCount = 0;
+                return ready;
+            }
+            if (idleCount++ < spinIterations) {
+                spins = spins + 1;
+                Thread.onSpinWait();
+            } else {
+                yields = yields + 1;
+                Thread.yield();
+            }
+            return SelectStrategy.CONTINUE;
+        }
+    }
+}
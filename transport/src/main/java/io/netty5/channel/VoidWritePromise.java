@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.util.concurrent.EventExecutor;
+import io.netty5.util.concurrent.Future;
+import io.netty5.util.concurrent.Promise;
+
+/**
+ * The {@link Promise} that is shared by the writes of a {@link ChannelPipeline} that were done via
+ * {@link ChannelPipeline#writeVoid(Object)} and {@link ChannelHandlerContext#writeVoid(Object)}, as nobody waits for
+ * their result. It is always succeeded, like its {@link Future}, and accepts the outcome of every write it is used for,
+ * firing the failures through the {@link ChannelPipeline}.
+ */
+final class VoidWritePromise implements Promise<Void> {
+    private final DefaultChannelPipeline pipeline;
+
+    VoidWritePromise(DefaultChannelPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public Promise<Void> setSuccess(Void result) {
+        return this;
+    }
+
+    @Override
+    public boolean trySuccess(Void result) {
+        return true;
+    }
+
+    @Override
+    public Promise<Void> setFailure(Throwable cause) {
+        fireException(cause);
+        return this;
+    }
+
+    @Override
+    public boolean tryFailure(Throwable cause) {
+        fireException(cause);
+        return true;
+    }
+
+    private void fireException(Throwable cause) {
+        pipeline.fireChannelExceptionCaught(cause);
+    }
+
+    @Override
+    public boolean setUncancellable() {
+        return true;
+    }
+
+    @Override
+    public Future<Void> asFuture() {
+        return pipeline.newSucceededFuture();
+    }
+
+    @Override
+    public boolean cancel() {
+        return false;
+    }
+
+    @Override
+    public boolean isSuccess() {
+        return true;
+    }
+
+    @Override
+    public boolean isFailed() {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    @Override
+    public boolean isCancellable() {
+        return false;
+    }
+
+    @Override
+    public Void getNow() {
+        return null;
+    }
+
+    @Override
+    public Throwable cause() {
+        return null;
+    }
+
+    @Override
+    public EventExecutor executor() {
+        return pipeline.executor();
+    }
+
+    @Override
+    public String toString() {
+        return "VoidWritePromise(" + pipeline.channel() + ')';
+    }
+}
@@ -169,6 +169,28 @@ public interface ChannelGroup extends Set<Channel>, Comparable<ChannelGroup> {
      */
     ChannelGroupFuture writeAndFlush(Object message, ChannelMatcher matcher);
 
+    /**
+     * Shortcut for calling {@link #broadcast(Object, ChannelMatcher)} with {@link ChannelMatchers#all()}.
+     */
+    ChannelGroupFuture broadcast(Object message);
+
+    /**
+     * Writes and flushes the specified {@code message} to all {@link Channel}s in this group that are matched by the
+     * given {@link ChannelMatcher}, like {@link #writeAndFlush(Object, ChannelMatcher)}, but optimized for sending the
+     * same message to many {@link Channel}s.
+     * <p>
+     * If the specified {@code message} is an instance of {@link Buffer}, it is made {@linkplain Buffer#makeReadOnly()
+     * read-only} and every {@link Channel} gets a {@linkplain Buffer#copy(boolean) read-only copy} of it, which
+     * shares the memory with the message where the implementation supports it. So the message should already be
+     * encoded, and is not copied for every {@link Channel}.
+     * The {@link Channel}s are grouped by their {@link Channel#executor() executor}, so every executor only needs to
+     * run a single task for all of its {@link Channel}s.
+     *
+     * @return the {@link ChannelGroupFuture} instance that notifies when
+     *         the operation is done for all channels
+     */
+    ChannelGroupFuture broadcast(Object message, ChannelMatcher matcher);
+
     /**
      * @deprecated Use {@link #writeAndFlush(Object, ChannelMatcher)} instead.
      */
@@ -24,13 +24,16 @@ import io.netty5.util.ReferenceCountUtil;
 import io.netty5.util.concurrent.EventExecutor;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.FutureContextListener;
+import io.netty5.util.concurrent.Promise;
 import io.netty5.util.internal.StringUtil;
 
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -370,6 +373,87 @@ public class DefaultChannelGroup extends AbstractSet<Channel> implements Channel
         return future;
     }
 
+    @Override
+    public ChannelGroupFuture broadcast(Object message) {
+        return broadcast(message, ChannelMatchers.all());
+    }
+
+    @Override
+    public ChannelGroupFuture broadcast(Object message, ChannelMatcher matcher) {
+        requireNonNull(message, "message");
+        requireNonNull(matcher, "matcher");
+
+        if (message instanceof Buffer) {
+            // Read-only copies of a read-only buffer can share its memory.
+            ((Buffer) message).makeReadOnly();
+        }
+        Map<Channel, Future<Void>> futures = new LinkedHashMap<>(nonServerChannels.size());
+        Map<EventExecutor, BroadcastTask> tasks = new IdentityHashMap<>();
+        try {
+            for (Channel c: nonServerChannels.values()) {
+                if (matcher.matches(c)) {
+                    Promise<Void> promise = c.newPromise();
+                    futures.put(c, promise.asFuture());
+                    tasks.computeIfAbsent(c.executor(), e -> new BroadcastTask())
+                            .add(c, broadcastDuplicate(message), promise);
+                }
+            }
+        } catch (Throwable cause) {
+            for (BroadcastTask task : tasks.values()) {
+                task.fail(cause);
+            }
+            throw cause;
+        } finally {
+            Resource.dispose(message);
+        }
+        for (Map.Entry<EventExecutor, BroadcastTask> entry : tasks.entrySet()) {
+            entry.getValue().execute(entry.getKey());
+        }
+        return new DefaultChannelGroupFuture(this, futures, executor);
+    }
+
+    private static Object broadcastDuplicate(Object message) {
+        if (message instanceof Buffer) {
+            return ((Buffer) message).copy(true);
+        }
+        return ReferenceCountUtil.retain(message);
+    }
+
+    // Writes the message to all the Channels of an executor.
+    private static final class BroadcastTask implements Runnable {
+        private final List<Channel> channels = new ArrayList<>();
+        private final List<Object> messages = new ArrayList<>();
+        private final List<Promise<Void>> promises = new ArrayList<>();
+
+        void add(Channel channel, Object message, Promise<Void> promise) {
+            channels.add(channel);
+            messages.add(message);
+            promises.add(promise);
+        }
+
+        void execute(EventExecutor executor) {
+            try {
+                executor.execute(this);
+            } catch (Throwable cause) {
+                fail(cause);
+            }
+        }
+
+        void fail(Throwable cause) {
+            for (int i = 0; i < channels.size(); i++) {
+                Resource.dispose(messages.get(i));
+                promises.get(i).setFailure(cause);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < channels.size(); i++) {
+                channels.get(i).writeAndFlush(messages.get(i)).cascadeTo(promises.get(i));
+            }
+        }
+    }
+
     @Override
     public ChannelGroupFuture newCloseFuture() {
         return newCloseFuture(ChannelMatchers.all());
@@ -404,7 +404,13 @@ public final class NioHandler implements IoHandler {
 
             cancelledKeys = 0;
             needsToSelectAgain = false;
-            handled = processSelectedKeys();
+            if (runner.shouldReportActiveIoTime()) {
+                long activeIoStartTime = System.nanoTime();
+                handled = processSelectedKeys();
+                runner.reportActiveIoTime(System.nanoTime() - activeIoStartTime);
+            } else {
+                handled = processSelectedKeys();
+            }
         } catch (Error e) {
             throw e;
         } catch (Throwable t) {
@@ -38,15 +38,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.net.SocketAddress;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -57,6 +62,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -1220,6 +1226,204 @@ public class DefaultChannelPipelineTest {
         }
     }
 
+    @Test
+    @Timeout(value = 5000, unit = TimeUnit.MILLISECONDS)
+    public void testWritesFromOutsideEventLoopAreBatched() throws Exception {
+        final int threads = 4;
+        final int writes = 100;
+        final List<Object> written = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger flushes = new AtomicInteger();
+        Channel channel = newLocalChannel();
+        channel.setOption(ChannelOption.WRITE_INBOX, true);
+        ChannelPipeline pipeline = channel.pipeline();
+        pipeline.addLast(new ChannelHandler() {
+            @Override
+            public Future<Void> write(ChannelHandlerContext ctx, Object msg) {
+                written.add(msg);
+                return ctx.newSucceededFuture();
+            }
+
+            @Override
+            public void flush(ChannelHandlerContext ctx) {
+                flushes.incrementAndGet();
+            }
+        });
+        pipeline.channel().register().asStage().sync();
+
+        // Block the event loop so all the writes end up in the same batch.
+        CountDownLatch blocked = new CountDownLatch(1);
+        pipeline.executor().execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<Future<Void>> futures = Collections.synchronizedList(new ArrayList<>());
+        Thread[] writers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < writes; j++) {
+                    futures.add(pipeline.writeAndFlush(thread * writes + j));
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        blocked.countDown();
+        for (Future<Void> future : futures) {
+            future.asStage().sync();
+        }
+
+        assertEquals(threads * writes, written.size());
+        assertEquals(1, flushes.get());
+        // The writes of every thread must be done in the order they were issued.
+        int[] last = new int[threads];
+        Arrays.fill(last, -1);
+        for (Object msg : written) {
+            int value = (Integer) msg;
+            assertTrue(value % writes > last[value / writes]);
+            last[value / writes] = value % writes;
+        }
+        pipeline.channel().close().asStage().sync();
+    }
+
+    @Test
+    public void testWriteVoid() throws Exception {
+        final Object failingMessage = new Object();
+        final AtomicReference<Throwable> caught = new AtomicReference<>();
+        final List<Future<Void>> futures = new ArrayList<>();
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelHandler() {
+            @Override
+            public Future<Void> write(ChannelHandlerContext ctx, Object msg) {
+                // Write a different message for "wrap", like an encoder would.
+                Future<Void> future = ctx.write("wrap".equals(msg) ? "wrapped" : msg);
+                futures.add(future);
+                return future;
+            }
+
+            @Override
+            public void channelExceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                caught.set(cause);
+            }
+        });
+        channel.setOption(ChannelOption.MESSAGE_SIZE_ESTIMATOR, () -> msg -> {
+            if (msg == failingMessage) {
+                throw new IllegalStateException("test");
+            }
+            return 0;
+        });
+        Future<Void> succeededFuture = channel.pipeline().newSucceededFuture();
+
+        // From outside the event loop.
+        channel.writeAndFlushVoid("msg1");
+        // From the event loop.
+        channel.executor().execute(() -> channel.writeAndFlushVoid("msg2"));
+        channel.executor().execute(() -> channel.writeAndFlushVoid("wrap"));
+        channel.runPendingTasks();
+        assertEquals("msg1", channel.readOutbound());
+        assertEquals("msg2", channel.readOutbound());
+        assertEquals("wrapped", channel.readOutbound());
+        // The handler may chain on the writes it forwards, so it gets real futures even for the same messages.
+        assertEquals(3, futures.size());
+        for (Future<Void> future : futures) {
+            assertNotSame(succeededFuture, future);
+            assertTrue(future.isSuccess());
+        }
+
+        // Failures are reported via the pipeline instead.
+        channel.executor().execute(() -> channel.writeAndFlushVoid(failingMessage));
+        channel.runPendingTasks();
+        assertThat(caught.get(), Matchers.instanceOf(IllegalStateException.class));
+        assertNull(channel.readOutbound());
+        assertFalse(channel.finish());
+    }
+
+    @Test
+    public void testWriteVoidWithoutHandlers() throws Exception {
+        final Object failingMessage = new Object();
+        final AtomicReference<Throwable> caught = new AtomicReference<>();
+        EmbeddedChannel channel = new EmbeddedChannel(new ChannelHandler() {
+            @Override
+            public void channelExceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                caught.set(cause);
+            }
+        });
+        channel.setOption(ChannelOption.MESSAGE_SIZE_ESTIMATOR, () -> msg -> {
+            if (msg == failingMessage) {
+                throw new IllegalStateException("test");
+            }
+            return 0;
+        });
+
+        // The writes go straight to the head, which uses the shared promise of the pipeline.
+        channel.writeAndFlushVoid("msg1");
+        channel.executor().execute(() -> channel.writeAndFlushVoid("msg2"));
+        channel.runPendingTasks();
+        assertEquals("msg1", channel.readOutbound());
+        assertEquals("msg2", channel.readOutbound());
+
+        channel.executor().execute(() -> channel.writeAndFlushVoid(failingMessage));
+        channel.runPendingTasks();
+        assertThat(caught.get(), Matchers.instanceOf(IllegalStateException.class));
+        assertNull(channel.readOutbound());
+        assertFalse(channel.finish());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    @Timeout(value = 10000, unit = TimeUnit.MILLISECONDS)
+    public void testWritesFromOutsideEventLoopAreDoneBeforeLaterOperations(boolean writeInbox) throws Exception {
+        final int threads = 4;
+        final int writes = 10000;
+        final Set<Object> written = ConcurrentHashMap.newKeySet();
+        final AtomicInteger overtaken = new AtomicInteger();
+        Channel channel = newLocalChannel();
+        channel.setOption(ChannelOption.WRITE_INBOX, writeInbox);
+        ChannelPipeline pipeline = channel.pipeline();
+        pipeline.addLast(new ChannelHandler() {
+            @Override
+            public Future<Void> write(ChannelHandlerContext ctx, Object msg) {
+                written.add(msg);
+                return ctx.newSucceededFuture();
+            }
+
+            @Override
+            public Future<Void> sendOutboundEvent(ChannelHandlerContext ctx, Object event) {
+                // An operation that is done after the write must not be done before it.
+                if (event instanceof Integer && !written.contains(event)) {
+                    overtaken.incrementAndGet();
+                }
+                return ctx.newSucceededFuture();
+            }
+        });
+        channel.register().asStage().sync();
+
+        Thread[] writers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            writers[i] = new Thread(() -> {
+                for (int j = 0; j < writes; j++) {
+                    Integer msg = thread * writes + j;
+                    pipeline.write(msg);
+                    pipeline.sendOutboundEvent(msg);
+                }
+            });
+            writers[i].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        pipeline.sendOutboundEvent("done").asStage().sync();
+
+        assertEquals(threads * writes, written.size());
+        assertEquals(0, overtaken.get());
+        channel.close().asStage().sync();
+    }
+
     @Test
     public void testSkipHandlerMethodsIfAnnotated() throws Exception {
         EmbeddedChannel channel = new EmbeddedChannel(true);
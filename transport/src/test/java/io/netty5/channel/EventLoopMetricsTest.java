@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.bootstrap.Bootstrap;
+import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.channel.local.LocalHandler;
+import io.netty5.channel.nio.NioHandler;
+import io.netty5.channel.socket.nio.NioServerSocketChannel;
+import io.netty5.channel.socket.nio.NioSocketChannel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventLoopMetricsTest {
+
+    @Test
+    @Timeout(10)
+    public void recordsTasks() throws Exception {
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, LocalHandler.newFactory());
+        try {
+            SingleThreadEventLoop loop = (SingleThreadEventLoop) group.next();
+            assertNull(loop.getMetricsListener());
+            EventLoopMetrics metrics = new EventLoopMetrics();
+            loop.setMetricsListener(metrics);
+            assertSame(metrics, loop.getMetricsListener());
+            // Make sure the listener is used from here on.
+            loop.submit(() -> { }).asStage().sync();
+
+            // The second task has to wait for the first one.
+            loop.execute(() -> sleep(100));
+            loop.submit(() -> { }).asStage().sync();
+            // Give the loop a chance to wait for IO.
+            Thread.sleep(50);
+            loop.submit(() -> { }).asStage().sync();
+
+            assertTrue(metrics.iterations() > 0);
+            assertTrue(metrics.tasks() >= 3);
+            assertTrue(metrics.tasksPerIteration() > 0);
+            assertTrue(metrics.taskProcessingNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(metrics.maxTaskLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(metrics.ioWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertEquals(0, metrics.ioHandled());
+            assertTrue(metrics.busyRatio() > 0 && metrics.busyRatio() < 1);
+
+            loop.setMetricsListener(null);
+            loop.submit(() -> { }).asStage().sync();
+            long iterations = metrics.iterations();
+            loop.submit(() -> { }).asStage().sync();
+            assertEquals(iterations, metrics.iterations());
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void recordsIo() throws Exception {
+        EventLoopGroup group = new MultithreadEventLoopGroup(1, NioHandler.newFactory());
+        try {
+            SingleThreadEventLoop loop = (SingleThreadEventLoop) group.next();
+            EventLoopMetrics metrics = new EventLoopMetrics();
+            loop.setMetricsListener(metrics);
+
+            Channel server = new ServerBootstrap()
+                    .group(group)
+                    .channel(NioServerSocketChannel.class)
+                    .childHandler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ctx.writeAndFlush(msg);
+                        }
+                    })
+                    .bind(new InetSocketAddress(0)).asStage().get();
+            CompletableFuture<Void> echoed = new CompletableFuture<>();
+            Channel client = new Bootstrap()
+                    .group(group)
+                    .channel(NioSocketChannel.class)
+                    .handler(new ChannelHandler() {
+                        @Override
+                        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                            ((Buffer) msg).close();
+                            echoed.complete(null);
+                        }
+                    })
+                    .connect(server.localAddress()).asStage().get();
+            client.writeAndFlush(client.bufferAllocator().copyOf(new byte[] { 1, 2, 3, 4 }));
+            echoed.get(5, TimeUnit.SECONDS);
+            client.close().asStage().sync();
+            server.close().asStage().sync();
+
+            assertTrue(metrics.ioHandled() > 0);
+            assertTrue(metrics.ioProcessingNanos() > 0);
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
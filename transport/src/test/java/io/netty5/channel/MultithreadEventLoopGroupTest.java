@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.channel.local.LocalHandler;
+import io.netty5.util.concurrent.EventExecutorChoosers;
+import io.netty5.util.concurrent.RejectedExecutionHandler;
+import io.netty5.util.concurrent.RejectedExecutionHandlers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultithreadEventLoopGroupTest {
+
+    @Test
+    @Timeout(10)
+    public void passesExtraArgsToNewChild() throws Exception {
+        List<Object[]> args = new CopyOnWriteArrayList<>();
+        MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, (Executor) null,
+                LocalHandler.newFactory(), SingleThreadEventLoop.DEFAULT_MAX_PENDING_TASKS,
+                RejectedExecutionHandlers.reject(), SingleThreadEventLoop.DEFAULT_MAX_TASKS_PER_RUN,
+                Boolean.TRUE) {
+            @Override
+            protected EventLoop newChild(Executor executor, int maxPendingTasks,
+                                         RejectedExecutionHandler rejectedExecutionHandler,
+                                         IoHandler ioHandler, int maxTasksPerRun, Object... extraArgs) {
+                // The extra arguments of sub-classes are not mistaken for the timing wheel flag.
+                args.add(extraArgs);
+                return new SingleThreadEventLoop(executor, ioHandler, maxPendingTasks,
+                        rejectedExecutionHandler, maxTasksPerRun);
+            }
+        };
+        try {
+            assertEquals(2, args.size());
+            for (Object[] extraArgs : args) {
+                assertEquals(1, extraArgs.length);
+                assertEquals(Boolean.TRUE, extraArgs[0]);
+            }
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void timingWheelWithChooser() throws Exception {
+        MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, (Executor) null,
+                LocalHandler.newFactory(), SingleThreadEventLoop.DEFAULT_MAX_PENDING_TASKS,
+                RejectedExecutionHandlers.reject(), SingleThreadEventLoop.DEFAULT_MAX_TASKS_PER_RUN,
+                EventExecutorChoosers.leastLoaded(), true);
+        try {
+            for (int i = 0; i < 4; i++) {
+                final int value = i;
+                assertEquals(value, group.next().schedule(() -> value, 10, TimeUnit.MILLISECONDS).asStage().get());
+            }
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).asStage().sync();
+        }
+    }
+}
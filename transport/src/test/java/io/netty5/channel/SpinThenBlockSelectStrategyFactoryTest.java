@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.channel.nio.NioHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.channels.spi.SelectorProvider;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpinThenBlockSelectStrategyFactoryTest {
+
+    @Test
+    public void spinsThenYieldsThenBlocks() throws Exception {
+        SpinThenBlockSelectStrategyFactory factory = new SpinThenBlockSelectStrategyFactory(2, 1);
+        SelectStrategy strategy = factory.newSelectStrategy();
+
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(SelectStrategy.SELECT, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(2, factory.spins());
+        assertEquals(1, factory.yields());
+        assertEquals(1, factory.blocks());
+
+        // Starts over after blocking, and when IO is found while spinning.
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(3, strategy.calculateStrategy(() -> 3, false));
+        assertEquals(1, factory.spinWakeups());
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(5, factory.spins());
+
+        // Pending tasks never let it block, and start it over as well.
+        assertEquals(0, strategy.calculateStrategy(() -> 0, true));
+        assertEquals(SelectStrategy.CONTINUE, strategy.calculateStrategy(() -> 0, false));
+        assertEquals(6, factory.spins());
+        assertEquals(1, factory.blocks());
+    }
+
+    @Test
+    public void blocksRightAwayWithoutIterations() throws Exception {
+        SelectStrategy strategy = new SpinThenBlockSelectStrategyFactory(0, 0).newSelectStrategy();
+        assertEquals(SelectStrategy.SELECT, strategy.calculateStrategy(() -> {
+            throw new AssertionError("Must not poll");
+        }, false));
+    }
+
+    @Test
+    public void rejectsNegativeIterations() {
+        assertThrows(IllegalArgumentException.class, () -> new SpinThenBlockSelectStrategyFactory(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SpinThenBlockSelectStrategyFactory(0, -1));
+    }
+
+    @Test
+    @Timeout(10)
+    public void runsTasksWithNioHandler() throws Exception {
+        SpinThenBlockSelectStrategyFactory factory = new SpinThenBlockSelectStrategyFactory(100, 10);
+        EventLoopGroup group = new MultithreadEventLoopGroup(1,
+                NioHandler.newFactory(SelectorProvider.provider(), factory));
+        try {
+            EventLoop loop = group.next();
+            for (int i = 0; i < 10; i++) {
+                loop.submit(() -> { }).asStage().sync();
+                Thread.sleep(10);
+            }
+            assertEquals(Integer.valueOf(1), loop.schedule(() -> 1, 20, TimeUnit.MILLISECONDS).asStage().get());
+            assertTrue(factory.spins() > 0);
+            assertTrue(factory.yields() > 0);
+            assertTrue(factory.blocks() > 0);
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+}
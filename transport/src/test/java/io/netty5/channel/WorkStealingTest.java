@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Netty Project
+ *
+ * The Netty Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package io.netty5.channel;
+
+import io.netty5.channel.local.LocalHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingTest {
+
+    @Test
+    @Timeout(10)
+    public void idleLoopStealsFromBusyLoop() throws Exception {
+        MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, LocalHandler.newFactory());
+        CountDownLatch unblock = new CountDownLatch(1);
+        try {
+            SingleThreadEventLoop busy = (SingleThreadEventLoop) group.next();
+            SingleThreadEventLoop idle = (SingleThreadEventLoop) group.next();
+            idle.submit(() -> { }).asStage().sync();
+
+            CountDownLatch blocked = new CountDownLatch(1);
+            busy.execute(() -> {
+                blocked.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            blocked.await();
+
+            int tasks = 100;
+            CountDownLatch done = new CountDownLatch(tasks);
+            List<Boolean> ranOnIdleLoop = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                busy.executeStealable(() -> {
+                    ranOnIdleLoop.add(idle.inEventLoop());
+                    done.countDown();
+                });
+            }
+            // All tasks complete while the loop they were given to is still blocked.
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(tasks, ranOnIdleLoop.size());
+            assertTrue(ranOnIdleLoop.stream().allMatch(Boolean::booleanValue));
+        } finally {
+            unblock.countDown();
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void loopsOnlyStealOnceStealableTasksAreUsed() throws Exception {
+        MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, LocalHandler.newFactory());
+        try {
+            SingleThreadEventLoop first = (SingleThreadEventLoop) group.next();
+            SingleThreadEventLoop second = (SingleThreadEventLoop) group.next();
+            first.submit(() -> { }).asStage().sync();
+            second.submit(() -> { }).asStage().sync();
+            assertFalse(first.isStealing());
+            assertFalse(second.isStealing());
+
+            CountDownLatch done = new CountDownLatch(1);
+            first.executeStealable(done::countDown);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(first.isStealing());
+            assertTrue(second.isStealing());
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void stealableTasksRunOnOwnLoop() throws Exception {
+        MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, LocalHandler.newFactory());
+        try {
+            SingleThreadEventLoop loop = (SingleThreadEventLoop) group.next();
+            loop.submit(() -> { }).asStage().sync();
+            CountDownLatch done = new CountDownLatch(20);
+            for (int i = 0; i < 10; i++) {
+                group.executeStealable(done::countDown);
+                loop.executeStealable(done::countDown);
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).asStage().sync();
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void stealableTasksAreRunOrRejectedWhileShuttingDown() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            MultithreadEventLoopGroup group = new MultithreadEventLoopGroup(2, LocalHandler.newFactory());
+            SingleThreadEventLoop loop = (SingleThreadEventLoop) group.next();
+            loop.submit(() -> { }).asStage().sync();
+            AtomicInteger ran = new AtomicInteger();
+            int submitted = 0;
+            int rejected = 0;
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+            while (!loop.isShutdown()) {
+                submitted++;
+                try {
+                    loop.executeStealable(ran::incrementAndGet);
+                } catch (RejectedExecutionException e) {
+                    rejected++;
+                }
+            }
+            group.terminationFuture().asStage().sync();
+            // The last task may have been given to execute(Runnable) while the task queue was drained for the last
+            // time, which can not remove it again to reject it. Every other task must be run or rejected.
+            int handled = ran.get() + rejected;
+            assertTrue(handled == submitted || handled == submitted - 1, handled + " of " + submitted);
+        }
+    }
+}
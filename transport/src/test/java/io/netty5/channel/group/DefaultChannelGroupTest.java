@@ -16,17 +16,29 @@
 package io.netty5.channel.group;
 
 import io.netty5.bootstrap.ServerBootstrap;
+import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelHandler;
 import io.netty5.channel.ChannelHandlerContext;
+import io.netty5.channel.DefaultChannelId;
 import io.netty5.channel.EventLoopGroup;
 import io.netty5.channel.MultithreadEventLoopGroup;
+import io.netty5.channel.embedded.EmbeddedChannel;
 import io.netty5.channel.nio.NioHandler;
 import io.netty5.channel.socket.nio.NioServerSocketChannel;
 import io.netty5.util.concurrent.FutureCompletionStage;
 import io.netty5.util.concurrent.GlobalEventExecutor;
+import io.netty5.util.concurrent.ImmediateEventExecutor;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class DefaultChannelGroupTest {
 
     // Test for #1183
@@ -59,4 +71,28 @@ public class DefaultChannelGroupTest {
         bossGroup.terminationFuture().asStage().sync();
         workerGroup.terminationFuture().asStage().sync();
     }
+
+    @Test
+    public void testBroadcastSharesReadOnlyPayload() throws Exception {
+        ChannelGroup group = new DefaultChannelGroup(ImmediateEventExecutor.INSTANCE);
+        EmbeddedChannel[] channels = new EmbeddedChannel[3];
+        for (int i = 0; i < channels.length; i++) {
+            channels[i] = new EmbeddedChannel(DefaultChannelId.newInstance());
+            group.add(channels[i]);
+        }
+        Buffer message = BufferAllocator.onHeapUnpooled().copyOf("broadcast", StandardCharsets.US_ASCII);
+        ChannelGroupFuture future = group.broadcast(message);
+        assertFalse(message.isAccessible());
+
+        for (EmbeddedChannel channel : channels) {
+            channel.runPendingTasks();
+            try (Buffer written = channel.readOutbound()) {
+                assertTrue(written.readOnly());
+                assertEquals("broadcast", written.toString(StandardCharsets.US_ASCII));
+            }
+            assertNull(channel.readOutbound());
+        }
+        assertTrue(future.asStage().sync().isSuccess());
+        group.close().asStage().sync();
+    }
 }